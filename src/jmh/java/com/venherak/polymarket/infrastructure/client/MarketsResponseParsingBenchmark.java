@@ -0,0 +1,58 @@
+package com.venherak.polymarket.infrastructure.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venherak.polymarket.domain.model.MarketsPageInfo;
+import com.venherak.polymarket.domain.model.MarketsResponse;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookJsonReader;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketDocumentJsonReader;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Deserialization of one full {@code /markets} page (500 markets): data binding of the whole
+ * {@link MarketsResponse} versus the streaming parser used by {@link PolymarketApiClient#streamMarkets},
+ * and the direct read into documents used by {@link PolymarketApiClient#streamMarketDocuments}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class MarketsResponseParsingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PolymarketApiClient apiClient;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = MarketFixtures.objectMapper();
+        apiClient = new PolymarketApiClient(new RestTemplate(), objectMapper,
+                new MarketDocumentJsonReader(new MarketMapperImpl()), new OrderBookJsonReader(), "http://localhost");
+        page = MarketFixtures.fullPageJson();
+    }
+
+    @Benchmark
+    public MarketsResponse bindMarketsResponse() throws IOException {
+        return objectMapper.readValue(page, MarketsResponse.class);
+    }
+
+    @Benchmark
+    public MarketsPageInfo streamMarkets(Blackhole blackhole) throws IOException {
+        return apiClient.parseMarketsPage(new ByteArrayInputStream(page), blackhole::consume);
+    }
+
+    @Benchmark
+    public MarketsPageInfo streamMarketDocuments(Blackhole blackhole) throws IOException {
+        return apiClient.parseMarketDocumentsPage(new ByteArrayInputStream(page), MappingBatch.now(), blackhole::consume);
+    }
+}
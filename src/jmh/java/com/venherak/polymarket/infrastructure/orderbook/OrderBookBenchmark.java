@@ -0,0 +1,157 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.fixtures.OrderBookFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order book throughput over a sequence of {@code /book} responses: reading a response into the
+ * reusable update, replacing a tick-indexed book with it, and the same replacement into a pair of
+ * {@link TreeMap}s as a baseline; then best price, depth and snapshot reads on the current book.
+ * By default the responses are 10 successive versions of 200 synthetic books; set
+ * {@code recordedBooks} to a file saved from the real API ({@code POST /books} response or one
+ * {@code GET /book} response per line) to replay recorded books instead, e.g.
+ * {@code ./gradlew jmhJar && java -jar build/libs/*-jmh.jar OrderBookBenchmark -p recordedBooks=books.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBookBenchmark {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Param("")
+    public String recordedBooks;
+
+    private byte[][] responses;
+    private OrderBookUpdate[] updates;
+    private OrderBook[] books;
+    private TreeMap<Double, Double>[] treeBids;
+    private TreeMap<Double, Double>[] treeAsks;
+    private double[] probePrices;
+    private OrderBookJsonReader reader;
+    private OrderBookUpdate scratch;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        List<byte[]> recorded = recordedBooks.isEmpty()
+                ? OrderBookFixtures.books(MarketFixtures.DEFAULT_SEED, 200, 10)
+                : OrderBookFixtures.recordedBooks(Path.of(recordedBooks));
+        reader = new OrderBookJsonReader();
+        scratch = new OrderBookUpdate();
+        responses = recorded.toArray(new byte[0][]);
+        updates = new OrderBookUpdate[responses.length];
+        books = new OrderBook[responses.length];
+        treeBids = new TreeMap[responses.length];
+        treeAsks = new TreeMap[responses.length];
+        probePrices = new double[responses.length];
+
+        // Versions of one token share its book, as they would in the service
+        Map<String, Integer> firstIndex = new HashMap<>();
+        for (int i = 0; i < responses.length; i++) {
+            updates[i] = new OrderBookUpdate();
+            read(responses[i], updates[i]);
+            String tokenId = updates[i].getAssetId();
+            Integer first = firstIndex.putIfAbsent(tokenId, i);
+            if (first == null) {
+                double tickSize = Double.isNaN(updates[i].getTickSize()) ? 0.01 : updates[i].getTickSize();
+                books[i] = new OrderBook(tokenId, tickSize);
+                treeBids[i] = new TreeMap<>(Comparator.reverseOrder());
+                treeAsks[i] = new TreeMap<>();
+            } else {
+                books[i] = books[first];
+                treeBids[i] = treeBids[first];
+                treeAsks[i] = treeAsks[first];
+            }
+            books[i].apply(updates[i]);
+            probePrices[i] = updates[i].getBidCount() > 0 ? updates[i].getBidPrice(0) : 0.5;
+        }
+    }
+
+    @Benchmark
+    public int parse() throws IOException {
+        read(responses[advance()], scratch);
+        return scratch.getBidCount() + scratch.getAskCount();
+    }
+
+    @Benchmark
+    public int apply() {
+        int i = advance();
+        return books[i].apply(updates[i]);
+    }
+
+    @Benchmark
+    public double parseAndApply() throws IOException {
+        int i = advance();
+        read(responses[i], scratch);
+        books[i].apply(scratch);
+        return books[i].bestBid();
+    }
+
+    @Benchmark
+    public double applyTreeMap() {
+        int i = advance();
+        OrderBookUpdate update = updates[i];
+        TreeMap<Double, Double> bids = treeBids[i];
+        TreeMap<Double, Double> asks = treeAsks[i];
+        bids.clear();
+        asks.clear();
+        for (int level = 0; level < update.getBidCount(); level++) {
+            bids.put(update.getBidPrice(level), update.getBidSize(level));
+        }
+        for (int level = 0; level < update.getAskCount(); level++) {
+            asks.put(update.getAskPrice(level), update.getAskSize(level));
+        }
+        return bids.isEmpty() ? Double.NaN : bids.firstKey();
+    }
+
+    @Benchmark
+    public double bestBidAndAsk() {
+        OrderBook book = books[advance()];
+        return book.bestBid() + book.bestAsk();
+    }
+
+    @Benchmark
+    public double depthAtPrice() {
+        int i = advance();
+        return books[i].depthAt(BookSide.BID, probePrices[i]);
+    }
+
+    @Benchmark
+    public OrderBookSnapshot snapshot() {
+        return books[advance()].snapshot();
+    }
+
+    private int advance() {
+        int i = next;
+        next = i + 1 == responses.length ? 0 : i + 1;
+        return i;
+    }
+
+    private void read(byte[] response, OrderBookUpdate update) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            parser.nextToken();
+            reader.read(parser, update);
+        }
+    }
+}
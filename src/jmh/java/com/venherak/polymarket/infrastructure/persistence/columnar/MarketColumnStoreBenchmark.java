@@ -0,0 +1,120 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentRepository;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentScanner;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Range queries over 100,000 markets answered by the column store, by the sorted indexes of the
+ * in-memory repository and by a plain filter over the documents. {@code reopen} is the restart
+ * cost of the column store: mapping its files and copying them into the scan arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketColumnStoreBenchmark {
+
+    private static final int MARKETS = 100_000;
+
+    private Path directory;
+    private MarketColumnStore store;
+    private InMemoryMarketDocumentRepository repository;
+    private List<MarketDocument> documents;
+
+    @Setup
+    public void setUp() throws IOException {
+        documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, MARKETS), MappingBatch.now());
+        repository = new InMemoryMarketDocumentRepository();
+        repository.saveAll(documents);
+
+        directory = Files.createTempDirectory("column-store-benchmark");
+        store = open();
+        store.rebuild();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> tokenPriceColumns() {
+        return store.findByTokensPriceGreaterThan(0.9);
+    }
+
+    @Benchmark
+    public List<MarketDocument> tokenPriceIndex() {
+        return repository.findByTokensPriceGreaterThan(0.9);
+    }
+
+    @Benchmark
+    public List<String> tokenPriceFilter() {
+        return documents.stream()
+                .filter(d -> d.getTokens().stream().anyMatch(t -> t.getPrice() > 0.9))
+                .map(MarketDocument::getId)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> multiplierBetweenColumns() {
+        return store.findByRewardsInGameMultiplierBetween(1.0, 2.0);
+    }
+
+    @Benchmark
+    public List<MarketDocument> multiplierBetweenIndex() {
+        return repository.findByRewardsInGameMultiplierBetween(1.0, 2.0);
+    }
+
+    @Benchmark
+    public List<String> minSizeColumns() {
+        return store.findByRewardsMinSizeGreaterThan(100);
+    }
+
+    @Benchmark
+    public List<MarketDocument> minSizeIndex() {
+        return repository.findByRewardsMinSizeGreaterThan(100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int reopen() {
+        MarketColumnStore reopened = open();
+        try {
+            return reopened.size();
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private MarketColumnStore open() {
+        MarketColumnStore columnStore = new MarketColumnStore(new InMemoryMarketDocumentScanner(repository, 1_000),
+                MarketFixtures.objectMapper(), directory, true);
+        columnStore.open();
+        return columnStore;
+    }
+}
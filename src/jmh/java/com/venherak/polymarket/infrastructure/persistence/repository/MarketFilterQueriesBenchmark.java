@@ -0,0 +1,129 @@
+package com.venherak.polymarket.infrastructure.persistence.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boolean and exact-match finders over 100,000 markets, as the criteria queries the repository
+ * derived from the method names before ({@code derived}) and as the filter queries of
+ * {@link MarketFilterQueries} ({@code filter}). Each search counts all matches and fetches
+ * the first page, like the repository does before loading the rest.
+ * <p>
+ * Needs a running Elasticsearch node, {@code localhost:9200} unless {@code ELASTICSEARCH_HOST}
+ * is set; the markets go into a temporary index that is deleted afterwards. Run with
+ * {@code gradle jmh -PjmhIncludes=MarketFilterQueriesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketFilterQueriesBenchmark {
+
+    private static final int MARKETS = 100_000;
+    private static final int BATCH = 5_000;
+    private static final int PAGE_SIZE = 100;
+    private static final String TAG = "Sports";
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("market-filter-queries-benchmark");
+
+    @Param({"active", "activeAndNotClosed", "winningToken", "tag"})
+    public String finder;
+
+    private ElasticsearchClient client;
+    private ElasticsearchTemplate operations;
+    private Query derived;
+    private Query filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getenv().getOrDefault("ELASTICSEARCH_HOST", "localhost:9200");
+        client = ElasticsearchClients.createImperative(ClientConfiguration.create(host));
+        operations = new ElasticsearchTemplate(client);
+
+        IndexOperations indexOps = operations.indexOps(INDEX);
+        if (indexOps.exists()) {
+            indexOps.delete();
+        }
+        indexOps.create();
+        indexOps.putMapping(indexOps.createMapping(MarketDocument.class));
+        List<MarketDocument> documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, MARKETS), MappingBatch.now());
+        for (int from = 0; from < documents.size(); from += BATCH) {
+            operations.save(documents.subList(from, Math.min(from + BATCH, documents.size())), INDEX);
+        }
+        indexOps.refresh();
+
+        switch (finder) {
+            case "active" -> {
+                derived = criteria(Criteria.where("active").is(true));
+                filter = string(MarketFilterQueries.ACTIVE);
+            }
+            case "activeAndNotClosed" -> {
+                derived = criteria(Criteria.where("active").is(true).and("closed").is(false));
+                filter = string(MarketFilterQueries.ACTIVE_AND_NOT_CLOSED);
+            }
+            case "winningToken" -> {
+                derived = criteria(Criteria.where("tokens.winner").is(true));
+                filter = string(MarketFilterQueries.WINNING_TOKEN);
+            }
+            case "tag" -> {
+                derived = criteria(Criteria.where("tags").contains(TAG));
+                filter = string(MarketFilterQueries.TAG.replace("?0", TAG));
+            }
+            default -> throw new IllegalArgumentException("Unknown finder: " + finder);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        operations.indexOps(INDEX).delete();
+        client._transport().close();
+    }
+
+    @Benchmark
+    public long derived() {
+        return operations.search(derived, MarketDocument.class, INDEX).getTotalHits();
+    }
+
+    @Benchmark
+    public long filter() {
+        return operations.search(filter, MarketDocument.class, INDEX).getTotalHits();
+    }
+
+    private static Query criteria(Criteria criteria) {
+        CriteriaQuery query = new CriteriaQuery(criteria, PageRequest.of(0, PAGE_SIZE));
+        query.setTrackTotalHits(true);
+        return query;
+    }
+
+    private static Query string(String source) {
+        StringQuery query = new StringQuery(source, PageRequest.of(0, PAGE_SIZE));
+        query.setTrackTotalHits(true);
+        return query;
+    }
+}
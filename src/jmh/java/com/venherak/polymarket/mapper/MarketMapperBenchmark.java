@@ -0,0 +1,80 @@
+package com.venherak.polymarket.mapper;
+
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Mapping cost of one full API page (500 markets) in both directions, plus the per-field
+ * helpers that run for every market. {@code toDocumentsBatch} is the sync path, {@code toDocuments}
+ * the per-document path; {@code parseUncached} is the date parsing cost without the parse cache.
+ * Run with the gc profiler (configured in build.gradle) to see allocated bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class MarketMapperBenchmark {
+
+    private MarketMapper mapper;
+    private List<Market> markets;
+    private List<MarketDocument> documents;
+    private String[] dates;
+
+    @Setup
+    public void setUp() {
+        mapper = new MarketMapperImpl();
+        markets = MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, MarketFixtures.PAGE_SIZE);
+        documents = mapper.toDocuments(markets);
+        dates = markets.stream().map(Market::getEndDateIso).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<MarketDocument> toDocuments() {
+        return mapper.toDocuments(markets);
+    }
+
+    @Benchmark
+    public List<MarketDocument> toDocumentsBatch() {
+        return mapper.toDocuments(markets, MappingBatch.now());
+    }
+
+    @Benchmark
+    public List<Market> toModels() {
+        return mapper.toModels(documents);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MarketFixtures.PAGE_SIZE)
+    public void stringToOffsetDateTime(Blackhole blackhole) {
+        for (String date : dates) {
+            OffsetDateTime parsed = mapper.stringToOffsetDateTime(date);
+            blackhole.consume(parsed);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MarketFixtures.PAGE_SIZE)
+    public void parseUncached(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(OffsetDateTime.parse(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MarketFixtures.PAGE_SIZE)
+    public void generateDocumentId(Blackhole blackhole) {
+        for (Market market : markets) {
+            blackhole.consume(mapper.generateDocumentId(market));
+        }
+    }
+}
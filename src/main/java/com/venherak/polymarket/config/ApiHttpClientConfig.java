@@ -0,0 +1,108 @@
+package com.venherak.polymarket.config;
+
+import com.venherak.polymarket.infrastructure.client.http.ApiHttpMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+/**
+ * HTTP transport configuration for the Polymarket CLOB API.
+ * By default requests go through a pooled Apache HttpClient with keep-alive and
+ * transparent gzip/brotli decoding. With {@code polymarket.api.http.http2=true}
+ * the JDK HttpClient is used instead, which negotiates HTTP/2 and multiplexes
+ * requests over a single connection; pool settings do not apply to it.
+ */
+@Configuration
+public class ApiHttpClientConfig {
+
+    private static final Logger logger = Logger.getLogger(ApiHttpClientConfig.class.getName());
+
+    @Value("${polymarket.api.http.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${polymarket.api.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${polymarket.api.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${polymarket.api.http.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${polymarket.api.http.compression:true}")
+    private boolean compression;
+
+    @Value("${polymarket.api.http.http2:false}")
+    private boolean http2;
+
+    /**
+     * Creates the request factory used by the API RestTemplate.
+     *
+     * @param apiHttpMetrics metrics for connection reuse and time to first byte
+     * @return request factory for the configured transport
+     */
+    @Bean
+    public ClientHttpRequestFactory polymarketApiRequestFactory(ApiHttpMetrics apiHttpMetrics) {
+        if (http2) {
+            logger.info("Using JDK HTTP/2 transport for the Polymarket API");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .build();
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(readTimeout);
+            return requestFactory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setConnectionFactory(apiHttpMetrics.countingConnectionFactory())
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+        apiHttpMetrics.bindConnectionPool(connectionManager);
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictIdleConnections(TimeValue.of(keepAlive));
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+
+        CloseableHttpClient httpClient = builder.build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Whether the configured transport needs decompression done by the RestTemplate.
+     * The Apache client decodes gzip and brotli itself.
+     *
+     * @return true if a decompressing interceptor is required
+     */
+    boolean requiresResponseDecompression() {
+        return http2 && compression;
+    }
+}
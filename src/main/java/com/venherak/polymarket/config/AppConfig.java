@@ -1,7 +1,11 @@
 package com.venherak.polymarket.config;
 
+import com.venherak.polymarket.infrastructure.client.RateLimitingInterceptor;
+import com.venherak.polymarket.infrastructure.client.http.ApiHttpMetrics;
+import com.venherak.polymarket.infrastructure.client.http.DecompressingResponseInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -12,11 +16,28 @@ public class AppConfig {
 
     /**
      * Creates a RestTemplate bean for making HTTP requests.
+     * Uses the transport from {@link ApiHttpClientConfig}, passes every request through the
+     * shared rate limiter and records API transport metrics.
      * 
+     * @param polymarketApiRequestFactory pooled or HTTP/2 request factory
+     * @param apiHttpClientConfig transport configuration
+     * @param apiHttpMetrics transport metrics
+     * @param rateLimitingInterceptor adaptive rate limiting
      * @return RestTemplate instance
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            ClientHttpRequestFactory polymarketApiRequestFactory,
+            ApiHttpClientConfig apiHttpClientConfig,
+            ApiHttpMetrics apiHttpMetrics,
+            RateLimitingInterceptor rateLimitingInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(polymarketApiRequestFactory);
+        // Rate limiting goes first so waiting for a permit is not counted as time to first byte
+        restTemplate.getInterceptors().add(rateLimitingInterceptor);
+        restTemplate.getInterceptors().add(apiHttpMetrics.timeToFirstByteInterceptor());
+        if (apiHttpClientConfig.requiresResponseDecompression()) {
+            restTemplate.getInterceptors().add(new DecompressingResponseInterceptor());
+        }
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.venherak.polymarket.controller;
+
+import com.venherak.polymarket.domain.model.MarketPage;
+import com.venherak.polymarket.domain.model.MarketSearchResult;
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.domain.model.MarketSummary;
+import com.venherak.polymarket.domain.model.TokenQuote;
+import com.venherak.polymarket.exception.MarketNotFoundException;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketCriteria;
+import com.venherak.polymarket.service.PolymarketService;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * REST endpoints for reading stored markets.
+ */
+@RestController
+@RequestMapping("/api/markets")
+public class MarketController {
+
+    private final PolymarketService polymarketService;
+
+    public MarketController(PolymarketService polymarketService) {
+        this.polymarketService = polymarketService;
+    }
+
+    /**
+     * Returns one page of all markets. Pass the returned {@code nextCursor} to get the next page;
+     * it is null on the last page.
+     *
+     * @param cursor cursor of the page, omitted for the first page
+     * @param size   maximum number of markets, at most 1000
+     * @return the page
+     */
+    @GetMapping
+    public MarketPage getMarkets(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        if (size < 1 || size > MarketCriteria.MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MarketCriteria.MAX_PAGE_SIZE);
+        }
+        try {
+            return polymarketService.getMarketsPage(cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Searches markets by any combination of filters; omitted filters match all markets.
+     *
+     * @param active        required active flag
+     * @param closed        required closed flag
+     * @param archived      required archived flag
+     * @param rewards       whether markets must have rewards
+     * @param tag           tags of which a market needs at least one
+     * @param rewardEpoch   required reward epoch
+     * @param minMultiplier minimum reward multiplier
+     * @param maxMultiplier maximum reward multiplier
+     * @param minPrice      minimum price of a token
+     * @param maxPrice      maximum price of the same token
+     * @param endAfter      earliest end date, inclusive
+     * @param endBefore     latest end date, exclusive
+     * @param sort          field to sort by
+     * @param direction     sort direction
+     * @param page          zero-based page number
+     * @param size          page size, at most 1000
+     * @return the page of matching markets with the total number of matches
+     */
+    @GetMapping("/search")
+    public MarketSearchResult searchMarkets(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Boolean closed,
+            @RequestParam(required = false) Boolean archived,
+            @RequestParam(required = false) Boolean rewards,
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(required = false) Integer rewardEpoch,
+            @RequestParam(required = false) Double minMultiplier,
+            @RequestParam(required = false) Double maxMultiplier,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endBefore,
+            @RequestParam(required = false) MarketCriteria.SortField sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            MarketCriteria criteria = MarketCriteria.builder()
+                    .active(active)
+                    .closed(closed)
+                    .archived(archived)
+                    .hasRewards(rewards)
+                    .anyTags(tag)
+                    .rewardEpoch(rewardEpoch)
+                    .inGameMultiplier(minMultiplier, maxMultiplier)
+                    .tokenPrice(minPrice, maxPrice)
+                    .endDate(endAfter, endBefore)
+                    .sortBy(sort, direction)
+                    .page(page, size)
+                    .build();
+            return polymarketService.searchMarkets(criteria);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns status counts, price and multiplier histograms and counts per tag and reward epoch,
+     * all computed in one aggregation request and cached for a few seconds.
+     *
+     * @param fresh whether to bypass the cache
+     * @return the statistics
+     */
+    @GetMapping("/stats")
+    public MarketStats getMarketStats(@RequestParam(defaultValue = "false") boolean fresh) {
+        return polymarketService.getMarketStats(fresh);
+    }
+
+    /**
+     * Returns compact summaries of markets: identifiers, status flags and token prices.
+     * Only these fields are loaded from the index.
+     *
+     * @param tag tag the markets must have; without it, all active and open markets are returned
+     * @return the summaries
+     */
+    @GetMapping("/summaries")
+    public List<MarketSummary> getMarketSummaries(@RequestParam(required = false) String tag) {
+        return polymarketService.getMarketSummaries(tag);
+    }
+
+    /**
+     * Returns the token prices of one market.
+     *
+     * @param conditionId condition ID of the market
+     * @return the token quotes
+     */
+    @GetMapping("/{conditionId}/quotes")
+    public List<TokenQuote> getTokenQuotes(@PathVariable String conditionId) {
+        try {
+            return polymarketService.getTokenQuotes(conditionId);
+        } catch (MarketNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+}
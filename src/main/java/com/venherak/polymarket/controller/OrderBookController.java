@@ -0,0 +1,105 @@
+package com.venherak.polymarket.controller;
+
+import com.venherak.polymarket.domain.model.OrderBookDepth;
+import com.venherak.polymarket.exception.MarketNotFoundException;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookSnapshot;
+import com.venherak.polymarket.service.orderbook.OrderBookService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+/**
+ * REST endpoints for the order books of tracked outcome tokens.
+ */
+@RestController
+@RequestMapping("/api/orderbooks")
+public class OrderBookController {
+
+    private static final int MAX_DEPTH = 1_000;
+
+    private final OrderBookService orderBookService;
+
+    public OrderBookController(OrderBookService orderBookService) {
+        this.orderBookService = orderBookService;
+    }
+
+    /**
+     * Returns the tokens whose books are kept.
+     *
+     * @return token IDs
+     */
+    @GetMapping
+    public Set<String> getTrackedTokens() {
+        return orderBookService.getTrackedTokenIds();
+    }
+
+    /**
+     * Returns the last fetched book of a tracked token.
+     *
+     * @param tokenId token ID
+     * @param depth   maximum number of levels per side, at most 1000
+     * @return the top levels, best price first
+     */
+    @GetMapping("/{tokenId}")
+    public OrderBookDepth getBook(@PathVariable String tokenId, @RequestParam(defaultValue = "10") int depth) {
+        checkDepth(depth);
+        return orderBookService.getSnapshot(tokenId)
+                .map(snapshot -> snapshot.toDepth(depth))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "No order book fetched for token ID: " + tokenId));
+    }
+
+    /**
+     * Starts keeping the book of a token and fetches it right away.
+     *
+     * @param tokenId token ID
+     * @param depth   maximum number of levels per side in the response, at most 1000
+     * @return the top levels of the fetched book
+     */
+    @PutMapping("/{tokenId}")
+    public OrderBookDepth track(@PathVariable String tokenId, @RequestParam(defaultValue = "10") int depth) {
+        checkDepth(depth);
+        try {
+            orderBookService.track(tokenId);
+        } catch (MarketNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        try {
+            OrderBookSnapshot snapshot = orderBookService.refresh(tokenId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Token is not tracked: " + tokenId));
+            return snapshot.toDepth(depth);
+        } catch (RestClientException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                    "Could not fetch order book of token " + tokenId + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops keeping the book of a token.
+     *
+     * @param tokenId token ID
+     */
+    @DeleteMapping("/{tokenId}")
+    public void untrack(@PathVariable String tokenId) {
+        if (!orderBookService.untrack(tokenId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Token is not tracked: " + tokenId);
+        }
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "depth must be between 1 and " + MAX_DEPTH);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.venherak.polymarket.controller;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.service.history.PriceHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * REST endpoints for the price history of outcome tokens.
+ */
+@RestController
+@RequestMapping("/api/prices")
+public class PriceHistoryController {
+
+    private static final int MAX_LIMIT = 10_000;
+    private static final Duration DEFAULT_OBSERVATION_RANGE = Duration.ofDays(1);
+    private static final Duration DEFAULT_BAR_RANGE = Duration.ofDays(30);
+
+    private final PriceHistoryService priceHistoryService;
+
+    public PriceHistoryController(PriceHistoryService priceHistoryService) {
+        this.priceHistoryService = priceHistoryService;
+    }
+
+    /**
+     * Returns the prices of a token observed by the syncs, oldest first.
+     *
+     * @param tokenId token ID
+     * @param from    start of the range, inclusive; defaults to one day before {@code to}
+     * @param to      end of the range, exclusive; defaults to now
+     * @param limit   maximum number of observations, at most 10000
+     * @return the observations
+     */
+    @GetMapping("/{tokenId}")
+    public List<PriceObservation> getObservations(
+            @PathVariable String tokenId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        checkLimit(limit);
+        Instant end = to != null ? to.toInstant() : Instant.now();
+        Instant start = from != null ? from.toInstant() : end.minus(DEFAULT_OBSERVATION_RANGE);
+        try {
+            return priceHistoryService.getObservations(tokenId, start, end, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the OHLC bars of a token, oldest first.
+     *
+     * @param tokenId  token ID
+     * @param interval bar width, {@code 1m} or {@code 1h}
+     * @param from     start of the range, inclusive; defaults to 30 days before {@code to}
+     * @param to       end of the range, exclusive; defaults to now
+     * @param limit    maximum number of bars, at most 10000
+     * @return the bars
+     */
+    @GetMapping("/{tokenId}/bars")
+    public List<PriceBar> getBars(
+            @PathVariable String tokenId,
+            @RequestParam(defaultValue = "1h") String interval,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        checkLimit(limit);
+        Instant end = to != null ? to.toInstant() : Instant.now();
+        Instant start = from != null ? from.toInstant() : end.minus(DEFAULT_BAR_RANGE);
+        try {
+            return priceHistoryService.getBars(tokenId, BarInterval.fromCode(interval), start, end, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
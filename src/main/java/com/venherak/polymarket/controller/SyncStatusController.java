@@ -0,0 +1,32 @@
+package com.venherak.polymarket.controller;
+
+import com.venherak.polymarket.service.sync.MarketSyncScheduler;
+import com.venherak.polymarket.service.sync.SyncStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for the background market sync.
+ */
+@RestController
+@RequestMapping("/api/sync")
+public class SyncStatusController {
+
+    private final MarketSyncScheduler marketSyncScheduler;
+
+    public SyncStatusController(MarketSyncScheduler marketSyncScheduler) {
+        this.marketSyncScheduler = marketSyncScheduler;
+    }
+
+    /**
+     * Returns whether a sync is running, when the next one starts and the report of the last one,
+     * including its duration, page count and error count.
+     *
+     * @return scheduler status
+     */
+    @GetMapping("/status")
+    public SyncStatus getStatus() {
+        return marketSyncScheduler.getStatus();
+    }
+}
@@ -0,0 +1,55 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Width of an OHLC price bar.
+ */
+public enum BarInterval {
+
+    ONE_MINUTE("1m", Duration.ofMinutes(1)),
+
+    ONE_HOUR("1h", Duration.ofHours(1));
+
+    private final String code;
+    private final long millis;
+
+    BarInterval(String code, Duration duration) {
+        this.code = code;
+        this.millis = duration.toMillis();
+    }
+
+    /**
+     * Returns the start of the bar the given instant falls into; bars are aligned to the epoch.
+     *
+     * @param timestamp instant within the bar
+     * @return start of the bar
+     */
+    public Instant bucketStart(Instant timestamp) {
+        return Instant.ofEpochMilli(Math.floorDiv(timestamp.toEpochMilli(), millis) * millis);
+    }
+
+    @JsonValue
+    public String code() {
+        return code;
+    }
+
+    /**
+     * Parses an interval code such as {@code 1m} or {@code 1h}.
+     *
+     * @param code the code
+     * @return the interval
+     * @throws IllegalArgumentException if no interval has this code
+     */
+    public static BarInterval fromCode(String code) {
+        for (BarInterval interval : values()) {
+            if (interval.code.equals(code)) {
+                return interval;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bar interval: " + code + "; expected 1m or 1h");
+    }
+}
@@ -0,0 +1,12 @@
+package com.venherak.polymarket.domain.model;
+
+import java.util.List;
+
+/**
+ * A page of markets read from the index.
+ *
+ * @param markets    markets of this page
+ * @param nextCursor cursor of the next page, or null if this is the last page
+ */
+public record MarketPage(List<Market> markets, String nextCursor) {
+}
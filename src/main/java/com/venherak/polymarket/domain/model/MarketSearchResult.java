@@ -0,0 +1,14 @@
+package com.venherak.polymarket.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of markets matching a search.
+ *
+ * @param markets   markets of this page
+ * @param totalHits number of matching markets across all pages
+ * @param page      zero-based page number
+ * @param size      requested page size
+ */
+public record MarketSearchResult(List<Market> markets, long totalHits, int page, int size) {
+}
@@ -0,0 +1,46 @@
+package com.venherak.polymarket.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard statistics over all stored markets, computed in one pass.
+ *
+ * @param totalMarkets              number of markets
+ * @param activeMarkets             markets flagged active
+ * @param closedMarkets             markets flagged closed
+ * @param archivedMarkets           markets flagged archived
+ * @param activeOpenMarkets         active markets that are not closed
+ * @param marketsWithRewards        markets with a rewards program
+ * @param activeMarketsWithRewards  active markets with a rewards program
+ * @param tokenPriceHistogram       number of tokens per price bucket
+ * @param rewardMultiplierHistogram number of markets per in-game multiplier bucket
+ * @param marketsByTag              number of markets per tag, most frequent first
+ * @param marketsByRewardEpoch      number of markets per reward epoch, most frequent first
+ * @param computedAt                when the statistics were computed
+ */
+public record MarketStats(
+        long totalMarkets,
+        long activeMarkets,
+        long closedMarkets,
+        long archivedMarkets,
+        long activeOpenMarkets,
+        long marketsWithRewards,
+        long activeMarketsWithRewards,
+        List<HistogramBucket> tokenPriceHistogram,
+        List<HistogramBucket> rewardMultiplierHistogram,
+        Map<String, Long> marketsByTag,
+        Map<Integer, Long> marketsByRewardEpoch,
+        Instant computedAt) {
+
+    /**
+     * One bucket of a histogram, counting values in {@code [from, to)}.
+     *
+     * @param from  inclusive lower bound
+     * @param to    exclusive upper bound
+     * @param count number of values in the bucket
+     */
+    public record HistogramBucket(double from, double to, long count) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Read-only view of a market with the fields needed for listings and quoting: identifiers,
+ * status flags and token prices, but no description, images, fees or reward rates.
+ * Loaded from the index with only these fields in {@code _source}.
+ *
+ * @param conditionId      condition ID
+ * @param marketSlug       market slug
+ * @param question         market question
+ * @param endDateIso       end date in ISO-8601 format
+ * @param active           whether the market is active
+ * @param closed           whether the market is closed
+ * @param archived         whether the market is archived
+ * @param acceptingOrders  whether the order book accepts orders
+ * @param inGameMultiplier reward multiplier, or null for markets without rewards
+ * @param tokens           token quotes
+ */
+public record MarketSummary(
+        @JsonProperty("condition_id") String conditionId,
+        @JsonProperty("market_slug") String marketSlug,
+        @JsonProperty("question") String question,
+        @JsonProperty("end_date_iso") String endDateIso,
+        @JsonProperty("active") boolean active,
+        @JsonProperty("closed") boolean closed,
+        @JsonProperty("archived") boolean archived,
+        @JsonProperty("accepting_orders") boolean acceptingOrders,
+        @JsonProperty("in_game_multiplier") Double inGameMultiplier,
+        @JsonProperty("tokens") List<TokenQuote> tokens) {
+}
@@ -0,0 +1,10 @@
+package com.venherak.polymarket.domain.model;
+
+/**
+ * Pagination details of a markets page that was streamed rather than materialized.
+ *
+ * @param nextCursor cursor for the next page, may be null or empty on the last page
+ * @param count      number of markets handed to the consumer
+ */
+public record MarketsPageInfo(String nextCursor, int count) {
+}
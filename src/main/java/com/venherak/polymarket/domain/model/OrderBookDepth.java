@@ -0,0 +1,40 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The top levels of an outcome token's order book, best price first on both sides.
+ *
+ * @param tokenId   token ID
+ * @param tickSize  price increment of the market
+ * @param timestamp server time of the book, if known
+ * @param hash      book hash reported by the CLOB, if any
+ * @param bestBid   highest bid price, or null without bids
+ * @param bestAsk   lowest ask price, or null without asks
+ * @param bids      bid levels, highest price first
+ * @param asks      ask levels, lowest price first
+ */
+public record OrderBookDepth(
+        @JsonProperty("token_id") String tokenId,
+        @JsonProperty("tick_size") double tickSize,
+        @JsonProperty("timestamp") Instant timestamp,
+        @JsonProperty("hash") String hash,
+        @JsonProperty("best_bid") Double bestBid,
+        @JsonProperty("best_ask") Double bestAsk,
+        @JsonProperty("bids") List<Level> bids,
+        @JsonProperty("asks") List<Level> asks) {
+
+    /**
+     * Total size resting at one price.
+     *
+     * @param price level price
+     * @param size  resting size
+     */
+    public record Level(
+            @JsonProperty("price") double price,
+            @JsonProperty("size") double size) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Open, high, low and close price of a token within one interval.
+ *
+ * @param tokenId      token ID
+ * @param conditionId  condition ID of the market the token belongs to
+ * @param interval     width of the bar
+ * @param start        start of the interval
+ * @param open         first observed price
+ * @param high         highest observed price
+ * @param low          lowest observed price
+ * @param close        last observed price
+ * @param observations number of observations in the bar
+ */
+public record PriceBar(
+        @JsonProperty("token_id") String tokenId,
+        @JsonProperty("condition_id") String conditionId,
+        @JsonProperty("interval") BarInterval interval,
+        @JsonProperty("start") Instant start,
+        @JsonProperty("open") double open,
+        @JsonProperty("high") double high,
+        @JsonProperty("low") double low,
+        @JsonProperty("close") double close,
+        @JsonProperty("observations") long observations) {
+
+    /**
+     * Creates the bar of a single observation.
+     *
+     * @param observation the observation
+     * @param interval    width of the bar
+     * @return a bar where all four prices are the observed one
+     */
+    public static PriceBar of(PriceObservation observation, BarInterval interval) {
+        double price = observation.price();
+        return new PriceBar(observation.tokenId(), observation.conditionId(), interval,
+                interval.bucketStart(observation.timestamp()), price, price, price, price, 1);
+    }
+
+    /**
+     * Combines this bar with a later part of the same interval.
+     *
+     * @param later bar of observations made after those of this bar
+     * @return the combined bar
+     */
+    public PriceBar merge(PriceBar later) {
+        return new PriceBar(tokenId, conditionId, interval, start, open,
+                Math.max(high, later.high), Math.min(low, later.low), later.close, observations + later.observations);
+    }
+}
@@ -0,0 +1,20 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+/**
+ * Price of an outcome token as seen by one sync.
+ *
+ * @param tokenId     token ID
+ * @param conditionId condition ID of the market the token belongs to
+ * @param price       token price
+ * @param timestamp   when the price was fetched
+ */
+public record PriceObservation(
+        @JsonProperty("token_id") String tokenId,
+        @JsonProperty("condition_id") String conditionId,
+        @JsonProperty("price") double price,
+        @JsonProperty("timestamp") Instant timestamp) {
+}
@@ -0,0 +1,18 @@
+package com.venherak.polymarket.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Price and outcome of one market token, without the rest of the market.
+ *
+ * @param tokenId token ID
+ * @param outcome outcome the token pays out on
+ * @param price   last price
+ * @param winner  whether the outcome won
+ */
+public record TokenQuote(
+        @JsonProperty("token_id") String tokenId,
+        @JsonProperty("outcome") String outcome,
+        @JsonProperty("price") Double price,
+        @JsonProperty("winner") Boolean winner) {
+}
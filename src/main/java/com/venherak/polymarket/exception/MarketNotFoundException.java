@@ -20,4 +20,8 @@ public class MarketNotFoundException extends RuntimeException {
     public static MarketNotFoundException forMarketSlug(String marketSlug) {
         return new MarketNotFoundException("Market not found for slug: " + marketSlug);
     }
+    
+    public static MarketNotFoundException forTokenId(String tokenId) {
+        return new MarketNotFoundException("Market not found for token ID: " + tokenId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.venherak.polymarket.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Token bucket rate limiter with AIMD (additive increase, multiplicative decrease) rate control,
+ * shared by all Polymarket API calls.
+ * Every successful response raises the rate by a fixed step up to the maximum; a throttling
+ * response (HTTP 429 or 5xx) multiplies it by the decrease factor, and a {@code Retry-After}
+ * header pauses all requests until the given time has passed.
+ */
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final Logger logger = Logger.getLogger(AdaptiveRateLimiter.class.getName());
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double burst;
+    private final LongSupplier nanoTime;
+
+    private final Counter throttled;
+    private final Timer waitTime;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    @Autowired
+    public AdaptiveRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${polymarket.api.rate-limit.initial-rate:10}") double initialRate,
+            @Value("${polymarket.api.rate-limit.min-rate:0.5}") double minRate,
+            @Value("${polymarket.api.rate-limit.max-rate:50}") double maxRate,
+            @Value("${polymarket.api.rate-limit.increase-step:0.5}") double increaseStep,
+            @Value("${polymarket.api.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+            @Value("${polymarket.api.rate-limit.burst:5}") double burst) {
+        this(meterRegistry, initialRate, minRate, maxRate, increaseStep, decreaseFactor, burst, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(MeterRegistry meterRegistry, double initialRate, double minRate, double maxRate,
+                        double increaseStep, double decreaseFactor, double burst, LongSupplier nanoTime) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.tokens = burst;
+        this.lastRefillNanos = nanoTime.getAsLong();
+        this.pausedUntilNanos = lastRefillNanos;
+
+        this.throttled = Counter.builder("polymarket.api.ratelimit.throttled")
+                .description("Responses that signalled throttling (429/5xx)")
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("polymarket.api.ratelimit.wait")
+                .description("Time requests waited for a rate limiter permit")
+                .register(meterRegistry);
+        Gauge.builder("polymarket.api.ratelimit.rate", this, AdaptiveRateLimiter::getRate)
+                .description("Current permitted request rate per second")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until a request may be sent.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Records a response that was not throttled and raises the rate additively.
+     */
+    public synchronized void onSuccess() {
+        refill(nanoTime.getAsLong());
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * Records a throttling response and lowers the rate multiplicatively.
+     *
+     * @param retryAfter delay requested by the server, or null if none was given
+     */
+    public synchronized void onThrottle(Duration retryAfter) {
+        long now = nanoTime.getAsLong();
+        refill(now);
+        rate = Math.max(minRate, rate * decreaseFactor);
+        throttled.increment();
+
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+        }
+        logger.warning(String.format("Polymarket API throttled, rate lowered to %.2f req/s%s",
+                rate, retryAfter != null ? ", pausing for " + retryAfter.toMillis() + "ms" : ""));
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * Takes a permit and returns how long the caller must wait before using it.
+     * Tokens may go negative; the debt is what makes later callers queue up behind.
+     *
+     * @return wait time in nanoseconds
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        long start = Math.max(now, pausedUntilNanos);
+        refill(start);
+
+        tokens -= 1;
+        long debtNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+        return start - now + debtNanos;
+    }
+
+    private void refill(long at) {
+        if (at > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (at - lastRefillNanos) * rate / NANOS_PER_SECOND);
+            lastRefillNanos = at;
+        }
+    }
+}
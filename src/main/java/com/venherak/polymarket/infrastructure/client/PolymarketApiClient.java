@@ -1,11 +1,29 @@
 package com.venherak.polymarket.infrastructure.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.domain.model.MarketsPageInfo;
 import com.venherak.polymarket.domain.model.MarketsResponse;
+import com.venherak.polymarket.exception.ApiClientException;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookJsonReader;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookUpdate;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketDocumentJsonReader;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Client for communicating with the Polymarket API.
  * Handles HTTP requests and response parsing.
@@ -15,12 +33,21 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class PolymarketApiClient {
     
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final MarketDocumentJsonReader documentReader;
+    private final OrderBookJsonReader bookReader;
     private final String baseUrl;
 
     public PolymarketApiClient(
             RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            MarketDocumentJsonReader documentReader,
+            OrderBookJsonReader bookReader,
             @Value("${polymarket.api.base-url:https://clob.polymarket.com}") String baseUrl) {
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.documentReader = documentReader;
+        this.bookReader = bookReader;
         this.baseUrl = baseUrl;
     }
 
@@ -31,23 +58,137 @@ public class PolymarketApiClient {
      * @return MarketsResponse containing the list of markets and next cursor
      */
     public MarketsResponse getMarkets(String cursor) {
+        return restTemplate.getForObject(marketsUrl(cursor), MarketsResponse.class);
+    }
+    
+    /**
+     * Fetches a page of markets and parses it incrementally with the Jackson streaming parser.
+     * Each market is handed to the consumer as soon as its JSON object is complete, so the
+     * page is never held in memory as a whole.
+     * 
+     * @param cursor   Optional cursor for pagination (can be null for first page)
+     * @param consumer Callback receiving each market in response order
+     * @return the next cursor and the number of markets consumed
+     */
+    public MarketsPageInfo streamMarkets(String cursor, Consumer<Market> consumer) {
+        return streamPage(cursor, parser -> consumer.accept(objectMapper.readValue(parser, Market.class)));
+    }
+    
+    /**
+     * Fetches a page of markets and reads it straight into Elasticsearch documents, without
+     * building the {@link Market} model. This is the write path used by market sync.
+     * 
+     * @param cursor   Optional cursor for pagination (can be null for first page)
+     * @param batch    values shared by all documents of the page
+     * @param consumer Callback receiving each document in response order
+     * @return the next cursor and the number of documents consumed
+     */
+    public MarketsPageInfo streamMarketDocuments(String cursor, MappingBatch batch, Consumer<MarketDocument> consumer) {
+        return streamPage(cursor, parser -> consumer.accept(documentReader.read(parser, batch)));
+    }
+    
+    /**
+     * Fetches the first page of markets from the Polymarket API.
+     * 
+     * @return MarketsResponse containing the list of markets and next cursor
+     */
+    public MarketsResponse getMarkets() {
+        return getMarkets(null);
+    }
+    
+    /**
+     * Fetches the order book of one token and reads it into a reusable update.
+     * 
+     * @param tokenId token ID
+     * @param update  update receiving the book; reset first
+     */
+    public void fetchBook(String tokenId, OrderBookUpdate update) {
+        String url = UriComponentsBuilder.fromUriString(baseUrl + "/book")
+            .queryParam("token_id", tokenId)
+            .build().toUriString();
+        restTemplate.execute(
+            url,
+            HttpMethod.GET,
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+            response -> {
+                try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                    parser.nextToken();
+                    bookReader.read(parser, update);
+                }
+                return null;
+            });
+    }
+    
+    private String marketsUrl(String cursor) {
         UriComponentsBuilder builder = UriComponentsBuilder
-            .fromHttpUrl(baseUrl + "/markets");
+            .fromUriString(baseUrl + "/markets");
         
         if (cursor != null && !cursor.isEmpty()) {
             builder.queryParam("next_cursor", cursor);
         }
         
-        String url = builder.build().toUriString();
-        return restTemplate.getForObject(url, MarketsResponse.class);
+        return builder.build().toUriString();
+    }
+    
+    private MarketsPageInfo streamPage(String cursor, MarketReader marketReader) {
+        return restTemplate.execute(
+            marketsUrl(cursor),
+            HttpMethod.GET,
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+            response -> parsePage(response.getBody(), marketReader));
     }
     
     /**
-     * Fetches the first page of markets from the Polymarket API.
-     * 
-     * @return MarketsResponse containing the list of markets and next cursor
+     * Parses a {@code /markets} response body, passing each market to the consumer as soon as it is read.
+     * Package-private for benchmarks.
      */
-    public MarketsResponse getMarkets() {
-        return getMarkets(null);
+    MarketsPageInfo parseMarketsPage(InputStream body, Consumer<Market> consumer) throws IOException {
+        return parsePage(body, parser -> consumer.accept(objectMapper.readValue(parser, Market.class)));
+    }
+    
+    /**
+     * Parses a {@code /markets} response body into documents, passing each to the consumer as soon as it is read.
+     * Package-private for benchmarks.
+     */
+    MarketsPageInfo parseMarketDocumentsPage(InputStream body, MappingBatch batch, Consumer<MarketDocument> consumer) throws IOException {
+        return parsePage(body, parser -> consumer.accept(documentReader.read(parser, batch)));
+    }
+    
+    private MarketsPageInfo parsePage(InputStream body, MarketReader marketReader) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiClientException("Unexpected markets response: expected a JSON object");
+            }
+            
+            String nextCursor = null;
+            int count = 0;
+            
+            // Fields may come in any order; next_cursor is usually after the data array
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        marketReader.read(parser);
+                        count++;
+                    }
+                } else if ("next_cursor".equals(field)) {
+                    nextCursor = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            
+            return new MarketsPageInfo(nextCursor, count);
+        }
+    }
+    
+    /**
+     * Reads one market object from the parser and hands it on.
+     */
+    @FunctionalInterface
+    private interface MarketReader {
+        void read(JsonParser parser) throws IOException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.venherak.polymarket.infrastructure.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Routes every API request through the shared {@link AdaptiveRateLimiter} and feeds
+ * the response status and {@code Retry-After} header back into it.
+ */
+@Component
+public class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    public RateLimitingInterceptor(AdaptiveRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limiter");
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        HttpStatusCode status = response.getStatusCode();
+        if (status.value() == 429 || status.is5xxServerError()) {
+            rateLimiter.onThrottle(parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        } else {
+            rateLimiter.onSuccess();
+        }
+        return response;
+    }
+
+    /**
+     * Parses a Retry-After header given either as delay seconds or as an HTTP date.
+     *
+     * @param value header value, may be null
+     * @return the requested delay, or null if absent or malformed
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
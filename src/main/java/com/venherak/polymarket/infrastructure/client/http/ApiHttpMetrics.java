@@ -0,0 +1,100 @@
+package com.venherak.polymarket.infrastructure.client.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics for the HTTP transport used by the Polymarket API client.
+ * <ul>
+ *   <li>{@code polymarket.api.requests} - requests sent</li>
+ *   <li>{@code polymarket.api.connections.opened} - new TCP connections (pooled transport only)</li>
+ *   <li>{@code polymarket.api.connections.reuse.ratio} - share of requests served on an existing connection</li>
+ *   <li>{@code polymarket.api.ttfb} - time until the response status and headers are received</li>
+ * </ul>
+ */
+@Component
+public class ApiHttpMetrics {
+
+    private static final String POOL_NAME = "polymarket-api";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter requests;
+    private final Counter connectionsOpened;
+    private final Timer timeToFirstByte;
+
+    public ApiHttpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.requests = Counter.builder("polymarket.api.requests")
+                .description("Requests sent to the Polymarket API")
+                .register(meterRegistry);
+        this.connectionsOpened = Counter.builder("polymarket.api.connections.opened")
+                .description("New connections opened to the Polymarket API")
+                .register(meterRegistry);
+        this.timeToFirstByte = Timer.builder("polymarket.api.ttfb")
+                .description("Time until response headers are received from the Polymarket API")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("polymarket.api.connections.reuse.ratio", this, ApiHttpMetrics::connectionReuseRatio)
+                .description("Share of requests that reused a pooled connection")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Connection factory for the pooled transport that counts every new connection.
+     *
+     * @return counting connection factory
+     */
+    public HttpConnectionFactory<ManagedHttpClientConnection> countingConnectionFactory() {
+        return socket -> {
+            connectionsOpened.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+        };
+    }
+
+    /**
+     * Publishes leased, available and pending connection gauges for the pool.
+     *
+     * @param connectionManager the pooled connection manager
+     */
+    public void bindConnectionPool(PoolingHttpClientConnectionManager connectionManager) {
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+    }
+
+    /**
+     * Interceptor recording request count and time to first byte.
+     * RestTemplate hands back the response once status and headers are read,
+     * before the body is consumed, so the measured time is the TTFB.
+     *
+     * @return timing interceptor
+     */
+    public ClientHttpRequestInterceptor timeToFirstByteInterceptor() {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                requests.increment();
+                timeToFirstByte.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private double connectionReuseRatio() {
+        double total = requests.count();
+        if (total == 0) {
+            return 0;
+        }
+        return Math.max(0, 1 - connectionsOpened.count() / total);
+    }
+}
@@ -0,0 +1,81 @@
+package com.venherak.polymarket.infrastructure.client.http;
+
+import org.brotli.dec.BrotliInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Requests compressed responses and transparently decodes gzip and brotli bodies.
+ * Only needed for transports without built-in decompression, such as the JDK HTTP client.
+ */
+public class DecompressingResponseInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String ACCEPTED_ENCODINGS = "gzip, br";
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+        ClientHttpResponse response = execution.execute(request, body);
+
+        String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if ("gzip".equalsIgnoreCase(encoding) || "br".equalsIgnoreCase(encoding)) {
+            return new DecompressedResponse(response, encoding.toLowerCase());
+        }
+        return response;
+    }
+
+    private static final class DecompressedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String encoding;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        private DecompressedResponse(ClientHttpResponse delegate, String encoding) {
+            this.delegate = delegate;
+            this.encoding = encoding;
+            // The decoded body no longer matches the transferred encoding and length
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                InputStream raw = delegate.getBody();
+                body = "gzip".equals(encoding) ? new GZIPInputStream(raw) : new BrotliInputStream(raw);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
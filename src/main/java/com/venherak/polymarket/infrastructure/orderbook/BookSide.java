@@ -0,0 +1,9 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+/**
+ * Side of an order book.
+ */
+public enum BookSide {
+    BID,
+    ASK
+}
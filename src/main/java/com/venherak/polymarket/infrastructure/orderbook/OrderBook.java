@@ -0,0 +1,103 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+/**
+ * Order book of one outcome token, kept as one array slot per tick on each side.
+ * Applying an update writes into the existing arrays and allocates nothing, unless the tick size
+ * of the market changed. Best prices and the size at a price are read in constant time.
+ * <p>
+ * Not thread-safe: a single thread applies updates, and readers on other threads are handed
+ * immutable {@link #snapshot() snapshots}.
+ */
+public final class OrderBook extends OrderBookView {
+
+    /**
+     * Finest tick size the grid supports, one million ticks between 0 and 1.
+     */
+    private static final int MAX_TICKS_PER_UNIT = 1_000_000;
+
+    /**
+     * Creates an empty book.
+     *
+     * @param tokenId  token ID
+     * @param tickSize price increment of the market, such as 0.01; 1 divided by it must be a whole number
+     * @throws IllegalArgumentException if the tick size is not usable
+     */
+    public OrderBook(String tokenId, double tickSize) {
+        super(tokenId);
+        resize(tickSize);
+    }
+
+    /**
+     * Sets the size at one price; a size of 0 removes the level.
+     *
+     * @param side  book side
+     * @param price price on the tick grid
+     * @param size  resting size
+     * @throws IllegalArgumentException if the price is not on the tick grid
+     */
+    public void set(BookSide side, double price, double size) {
+        int tick = tick(price);
+        if (tick < 0) {
+            throw new IllegalArgumentException("Price " + price + " is not on the " + tickSize + " tick grid");
+        }
+        levels(side).set(tick, size);
+    }
+
+    /**
+     * Replaces the whole book with the levels of a {@code /book} response. A different tick size
+     * in the response moves the book to the new grid.
+     *
+     * @param update the staged response
+     * @return number of levels skipped because their price was not on the tick grid
+     */
+    public int apply(OrderBookUpdate update) {
+        double updateTickSize = update.getTickSize();
+        if (!Double.isNaN(updateTickSize) && updateTickSize != tickSize) {
+            resize(updateTickSize);
+        } else {
+            bids.clear();
+            asks.clear();
+        }
+
+        int skipped = 0;
+        for (int i = 0; i < update.getBidCount(); i++) {
+            int tick = tick(update.getBidPrice(i));
+            if (tick < 0) {
+                skipped++;
+            } else {
+                bids.set(tick, update.getBidSize(i));
+            }
+        }
+        for (int i = 0; i < update.getAskCount(); i++) {
+            int tick = tick(update.getAskPrice(i));
+            if (tick < 0) {
+                skipped++;
+            } else {
+                asks.set(tick, update.getAskSize(i));
+            }
+        }
+        timestamp = update.getTimestamp();
+        hash = update.getHash();
+        return skipped;
+    }
+
+    /**
+     * Copies the book for readers on other threads.
+     *
+     * @return an immutable copy
+     */
+    public OrderBookSnapshot snapshot() {
+        return new OrderBookSnapshot(this);
+    }
+
+    private void resize(double newTickSize) {
+        long ticks = Math.round(1.0 / newTickSize);
+        if (!(newTickSize > 0) || ticks > MAX_TICKS_PER_UNIT || Math.abs(ticks * newTickSize - 1.0) > 1e-9) {
+            throw new IllegalArgumentException("Unsupported tick size " + newTickSize);
+        }
+        tickSize = newTickSize;
+        ticksPerUnit = (int) ticks;
+        bids = new PriceLevels(ticksPerUnit + 1, true);
+        asks = new PriceLevels(ticksPerUnit + 1, false);
+    }
+}
@@ -0,0 +1,153 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Reads a CLOB {@code /book} response into an {@link OrderBookUpdate}. The API sends prices and
+ * sizes as decimal strings; they are converted straight from the parser's character buffer, so
+ * no string is created per level.
+ */
+@Component
+public class OrderBookJsonReader {
+
+    /**
+     * Mantissas of up to 15 digits are exact doubles, which makes the division by a power of ten
+     * correctly rounded, with the same result as {@link Double#parseDouble}.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Reads one book object.
+     *
+     * @param parser parser positioned at the START_OBJECT of the book
+     * @param update update to fill; it is reset first
+     * @throws IOException if the JSON cannot be read
+     */
+    public void read(JsonParser parser, OrderBookUpdate update) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        update.reset();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "market" -> update.setMarket(stringValue(parser));
+                case "asset_id" -> update.setAssetId(stringValue(parser));
+                case "hash" -> update.setHash(stringValue(parser));
+                case "timestamp" -> update.setTimestamp(value == JsonToken.VALUE_NULL ? 0 : (long) decimalValue(parser));
+                case "tick_size" -> update.setTickSize(decimalValue(parser));
+                case "min_order_size" -> update.setMinOrderSize(decimalValue(parser));
+                case "bids" -> readLevels(parser, update, true);
+                case "asks" -> readLevels(parser, update, false);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readLevels(JsonParser parser, OrderBookUpdate update, boolean bids) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, JsonToken.START_OBJECT);
+            double price = Double.NaN;
+            double size = Double.NaN;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "price" -> price = decimalValue(parser);
+                    case "size" -> size = decimalValue(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (Double.isNaN(price) || Double.isNaN(size)) {
+                throw new IOException("Order book level without price or size at " + parser.currentLocation());
+            }
+            if (bids) {
+                update.addBid(price, size);
+            } else {
+                update.addAsk(price, size);
+            }
+        }
+    }
+
+    /**
+     * Reads a number sent as a JSON number or a decimal string.
+     *
+     * @return the value, NaN for null
+     */
+    static double decimalValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return Double.NaN;
+        }
+
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int end = offset + parser.getTextLength();
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_EXACT_DIGITS) {
+                    return parseDouble(parser);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                // Signs, exponents and anything unusual take the slow path
+                return parseDouble(parser);
+            }
+        }
+        if (digits == 0) {
+            return parseDouble(parser);
+        }
+        return scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+    }
+
+    private static double parseDouble(JsonParser parser) throws IOException {
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number '" + text + "' in order book JSON at " + parser.currentLocation(), e);
+        }
+    }
+
+    private static String stringValue(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new IOException("Unexpected " + parser.currentToken() + " in order book JSON, expected " + expected
+                    + " at " + parser.currentLocation());
+        }
+    }
+}
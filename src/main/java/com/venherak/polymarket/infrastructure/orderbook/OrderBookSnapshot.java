@@ -0,0 +1,17 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+/**
+ * Immutable copy of an {@link OrderBook} at one point in time, safe to share between threads.
+ */
+public final class OrderBookSnapshot extends OrderBookView {
+
+    OrderBookSnapshot(OrderBook book) {
+        super(book.tokenId);
+        this.tickSize = book.tickSize;
+        this.ticksPerUnit = book.ticksPerUnit;
+        this.bids = book.bids.copy();
+        this.asks = book.asks.copy();
+        this.timestamp = book.timestamp;
+        this.hash = book.hash;
+    }
+}
@@ -0,0 +1,94 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * A full order book as returned by the CLOB {@code /book} endpoint, staged in primitive arrays.
+ * Meant to be reused: {@link #reset()} keeps the arrays, so reading a book allocates nothing once
+ * the arrays have grown to the deepest book seen. Not thread-safe.
+ */
+public final class OrderBookUpdate {
+
+    private static final int INITIAL_LEVELS = 64;
+
+    private String market;
+    private String assetId;
+    private String hash;
+    private long timestamp;
+    private double tickSize = Double.NaN;
+    private double minOrderSize = Double.NaN;
+
+    private double[] bidPrices = new double[INITIAL_LEVELS];
+    private double[] bidSizes = new double[INITIAL_LEVELS];
+    private int bidCount;
+    private double[] askPrices = new double[INITIAL_LEVELS];
+    private double[] askSizes = new double[INITIAL_LEVELS];
+    private int askCount;
+
+    /**
+     * Empties the update for the next book.
+     */
+    public void reset() {
+        market = null;
+        assetId = null;
+        hash = null;
+        timestamp = 0;
+        tickSize = Double.NaN;
+        minOrderSize = Double.NaN;
+        bidCount = 0;
+        askCount = 0;
+    }
+
+    public void addBid(double price, double size) {
+        if (bidCount == bidPrices.length) {
+            bidPrices = Arrays.copyOf(bidPrices, bidCount * 2);
+            bidSizes = Arrays.copyOf(bidSizes, bidCount * 2);
+        }
+        bidPrices[bidCount] = price;
+        bidSizes[bidCount++] = size;
+    }
+
+    public void addAsk(double price, double size) {
+        if (askCount == askPrices.length) {
+            askPrices = Arrays.copyOf(askPrices, askCount * 2);
+            askSizes = Arrays.copyOf(askSizes, askCount * 2);
+        }
+        askPrices[askCount] = price;
+        askSizes[askCount++] = size;
+    }
+
+    public String getMarket() { return market; }
+    public void setMarket(String market) { this.market = market; }
+
+    public String getAssetId() { return assetId; }
+    public void setAssetId(String assetId) { this.assetId = assetId; }
+
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+
+    /**
+     * @return server time of the book in epoch milliseconds, 0 if unknown
+     */
+    public long getTimestamp() { return timestamp; }
+    public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+
+    /**
+     * @return tick size of the market, NaN if the response did not contain one
+     */
+    public double getTickSize() { return tickSize; }
+    public void setTickSize(double tickSize) { this.tickSize = tickSize; }
+
+    /**
+     * @return minimum order size of the market, NaN if the response did not contain one
+     */
+    public double getMinOrderSize() { return minOrderSize; }
+    public void setMinOrderSize(double minOrderSize) { this.minOrderSize = minOrderSize; }
+
+    public int getBidCount() { return bidCount; }
+    public double getBidPrice(int index) { return bidPrices[index]; }
+    public double getBidSize(int index) { return bidSizes[index]; }
+
+    public int getAskCount() { return askCount; }
+    public double getAskPrice(int index) { return askPrices[index]; }
+    public double getAskSize(int index) { return askSizes[index]; }
+}
@@ -0,0 +1,148 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import com.venherak.polymarket.domain.model.OrderBookDepth;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read access to a tick-indexed order book. Prices lie on the tick grid of the market between 0
+ * and 1; best prices and the size at any price are read in constant time.
+ */
+public abstract sealed class OrderBookView permits OrderBook, OrderBookSnapshot {
+
+    final String tokenId;
+    double tickSize;
+    int ticksPerUnit;
+    PriceLevels bids;
+    PriceLevels asks;
+    long timestamp;
+    String hash;
+
+    OrderBookView(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public double getTickSize() {
+        return tickSize;
+    }
+
+    /**
+     * @return server time of the book in epoch milliseconds, 0 if unknown
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @return highest bid price, NaN without bids
+     */
+    public double bestBid() {
+        return price(bids.best());
+    }
+
+    /**
+     * @return lowest ask price, NaN without asks
+     */
+    public double bestAsk() {
+        return price(asks.best());
+    }
+
+    /**
+     * @return size at the highest bid, 0 without bids
+     */
+    public double bestBidSize() {
+        return bids.size(bids.best());
+    }
+
+    /**
+     * @return size at the lowest ask, 0 without asks
+     */
+    public double bestAskSize() {
+        return asks.size(asks.best());
+    }
+
+    /**
+     * @return lowest ask minus highest bid, NaN if a side is empty
+     */
+    public double spread() {
+        return bestAsk() - bestBid();
+    }
+
+    /**
+     * Returns the size resting at a price.
+     *
+     * @param side  book side
+     * @param price price on the tick grid
+     * @return resting size, 0 if there is no level at that price or it is not on the grid
+     */
+    public double depthAt(BookSide side, double price) {
+        return levels(side).size(tick(price));
+    }
+
+    /**
+     * @param side book side
+     * @return number of price levels on that side
+     */
+    public int levelCount(BookSide side) {
+        return levels(side).count();
+    }
+
+    /**
+     * Copies the top levels of both sides into a response model.
+     *
+     * @param maxLevels maximum number of levels per side
+     * @return the depth, best price first
+     */
+    public OrderBookDepth toDepth(int maxLevels) {
+        return new OrderBookDepth(
+                tokenId,
+                tickSize,
+                timestamp > 0 ? Instant.ofEpochMilli(timestamp) : null,
+                hash,
+                bids.best() >= 0 ? bestBid() : null,
+                asks.best() >= 0 ? bestAsk() : null,
+                topLevels(bids, maxLevels),
+                topLevels(asks, maxLevels));
+    }
+
+    /**
+     * Converts a price to its tick.
+     *
+     * @param price a price
+     * @return the tick, or -1 if the price is not on the grid or outside 0..1
+     */
+    int tick(double price) {
+        double scaled = price * ticksPerUnit;
+        long tick = Math.round(scaled);
+        if (tick < 0 || tick > ticksPerUnit || Math.abs(scaled - tick) > 1e-6) {
+            return -1;
+        }
+        return (int) tick;
+    }
+
+    double price(int tick) {
+        return tick >= 0 ? tick / (double) ticksPerUnit : Double.NaN;
+    }
+
+    PriceLevels levels(BookSide side) {
+        return side == BookSide.BID ? bids : asks;
+    }
+
+    private List<OrderBookDepth.Level> topLevels(PriceLevels levels, int maxLevels) {
+        List<OrderBookDepth.Level> top = new ArrayList<>(Math.min(maxLevels, levels.count()));
+        for (int tick = levels.best(); tick >= 0 && top.size() < maxLevels; tick = levels.next(tick)) {
+            top.add(new OrderBookDepth.Level(price(tick), levels.size(tick)));
+        }
+        return top;
+    }
+}
@@ -0,0 +1,148 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * One side of an order book: the resting size at every tick between 0 and 1, in a plain array
+ * indexed by tick, and a bitset of the ticks that have a level. The best tick is kept up to
+ * date on every change, so reading it costs nothing; when the best level is removed, the next
+ * one is found by scanning the bitset a word (64 ticks) at a time.
+ */
+final class PriceLevels {
+
+    private final boolean bids;
+    private final double[] sizes;
+    private final long[] occupied;
+    private int best = -1;
+    private int count;
+
+    /**
+     * @param ticks number of ticks, the highest one being 1.0
+     * @param bids  true for the bid side, whose best level is the highest tick
+     */
+    PriceLevels(int ticks, boolean bids) {
+        this.bids = bids;
+        this.sizes = new double[ticks];
+        this.occupied = new long[(ticks + 63) >>> 6];
+    }
+
+    private PriceLevels(PriceLevels source) {
+        this.bids = source.bids;
+        this.sizes = source.sizes.clone();
+        this.occupied = source.occupied.clone();
+        this.best = source.best;
+        this.count = source.count;
+    }
+
+    PriceLevels copy() {
+        return new PriceLevels(this);
+    }
+
+    int ticks() {
+        return sizes.length;
+    }
+
+    /**
+     * @return best tick, or -1 if the side is empty
+     */
+    int best() {
+        return best;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * @param tick any tick
+     * @return size resting at the tick, 0 if there is no level or the tick is out of range
+     */
+    double size(int tick) {
+        return tick >= 0 && tick < sizes.length ? sizes[tick] : 0.0;
+    }
+
+    /**
+     * Returns the next level after the given one, moving away from the best level.
+     *
+     * @param tick a tick that has a level
+     * @return the next worse tick with a level, or -1
+     */
+    int next(int tick) {
+        return bids ? previousSet(tick - 1) : nextSet(tick + 1);
+    }
+
+    /**
+     * Sets the size at a tick; a size of 0 or less removes the level.
+     *
+     * @param tick tick within range
+     * @param size resting size
+     */
+    void set(int tick, double size) {
+        int word = tick >>> 6;
+        long bit = 1L << tick;
+        boolean present = (occupied[word] & bit) != 0;
+        if (size > 0) {
+            sizes[tick] = size;
+            if (!present) {
+                occupied[word] |= bit;
+                count++;
+                if (best < 0 || (bids ? tick > best : tick < best)) {
+                    best = tick;
+                }
+            }
+        } else if (present) {
+            sizes[tick] = 0.0;
+            occupied[word] &= ~bit;
+            count--;
+            if (tick == best) {
+                best = next(tick);
+            }
+        }
+    }
+
+    /**
+     * Removes all levels, touching only the words and sizes that are in use.
+     */
+    void clear() {
+        for (int word = 0; word < occupied.length; word++) {
+            long bits = occupied[word];
+            while (bits != 0) {
+                sizes[(word << 6) + Long.numberOfTrailingZeros(bits)] = 0.0;
+                bits &= bits - 1;
+            }
+        }
+        Arrays.fill(occupied, 0L);
+        best = -1;
+        count = 0;
+    }
+
+    private int nextSet(int from) {
+        if (from >= sizes.length) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == occupied.length) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int previousSet(int from) {
+        if (from < 0) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L >>> (63 - (from & 63)));
+        while (bits == 0) {
+            if (--word < 0) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+}
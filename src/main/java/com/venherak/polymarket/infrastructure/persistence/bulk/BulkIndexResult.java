@@ -0,0 +1,159 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated outcome of one or more bulk requests.
+ * Successful items are summarized by result type; failed items are kept individually.
+ * Requests that could not be executed at all, even after retries, are counted separately from
+ * items Elasticsearch rejected; their items are also recorded as failed.
+ */
+public class BulkIndexResult {
+    
+    private final Map<String, Long> resultCounts = new TreeMap<>();
+    private final List<BulkItemResult> failures = new ArrayList<>();
+    private long succeeded;
+    private long retriedItems;
+    private long failedRequests;
+    private Exception requestError;
+    private long requests;
+    private long bytes;
+    private long tookNanos;
+    
+    /**
+     * Records the final outcome of an item.
+     * 
+     * @param item the item result
+     */
+    public synchronized void addItem(BulkItemResult item) {
+        if (item.isSuccessful()) {
+            succeeded++;
+            resultCounts.merge(item.result() != null ? item.result() : "unknown", 1L, Long::sum);
+        } else {
+            failures.add(item);
+        }
+        if (item.attempts() > 1) {
+            retriedItems++;
+        }
+    }
+    
+    /**
+     * Records an HTTP bulk request that was sent.
+     * 
+     * @param requestBytes size of the NDJSON payload
+     * @param nanos       time taken by the request
+     */
+    public synchronized void addRequest(long requestBytes, long nanos) {
+        requests++;
+        bytes += requestBytes;
+        tookNanos += nanos;
+    }
+    
+    /**
+     * Records a bulk request that could not be executed after all retries, failing its items.
+     * 
+     * @param items the failed items of the request
+     * @param error the transport or request error of the last attempt
+     */
+    public synchronized void addRequestFailure(List<BulkItemResult> items, Exception error) {
+        failures.addAll(items);
+        failedRequests++;
+        if (requestError == null) {
+            requestError = error;
+        }
+    }
+    
+    /**
+     * Merges another result into this one.
+     * 
+     * @param other the result to merge
+     */
+    public synchronized void merge(BulkIndexResult other) {
+        synchronized (other) {
+            succeeded += other.succeeded;
+            retriedItems += other.retriedItems;
+            requests += other.requests;
+            bytes += other.bytes;
+            tookNanos += other.tookNanos;
+            failedRequests += other.failedRequests;
+            if (requestError == null) {
+                requestError = other.requestError;
+            }
+            failures.addAll(other.failures);
+            other.resultCounts.forEach((result, count) -> resultCounts.merge(result, count, Long::sum));
+        }
+    }
+    
+    public synchronized long getSucceeded() {
+        return succeeded;
+    }
+    
+    public synchronized long getFailed() {
+        return failures.size();
+    }
+    
+    public synchronized long getRetriedItems() {
+        return retriedItems;
+    }
+    
+    /**
+     * Number of bulk requests that could not be executed at all, as opposed to item rejections.
+     * 
+     * @return failed requests
+     */
+    public synchronized long getFailedRequests() {
+        return failedRequests;
+    }
+    
+    /**
+     * Error of the first bulk request that could not be executed.
+     * 
+     * @return the error, or null if every request was executed
+     */
+    public synchronized Exception getRequestError() {
+        return requestError;
+    }
+    
+    public synchronized long getRequests() {
+        return requests;
+    }
+    
+    public synchronized long getBytes() {
+        return bytes;
+    }
+    
+    /**
+     * Sum of the time spent in bulk requests; exceeds wall-clock time when requests overlap.
+     * 
+     * @return accumulated request time
+     */
+    public synchronized Duration getRequestTime() {
+        return Duration.ofNanos(tookNanos);
+    }
+    
+    public synchronized Map<String, Long> getResultCounts() {
+        return Collections.unmodifiableMap(new TreeMap<>(resultCounts));
+    }
+    
+    public synchronized List<BulkItemResult> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BulkIndexResult{" +
+               "succeeded=" + succeeded +
+               ", failed=" + failures.size() +
+               ", retriedItems=" + retriedItems +
+               ", results=" + resultCounts +
+               ", requests=" + requests +
+               ", failedRequests=" + failedRequests +
+               ", bytes=" + bytes +
+               '}';
+    }
+}
@@ -0,0 +1,161 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Buffers documents and sends them to Elasticsearch as bulk requests.
+ * Documents added across several calls are merged into one request until either the
+ * action count or the payload size limit is reached, and large inputs are split accordingly.
+ * Up to the configured number of requests run concurrently; {@link #add} blocks when all are busy.
+ * Not thread-safe: a session is meant to be fed by a single producer.
+ */
+public class BulkIndexSession implements AutoCloseable {
+
+    private final ElasticsearchBulkIndexer indexer;
+    private final String indexName;
+    private final int maxActions;
+    private final long maxBytes;
+    private final Semaphore inFlight;
+    private final BulkIndexResult result = new BulkIndexResult();
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+    private List<BulkOperation> buffer = new ArrayList<>();
+    private long bufferedBytes;
+    private boolean finished;
+
+    BulkIndexSession(ElasticsearchBulkIndexer indexer, String indexName, int maxActions, long maxBytes, int concurrency) {
+        this.indexer = indexer;
+        this.indexName = indexName;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.inFlight = new Semaphore(concurrency);
+    }
+
+    /**
+     * Adds a document to the session, flushing the buffer when a limit is reached.
+     *
+     * @param id       document ID
+     * @param document document to serialize
+     */
+    public void add(String id, Object document) {
+        add(indexer.toOperation(id, document));
+    }
+
+    /**
+     * Adds a document with the {@code create} action, which data streams require.
+     * Elasticsearch generates the document ID.
+     *
+     * @param document document to serialize
+     */
+    public void create(Object document) {
+        add(indexer.toCreateOperation(document));
+    }
+
+    /**
+     * Adds an update that runs a script on the existing document, or stores the given document
+     * if there is none yet.
+     *
+     * @param id       document ID
+     * @param document document stored when the ID does not exist
+     * @param script   Painless script applied to an existing document
+     * @param params   script parameters
+     */
+    public void upsert(String id, Object document, String script, Map<String, Object> params) {
+        add(indexer.toUpsertOperation(id, document, script, params));
+    }
+
+    private void add(BulkOperation operation) {
+        if (finished) {
+            throw new IllegalStateException("Bulk session for " + indexName + " is already finished");
+        }
+
+        if (!buffer.isEmpty() && bufferedBytes + operation.sizeInBytes() > maxBytes) {
+            flush();
+        }
+
+        buffer.add(operation);
+        bufferedBytes += operation.sizeInBytes();
+
+        if (buffer.size() >= maxActions || bufferedBytes >= maxBytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds a batch of market documents, keyed by their document ID.
+     *
+     * @param documents documents to add
+     */
+    public void addAll(Collection<MarketDocument> documents) {
+        for (MarketDocument document : documents) {
+            add(document.getId(), document);
+        }
+    }
+
+    /**
+     * Sends the buffered documents as a bulk request without waiting for the response.
+     */
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        List<BulkOperation> batch = buffer;
+        buffer = new ArrayList<>();
+        bufferedBytes = 0;
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw DataPersistenceException.forSaveError("interrupted while waiting for a bulk slot", e);
+        }
+
+        pending.removeIf(CompletableFuture::isDone);
+        pending.add(indexer.submit(indexName, batch, result)
+                .whenComplete((ignored, error) -> inFlight.release()));
+    }
+
+    /**
+     * Flushes the buffer and waits for all in-flight requests of this session.
+     * The session can keep accepting documents afterwards.
+     *
+     * @return the result accumulated so far
+     */
+    public BulkIndexResult awaitPending() {
+        flush();
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        pending.clear();
+        return result;
+    }
+
+    /**
+     * Flushes the remaining documents, waits for all requests and closes the session.
+     *
+     * @return the result of all requests sent by this session
+     */
+    public BulkIndexResult finish() {
+        if (!finished) {
+            awaitPending();
+            finished = true;
+        }
+        return result;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+}
@@ -0,0 +1,26 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+/**
+ * Outcome of a single document within a bulk request.
+ *
+ * @param id       document ID
+ * @param status   HTTP status reported for the item
+ * @param result   Elasticsearch result such as "created", "updated" or "noop"; null on failure
+ * @param error    failure reason, null on success
+ * @param attempts number of bulk requests the item was part of
+ */
+public record BulkItemResult(String id, int status, String result, String error, int attempts) {
+    
+    public boolean isSuccessful() {
+        return error == null && status >= 200 && status < 300;
+    }
+    
+    /**
+     * Checks whether the item failed with a status worth retrying (throttling or server error).
+     * 
+     * @return true if the item may succeed on a later attempt
+     */
+    public boolean isRetryable() {
+        return !isSuccessful() && (status == 429 || status >= 500);
+    }
+}
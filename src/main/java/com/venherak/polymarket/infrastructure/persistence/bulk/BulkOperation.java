@@ -0,0 +1,20 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+/**
+ * A serialized bulk action: the NDJSON action line and document source, ready to be written.
+ *
+ * @param id         document ID
+ * @param actionLine action metadata line without the trailing newline
+ * @param source     JSON source without the trailing newline
+ */
+record BulkOperation(String id, byte[] actionLine, byte[] source) {
+    
+    /**
+     * Size of this operation in the NDJSON payload, including both newlines.
+     * 
+     * @return payload size in bytes
+     */
+    int sizeInBytes() {
+        return actionLine.length + source.length + 2;
+    }
+}
@@ -0,0 +1,326 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.index.ElasticsearchMarketIndexManager;
+import jakarta.annotation.PreDestroy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bulk indexer for the polymarket-markets index using the Elasticsearch _bulk endpoint.
+ * Writes go to the alias, or to the new generation while the index is being rebuilt.
+ * Documents are serialized with the Spring Data converter, so the stored JSON is identical
+ * to what {@code MarketDocumentRepository.saveAll} writes. Items that fail with a
+ * retryable status are resent on their own with exponential backoff, and so are whole requests
+ * that fail with a connection error or a retryable HTTP status. A request that still fails
+ * after the last retry is recorded as a request failure of the result.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchBulkIndexer implements MarketDocumentIndexer {
+
+    private static final Logger logger = Logger.getLogger(ElasticsearchBulkIndexer.class.getName());
+
+    public static final String MARKETS_INDEX = "polymarket-markets";
+
+    private static final int UPDATE_CONFLICT_RETRIES = 3;
+
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
+
+    private final RestClient restClient;
+    private final ElasticsearchMarketIndexManager indexManager;
+    private final ElasticsearchConverter converter;
+    private final ObjectMapper objectMapper;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int concurrency;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final ExecutorService executor;
+
+    public ElasticsearchBulkIndexer(
+            RestClient restClient,
+            ElasticsearchMarketIndexManager indexManager,
+            ElasticsearchOperations elasticsearchOperations,
+            ObjectMapper objectMapper,
+            @Value("${polymarket.elasticsearch.bulk.max-actions:500}") int maxActions,
+            @Value("${polymarket.elasticsearch.bulk.max-size:5MB}") DataSize maxSize,
+            @Value("${polymarket.elasticsearch.bulk.concurrency:4}") int concurrency,
+            @Value("${polymarket.elasticsearch.bulk.max-retries:3}") int maxRetries,
+            @Value("${polymarket.elasticsearch.bulk.retry-backoff:200ms}") Duration retryBackoff) {
+        this.restClient = restClient;
+        this.indexManager = indexManager;
+        this.converter = elasticsearchOperations.getElasticsearchConverter();
+        this.objectMapper = objectMapper;
+        this.maxActions = maxActions;
+        this.maxBytes = maxSize.toBytes();
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.executor = Executors.newFixedThreadPool(concurrency, bulkThreadFactory());
+    }
+
+    /**
+     * Opens a session writing to the polymarket-markets index, or to the generation being rebuilt.
+     *
+     * @return a new bulk session
+     */
+    public BulkIndexSession openSession() {
+        return openSession(indexManager.writeIndex());
+    }
+
+    /**
+     * Opens a session writing to the given index.
+     *
+     * @param indexName target index or alias
+     * @return a new bulk session
+     */
+    public BulkIndexSession openSession(String indexName) {
+        return new BulkIndexSession(this, indexName, maxActions, maxBytes, concurrency);
+    }
+
+    /**
+     * Indexes market documents into polymarket-markets and waits for completion.
+     *
+     * @param documents documents to index
+     * @return per-item result summary
+     * @throws DataPersistenceException if a bulk request could not be executed after all retries
+     */
+    @Override
+    public BulkIndexResult index(Collection<MarketDocument> documents) {
+        BulkIndexResult result;
+        try (BulkIndexSession session = openSession()) {
+            session.addAll(documents);
+            result = session.finish();
+        }
+        if (result.getFailedRequests() > 0) {
+            throw DataPersistenceException.forSaveError(String.format("%d bulk requests to %s could not be executed",
+                    result.getFailedRequests(), indexManager.writeIndex()), result.getRequestError());
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    BulkOperation toOperation(String id, Object document) {
+        try {
+            byte[] actionLine = ("{\"index\":{\"_id\":" + objectMapper.writeValueAsString(id) + "}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            byte[] source = converter.mapObject(document).toJson().getBytes(StandardCharsets.UTF_8);
+            return new BulkOperation(id, actionLine, source);
+        } catch (IOException e) {
+            throw DataPersistenceException.forSaveError("cannot serialize document " + id, e);
+        }
+    }
+
+    BulkOperation toCreateOperation(Object document) {
+        byte[] actionLine = "{\"create\":{}}".getBytes(StandardCharsets.UTF_8);
+        byte[] source = converter.mapObject(document).toJson().getBytes(StandardCharsets.UTF_8);
+        return new BulkOperation(null, actionLine, source);
+    }
+
+    BulkOperation toUpsertOperation(String id, Object document, String script, Map<String, Object> params) {
+        try {
+            byte[] actionLine = ("{\"update\":{\"_id\":" + objectMapper.writeValueAsString(id)
+                    + ",\"retry_on_conflict\":" + UPDATE_CONFLICT_RETRIES + "}}").getBytes(StandardCharsets.UTF_8);
+            ObjectNode body = objectMapper.createObjectNode();
+            body.putObject("script")
+                    .put("source", script)
+                    .put("lang", "painless")
+                    .set("params", objectMapper.valueToTree(params));
+            body.set("upsert", objectMapper.readTree(converter.mapObject(document).toJson()));
+            return new BulkOperation(id, actionLine, objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw DataPersistenceException.forSaveError("cannot serialize document " + id, e);
+        }
+    }
+
+    CompletableFuture<Void> submit(String indexName, List<BulkOperation> operations, BulkIndexResult result) {
+        return CompletableFuture.runAsync(() -> executeWithRetries(indexName, operations, result), executor);
+    }
+
+    private void executeWithRetries(String indexName, List<BulkOperation> operations, BulkIndexResult result) {
+        List<BulkOperation> remaining = operations;
+        int attempt = 1;
+
+        while (true) {
+            List<BulkItemResult> items;
+            try {
+                items = send(indexName, remaining, attempt, result);
+            } catch (IOException e) {
+                int status = e instanceof ResponseException responseException
+                        ? responseException.getResponse().getStatusLine().getStatusCode()
+                        // Connection problems are treated like an unavailable node
+                        : 503;
+                List<BulkItemResult> failed = failAll(remaining, status, e.getMessage(), attempt);
+                if (attempt > maxRetries || !failed.get(0).isRetryable()) {
+                    logger.log(Level.WARNING, String.format("Bulk request to %s failed after %d attempts: %s",
+                            indexName, attempt, e.getMessage()), e);
+                    result.addRequestFailure(failed, e);
+                    return;
+                }
+                logger.warning(String.format("Retrying bulk request of %d items to %s after HTTP %d (attempt %d)",
+                        remaining.size(), indexName, status, attempt + 1));
+                if (!backoff(attempt)) {
+                    result.addRequestFailure(failAll(remaining, 0, "interrupted before retry", attempt), e);
+                    return;
+                }
+                attempt++;
+                continue;
+            }
+            List<BulkOperation> retry = new ArrayList<>();
+
+            for (int i = 0; i < items.size(); i++) {
+                BulkItemResult item = items.get(i);
+                if (item.isRetryable() && attempt <= maxRetries) {
+                    retry.add(remaining.get(i));
+                } else {
+                    result.addItem(item);
+                }
+            }
+
+            if (retry.isEmpty()) {
+                return;
+            }
+
+            logger.warning(String.format("Retrying %d of %d bulk items for %s (attempt %d)",
+                    retry.size(), remaining.size(), indexName, attempt + 1));
+            if (!backoff(attempt)) {
+                for (BulkOperation operation : retry) {
+                    result.addItem(new BulkItemResult(operation.id(), 0, null, "interrupted before retry", attempt));
+                }
+                return;
+            }
+
+            remaining = retry;
+            attempt++;
+        }
+    }
+
+    /**
+     * Waits before the next attempt, doubling the wait with every attempt.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.toMillis() << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Sends one bulk request and returns the outcome of each item.
+     *
+     * @throws IOException if the request failed as a whole, with an HTTP error or a connection problem
+     */
+    private List<BulkItemResult> send(String indexName, List<BulkOperation> operations, int attempt, BulkIndexResult result)
+            throws IOException {
+        byte[] payload = toNdjson(operations);
+        Request request = new Request("POST", "/" + indexName + "/_bulk");
+        request.setEntity(new ByteArrayEntity(payload, NDJSON));
+
+        long start = System.nanoTime();
+        try {
+            Response response = restClient.performRequest(request);
+            try (InputStream body = response.getEntity().getContent()) {
+                return parseItems(objectMapper.readTree(body), operations, attempt);
+            }
+        } finally {
+            result.addRequest(payload.length, System.nanoTime() - start);
+        }
+    }
+
+    private List<BulkItemResult> parseItems(JsonNode root, List<BulkOperation> operations, int attempt) {
+        List<BulkItemResult> results = new ArrayList<>(operations.size());
+        JsonNode items = root.path("items");
+
+        for (int i = 0; i < operations.size(); i++) {
+            JsonNode item = items.path(i);
+            Iterator<JsonNode> actions = item.elements();
+            if (!actions.hasNext()) {
+                results.add(new BulkItemResult(operations.get(i).id(), 500, null, "missing item in bulk response", attempt));
+                continue;
+            }
+
+            JsonNode action = actions.next();
+            int status = action.path("status").asInt();
+            JsonNode error = action.get("error");
+            String reason = error == null ? null : error.path("type").asText() + ": " + error.path("reason").asText();
+            String outcome = error == null ? action.path("result").asText(null) : null;
+            results.add(new BulkItemResult(operations.get(i).id(), status, outcome, reason, attempt));
+        }
+        return results;
+    }
+
+    private static List<BulkItemResult> failAll(List<BulkOperation> operations, int status, String reason, int attempt) {
+        List<BulkItemResult> results = new ArrayList<>(operations.size());
+        for (BulkOperation operation : operations) {
+            results.add(new BulkItemResult(operation.id(), status, null, reason, attempt));
+        }
+        return results;
+    }
+
+    private static byte[] toNdjson(List<BulkOperation> operations) {
+        int size = 0;
+        for (BulkOperation operation : operations) {
+            size += operation.sizeInBytes();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        for (BulkOperation operation : operations) {
+            out.writeBytes(operation.actionLine());
+            out.write('\n');
+            out.writeBytes(operation.source());
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+    private static ThreadFactory bulkThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "es-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
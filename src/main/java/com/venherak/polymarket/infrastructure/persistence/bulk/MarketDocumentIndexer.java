@@ -0,0 +1,21 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.Collection;
+
+/**
+ * Writes market documents to the markets store in bulk.
+ */
+public interface MarketDocumentIndexer {
+
+    /**
+     * Indexes market documents and waits for completion.
+     *
+     * @param documents documents to index
+     * @return per-item result summary
+     * @throws com.venherak.polymarket.exception.DataPersistenceException if a bulk request could not be
+     *                                                                    executed at all
+     */
+    BulkIndexResult index(Collection<MarketDocument> documents);
+}
@@ -0,0 +1,59 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Column of flags packed 64 to a word, so filters can combine them a word at a time.
+ * Kept in a heap array and written through to a {@link ColumnFile} of longs.
+ */
+final class BitColumn implements Closeable {
+
+    private final ColumnFile file;
+    long[] words;
+
+    BitColumn(Path path, int rows) throws IOException {
+        this.file = ColumnFile.open(path, Long.BYTES, words(rows));
+        this.words = new long[file.capacity()];
+        file.readLongs(words, words(rows));
+    }
+
+    void set(int row, boolean value) {
+        int word = row >>> 6;
+        long bits = value ? words[word] | 1L << row : words[word] & ~(1L << row);
+        words[word] = bits;
+        file.putLong(word, bits);
+    }
+
+    void ensureCapacity(int rows) throws IOException {
+        file.ensureCapacity(words(rows));
+        if (words.length < file.capacity()) {
+            words = Arrays.copyOf(words, file.capacity());
+        }
+    }
+
+    /**
+     * Clears all flags, for reusing the column from row 0.
+     */
+    void clear() {
+        Arrays.fill(words, 0L);
+        for (int word = 0; word < words.length; word++) {
+            file.putLong(word, 0L);
+        }
+    }
+
+    void force() {
+        file.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+}
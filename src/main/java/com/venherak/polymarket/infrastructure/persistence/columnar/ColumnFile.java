@@ -0,0 +1,128 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One column of fixed-width values in a memory-mapped file.
+ * The file starts with a small header identifying the element width, followed by the values
+ * in little-endian order. Writes go straight into the mapping, so only the pages that were
+ * touched are dirty when the column is forced to disk. Not thread-safe.
+ */
+final class ColumnFile implements Closeable {
+
+    private static final int MAGIC = 0x4D434F4C; // "MCOL"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final FileChannel channel;
+    private final int elementBytes;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    private ColumnFile(FileChannel channel, int elementBytes) {
+        this.channel = channel;
+        this.elementBytes = elementBytes;
+    }
+
+    /**
+     * Opens or creates a column file and maps at least the given number of elements.
+     *
+     * @param path         file path
+     * @param elementBytes width of one value
+     * @param capacity     number of elements to map
+     * @return the open column
+     * @throws IOException if the file cannot be mapped or belongs to a column of another width
+     */
+    static ColumnFile open(Path path, int elementBytes, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ColumnFile column = new ColumnFile(channel, elementBytes);
+        try {
+            boolean created = channel.size() == 0;
+            int stored = (int) Math.max(0, (channel.size() - HEADER_BYTES) / elementBytes);
+            column.map(Math.max(Math.max(capacity, stored), MIN_CAPACITY));
+            if (created) {
+                column.buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, elementBytes);
+            } else if (column.buffer.getInt(0) != MAGIC || column.buffer.getInt(4) != VERSION
+                    || column.buffer.getInt(8) != elementBytes) {
+                throw new IOException("Not a column file of " + elementBytes + "-byte values: " + path);
+            }
+            return column;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Grows the mapping so it holds at least the given number of elements, doubling the current capacity.
+     */
+    void ensureCapacity(int elements) throws IOException {
+        if (elements > capacity) {
+            map(Math.max(elements, capacity * 2));
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void putDouble(int index, double value) {
+        buffer.putDouble(offset(index), value);
+    }
+
+    void putInt(int index, int value) {
+        buffer.putInt(offset(index), value);
+    }
+
+    void putLong(int index, long value) {
+        buffer.putLong(offset(index), value);
+    }
+
+    /**
+     * Copies the first values of the column into an array in one bulk transfer.
+     */
+    void readDoubles(double[] target, int count) {
+        buffer.slice(HEADER_BYTES, count * elementBytes).order(ByteOrder.LITTLE_ENDIAN)
+                .asDoubleBuffer().get(target, 0, count);
+    }
+
+    void readInts(int[] target, int count) {
+        buffer.slice(HEADER_BYTES, count * elementBytes).order(ByteOrder.LITTLE_ENDIAN)
+                .asIntBuffer().get(target, 0, count);
+    }
+
+    void readLongs(long[] target, int count) {
+        buffer.slice(HEADER_BYTES, count * elementBytes).order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer().get(target, 0, count);
+    }
+
+    /**
+     * Writes the dirty pages of the mapping to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void map(int elements) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) elements * elementBytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        capacity = elements;
+    }
+
+    private int offset(int index) {
+        return HEADER_BYTES + index * elementBytes;
+    }
+}
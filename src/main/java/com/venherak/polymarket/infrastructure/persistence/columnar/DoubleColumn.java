@@ -0,0 +1,43 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Column of doubles kept in a heap array for scanning and written through to a {@link ColumnFile}.
+ * Missing values are stored as NaN, which fails every comparison.
+ */
+final class DoubleColumn implements Closeable {
+
+    private final ColumnFile file;
+    double[] values;
+
+    DoubleColumn(Path path, int rows) throws IOException {
+        this.file = ColumnFile.open(path, Double.BYTES, rows);
+        this.values = new double[file.capacity()];
+        file.readDoubles(values, rows);
+    }
+
+    void set(int row, double value) {
+        values[row] = value;
+        file.putDouble(row, value);
+    }
+
+    void ensureCapacity(int rows) throws IOException {
+        file.ensureCapacity(rows);
+        if (values.length < file.capacity()) {
+            values = Arrays.copyOf(values, file.capacity());
+        }
+    }
+
+    void force() {
+        file.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -0,0 +1,92 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Document IDs of the market rows, kept as an append-only file of length-prefixed UTF-8 strings.
+ * A row's ID never changes, so existing entries are never rewritten. Anything past the
+ * committed length is left over from an interrupted run and is cut off when the file is opened.
+ */
+final class IdColumn implements Closeable {
+
+    private final FileChannel channel;
+    String[] values;
+    private long length;
+
+    /**
+     * Opens or creates the file and reads the IDs of the first rows.
+     *
+     * @param path   file path
+     * @param rows   number of committed rows
+     * @param length committed length of the file in bytes
+     */
+    IdColumn(Path path, int rows, long length) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < length) {
+                throw new IOException("ID file " + path + " is shorter than its committed length " + length);
+            }
+            channel.truncate(length);
+            this.values = new String[Math.max(rows, 1024)];
+            this.length = length;
+            if (rows > 0) {
+                read(rows);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    void append(int row, String id) throws IOException {
+        if (row >= values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+        while (entry.hasRemaining()) {
+            length += channel.write(entry, length);
+        }
+        values[row] = id;
+    }
+
+    /**
+     * Drops all IDs, for reusing the column from row 0.
+     */
+    void clear() throws IOException {
+        channel.truncate(0);
+        Arrays.fill(values, null);
+        length = 0;
+    }
+
+    long length() {
+        return length;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void read(int rows) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        for (int row = 0; row < rows; row++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            values[row] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Column of ints kept in a heap array for scanning and written through to a {@link ColumnFile}.
+ */
+final class IntColumn implements Closeable {
+
+    private final ColumnFile file;
+    int[] values;
+
+    IntColumn(Path path, int rows) throws IOException {
+        this.file = ColumnFile.open(path, Integer.BYTES, rows);
+        this.values = new int[file.capacity()];
+        file.readInts(values, rows);
+    }
+
+    void set(int row, int value) {
+        values[row] = value;
+        file.putInt(row, value);
+    }
+
+    void ensureCapacity(int rows) throws IOException {
+        file.ensureCapacity(rows);
+        if (values.length < file.capacity()) {
+            values = Arrays.copyOf(values, file.capacity());
+        }
+    }
+
+    void force() {
+        file.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
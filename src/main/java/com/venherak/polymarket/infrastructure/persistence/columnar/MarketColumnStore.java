@@ -0,0 +1,680 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import com.venherak.polymarket.service.sync.MarketsIndexedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented copy of the numeric and boolean market fields, answering the hot range and
+ * flag queries with a linear scan over primitive arrays instead of a round trip to Elasticsearch.
+ * <p>
+ * Every market is a row; its tokens are rows of separate token columns pointing back to it.
+ * Scans are branch-free loops over the arrays that set one bit per matching row, a shape the JIT
+ * can unroll and vectorize.
+ * Each column is written through to a memory-mapped file and {@code manifest.json} records how
+ * many rows are committed, so after a restart the columns are read back with a bulk copy instead
+ * of a crawl of the index. A missing or unreadable store is rebuilt from Elasticsearch after the
+ * next sync, and so is a store whose last update was interrupted.
+ * <p>
+ * Like the market snapshot, the store applies the documents indexed by a sync once the sync has
+ * completed. Queries return document IDs in row order.
+ */
+@Component
+public class MarketColumnStore {
+
+    private static final Logger logger = Logger.getLogger(MarketColumnStore.class.getName());
+
+    private static final int MANIFEST_VERSION = 1;
+    private static final String MANIFEST = "manifest.json";
+    private static final int REBUILD_CHUNK = 1_000;
+    /** Stored for a missing int value and never matched by a filter. */
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final MarketDocumentScanner documentScanner;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final boolean enabled;
+    private final Queue<MarketDocument> pending = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> rowById = new HashMap<>();
+
+    private Columns columns;
+    private int marketRows;
+    private int tokenRows;
+    private volatile boolean complete;
+
+    public MarketColumnStore(
+            MarketDocumentScanner documentScanner,
+            ObjectMapper objectMapper,
+            @Value("${polymarket.columnar.directory:data/columnar}") Path directory,
+            @Value("${polymarket.columnar.enabled:true}") boolean enabled) {
+        this.documentScanner = documentScanner;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Maps the column files left by the previous run. A store that cannot be read is discarded
+     * and rebuilt after the next sync.
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+            Manifest manifest = readManifest();
+            try {
+                openColumns(manifest);
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Discarding unreadable column store " + directory + ": " + e.getMessage(), e);
+                closeColumns();
+                deleteFiles();
+                manifest = Manifest.EMPTY;
+                openColumns(manifest);
+            }
+            complete = manifest.complete();
+            if (complete) {
+                logger.info(String.format("Column store loaded with %d markets and %d tokens from %s",
+                        marketRows, tokenRows, directory));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Column store disabled, " + directory + " is not usable: " + e.getMessage(), e);
+            closeColumns();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the store holds all indexed markets. Until then queries must go to Elasticsearch.
+     *
+     * @return true once the store has been built and is up to date with the last completed sync
+     */
+    public boolean isReady() {
+        return complete;
+    }
+
+    /**
+     * Returns the number of markets in the store.
+     *
+     * @return number of market rows
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return marketRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onMarketsIndexed(MarketsIndexedEvent event) {
+        if (enabled) {
+            pending.addAll(event.documents());
+        }
+    }
+
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isRebuild()) {
+            rebuild();
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Applies documents indexed since the last refresh, or rebuilds the store if it is not complete.
+     */
+    public synchronized void refresh() {
+        if (columns == null) {
+            return;
+        }
+        if (!complete) {
+            rebuild();
+            return;
+        }
+
+        List<MarketDocument> changed = new ArrayList<>();
+        MarketDocument document;
+        while ((document = pending.poll()) != null) {
+            changed.add(document);
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            // Until the manifest is written again, a crash leaves the store marked for a rebuild
+            writeManifest(false);
+            apply(changed);
+            commit();
+            logger.info(String.format("Column store patched with %d markets, %d in total", changed.size(), size()));
+        } catch (IOException | RuntimeException e) {
+            complete = false;
+            logger.log(Level.WARNING, "Could not update column store, rebuilding after the next sync: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces the contents of the store with all markets currently stored in Elasticsearch.
+     * The store is not ready while it is rebuilt and stays that way if the rebuild fails.
+     */
+    public synchronized void rebuild() {
+        if (columns == null) {
+            return;
+        }
+        complete = false;
+        // Everything pending is indexed already and therefore part of the full scan
+        pending.clear();
+        try (Stream<MarketDocument> documents = documentScanner.streamAll()) {
+            writeManifest(false);
+            clear();
+            List<MarketDocument> chunk = new ArrayList<>(REBUILD_CHUNK);
+            Iterator<MarketDocument> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == REBUILD_CHUNK || !iterator.hasNext()) {
+                    apply(chunk);
+                    chunk.clear();
+                }
+            }
+            commit();
+            logger.info(String.format("Column store built with %d markets and %d tokens", marketRows, tokenRows));
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Could not build column store: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds markets with at least one token priced above the given price.
+     *
+     * @param price exclusive lower bound
+     * @return matching document IDs
+     */
+    public List<String> findByTokensPriceGreaterThan(double price) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return List.of();
+            }
+            long[] matches = new long[BitColumn.words(marketRows)];
+            double[] prices = columns.tokenPrice.values;
+            int[] markets = columns.tokenMarket.values;
+            for (int token = 0; token < tokenRows; token++) {
+                // Retired token rows hold NaN and never match
+                if (prices[token] > price) {
+                    int row = markets[token];
+                    matches[row >>> 6] |= 1L << row;
+                }
+            }
+            return ids(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds markets with a token that won.
+     *
+     * @return matching document IDs
+     */
+    public List<String> findByTokensWinnerTrue() {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return List.of();
+            }
+            long[] matches = new long[BitColumn.words(marketRows)];
+            long[] winners = columns.tokenWinner.words;
+            int[] markets = columns.tokenMarket.values;
+            for (int word = 0; word < BitColumn.words(tokenRows); word++) {
+                long bits = winners[word];
+                while (bits != 0) {
+                    int token = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (token >= tokenRows) {
+                        break;
+                    }
+                    int row = markets[token];
+                    matches[row >>> 6] |= 1L << row;
+                    bits &= bits - 1;
+                }
+            }
+            return ids(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds markets whose reward in-game multiplier lies within the given bounds.
+     *
+     * @param min inclusive lower bound
+     * @param max inclusive upper bound
+     * @return matching document IDs
+     */
+    public List<String> findByRewardsInGameMultiplierBetween(double min, double max) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return List.of();
+            }
+            return ids(between(columns.inGameMultiplier.values, min, max));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds markets whose reward in-game multiplier is above the given value.
+     *
+     * @param multiplier exclusive lower bound
+     * @return matching document IDs
+     */
+    public List<String> findByRewardsInGameMultiplierGreaterThan(double multiplier) {
+        return findByRewardsInGameMultiplierBetween(Math.nextUp(multiplier), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Finds markets whose reward minimum size is above the given size.
+     *
+     * @param minSize exclusive lower bound
+     * @return matching document IDs
+     */
+    public List<String> findByRewardsMinSizeGreaterThan(int minSize) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return List.of();
+            }
+            long[] matches = new long[BitColumn.words(marketRows)];
+            int[] values = columns.minSize.values;
+            for (int row = 0; row < marketRows; row++) {
+                int value = values[row];
+                matches[row >>> 6] |= (value > minSize & value != NULL_INT ? 1L : 0L) << row;
+            }
+            return ids(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds markets that are active and not closed.
+     *
+     * @return matching document IDs
+     */
+    public List<String> findByActiveTrueAndClosedFalse() {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return List.of();
+            }
+            long[] active = columns.active.words;
+            long[] open = columns.open.words;
+            long[] matches = new long[BitColumn.words(marketRows)];
+            for (int word = 0; word < matches.length; word++) {
+                matches[word] = active[word] & open[word];
+            }
+            return ids(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        lock.writeLock().lock();
+        try {
+            closeColumns();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long[] between(double[] values, double min, double max) {
+        long[] matches = new long[BitColumn.words(marketRows)];
+        for (int row = 0; row < marketRows; row++) {
+            double value = values[row];
+            // Non-short-circuit operators keep the loop free of branches; NaN fails both comparisons
+            matches[row >>> 6] |= (value >= min & value <= max ? 1L : 0L) << row;
+        }
+        return matches;
+    }
+
+    private List<String> ids(long[] matches) {
+        int count = 0;
+        for (long word : matches) {
+            count += Long.bitCount(word);
+        }
+        List<String> ids = new ArrayList<>(count);
+        String[] values = columns.ids.values;
+        for (int word = 0; word < matches.length; word++) {
+            long bits = matches[word];
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (row >= marketRows) {
+                    break;
+                }
+                ids.add(values[row]);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    private void apply(List<MarketDocument> documents) throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (MarketDocument document : documents) {
+                if (document.getId() != null) {
+                    apply(document);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(MarketDocument document) throws IOException {
+        Integer existing = rowById.get(document.getId());
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else {
+            row = marketRows;
+            columns.ensureMarketCapacity(row + 1);
+            columns.ids.append(row, document.getId());
+            columns.tokenStart.set(row, tokenRows);
+            columns.tokenCount.set(row, 0);
+            rowById.put(document.getId(), row);
+            marketRows++;
+        }
+
+        RewardsDocument rewards = document.getRewards();
+        columns.minimumTickSize.set(row, orNaN(document.getMinimumTickSize()));
+        columns.inGameMultiplier.set(row, rewards != null ? orNaN(rewards.getInGameMultiplier()) : Double.NaN);
+        columns.minSize.set(row, rewards != null ? orNull(rewards.getMinSize()) : NULL_INT);
+        columns.maxSpread.set(row, rewards != null ? orNull(rewards.getMaxSpread()) : NULL_INT);
+        columns.active.set(row, Boolean.TRUE.equals(document.getActive()));
+        columns.open.set(row, Boolean.FALSE.equals(document.getClosed()));
+
+        List<TokenDocument> tokens = document.getTokens() != null
+                ? document.getTokens().stream().filter(token -> token != null).toList()
+                : List.of();
+        int start = columns.tokenStart.values[row];
+        int count = columns.tokenCount.values[row];
+        if (tokens.size() != count) {
+            // Token rows are reused in place; a changed token count moves the market's tokens
+            // to the end and leaves the old rows retired until the next rebuild
+            for (int token = start; token < start + count; token++) {
+                columns.tokenMarket.set(token, -1);
+                columns.tokenPrice.set(token, Double.NaN);
+                columns.tokenWinner.set(token, false);
+            }
+            start = tokenRows;
+            columns.ensureTokenCapacity(start + tokens.size());
+            tokenRows += tokens.size();
+            columns.tokenStart.set(row, start);
+            columns.tokenCount.set(row, tokens.size());
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            TokenDocument token = tokens.get(i);
+            columns.tokenMarket.set(start + i, row);
+            columns.tokenPrice.set(start + i, orNaN(token.getPrice()));
+            columns.tokenWinner.set(start + i, Boolean.TRUE.equals(token.getWinner()));
+        }
+    }
+
+    private void clear() throws IOException {
+        lock.writeLock().lock();
+        try {
+            rowById.clear();
+            marketRows = 0;
+            tokenRows = 0;
+            columns.ids.clear();
+            // Flags are set and cleared a word at a time, so stale bits past the last row must go
+            columns.active.clear();
+            columns.open.clear();
+            columns.tokenWinner.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces all columns to disk and then records the committed row counts.
+     */
+    private void commit() throws IOException {
+        lock.readLock().lock();
+        try {
+            columns.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+        writeManifest(true);
+        complete = true;
+    }
+
+    private void openColumns(Manifest manifest) throws IOException {
+        columns = new Columns(directory, manifest);
+        marketRows = manifest.marketRows();
+        tokenRows = manifest.tokenRows();
+        rowById.clear();
+        for (int row = 0; row < marketRows; row++) {
+            rowById.put(columns.ids.values[row], row);
+        }
+    }
+
+    private void closeColumns() {
+        if (columns == null) {
+            return;
+        }
+        try {
+            columns.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not close column store: " + e.getMessage(), e);
+        }
+        columns = null;
+        complete = false;
+    }
+
+    private Manifest readManifest() {
+        Path file = directory.resolve(MANIFEST);
+        if (!Files.exists(file)) {
+            return Manifest.EMPTY;
+        }
+        try {
+            Manifest manifest = objectMapper.readValue(file.toFile(), Manifest.class);
+            if (manifest.version() == MANIFEST_VERSION) {
+                return manifest;
+            }
+            logger.info("Discarding column store written in format version " + manifest.version());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Discarding column store with unreadable manifest " + file + ": " + e.getMessage(), e);
+        }
+        deleteFiles();
+        return Manifest.EMPTY;
+    }
+
+    private void writeManifest(boolean complete) throws IOException {
+        Manifest manifest;
+        lock.readLock().lock();
+        try {
+            manifest = new Manifest(MANIFEST_VERSION, marketRows, tokenRows, columns.ids.length(), complete);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Path file = directory.resolve(MANIFEST);
+        Path temp = Files.createTempFile(directory, MANIFEST, ".tmp");
+        objectMapper.writeValue(temp.toFile(), manifest);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not clear column store " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static double orNaN(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static int orNull(Integer value) {
+        return value != null ? value : NULL_INT;
+    }
+
+    /**
+     * Committed state of the column files.
+     *
+     * @param version    file format version
+     * @param marketRows number of committed market rows
+     * @param tokenRows  number of committed token rows, including retired ones
+     * @param idBytes    committed length of the ID file
+     * @param complete   false while an update is being applied
+     */
+    record Manifest(int version, int marketRows, int tokenRows, long idBytes, boolean complete) {
+
+        static final Manifest EMPTY = new Manifest(MANIFEST_VERSION, 0, 0, 0, false);
+    }
+
+    /**
+     * The open column files of the store.
+     */
+    private static final class Columns implements Closeable {
+
+        final IdColumn ids;
+        final DoubleColumn minimumTickSize;
+        final DoubleColumn inGameMultiplier;
+        final IntColumn minSize;
+        final IntColumn maxSpread;
+        final BitColumn active;
+        final BitColumn open;
+        final IntColumn tokenStart;
+        final IntColumn tokenCount;
+
+        final IntColumn tokenMarket;
+        final DoubleColumn tokenPrice;
+        final BitColumn tokenWinner;
+
+        private final List<Closeable> files = new ArrayList<>();
+
+        Columns(Path directory, Manifest manifest) throws IOException {
+            int markets = manifest.marketRows();
+            int tokens = manifest.tokenRows();
+            try {
+                ids = add(new IdColumn(directory.resolve("id.str"), markets, manifest.idBytes()));
+                minimumTickSize = add(new DoubleColumn(directory.resolve("minimum-tick-size.f64"), markets));
+                inGameMultiplier = add(new DoubleColumn(directory.resolve("in-game-multiplier.f64"), markets));
+                minSize = add(new IntColumn(directory.resolve("min-size.i32"), markets));
+                maxSpread = add(new IntColumn(directory.resolve("max-spread.i32"), markets));
+                active = add(new BitColumn(directory.resolve("active.bits"), markets));
+                open = add(new BitColumn(directory.resolve("open.bits"), markets));
+                tokenStart = add(new IntColumn(directory.resolve("token-start.i32"), markets));
+                tokenCount = add(new IntColumn(directory.resolve("token-count.i32"), markets));
+                tokenMarket = add(new IntColumn(directory.resolve("token-market.i32"), tokens));
+                tokenPrice = add(new DoubleColumn(directory.resolve("token-price.f64"), tokens));
+                tokenWinner = add(new BitColumn(directory.resolve("token-winner.bits"), tokens));
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        void ensureMarketCapacity(int rows) throws IOException {
+            minimumTickSize.ensureCapacity(rows);
+            inGameMultiplier.ensureCapacity(rows);
+            minSize.ensureCapacity(rows);
+            maxSpread.ensureCapacity(rows);
+            active.ensureCapacity(rows);
+            open.ensureCapacity(rows);
+            tokenStart.ensureCapacity(rows);
+            tokenCount.ensureCapacity(rows);
+        }
+
+        void ensureTokenCapacity(int rows) throws IOException {
+            tokenMarket.ensureCapacity(rows);
+            tokenPrice.ensureCapacity(rows);
+            tokenWinner.ensureCapacity(rows);
+        }
+
+        void force() throws IOException {
+            ids.force();
+            minimumTickSize.force();
+            inGameMultiplier.force();
+            minSize.force();
+            maxSpread.force();
+            active.force();
+            open.force();
+            tokenStart.force();
+            tokenCount.force();
+            tokenMarket.force();
+            tokenPrice.force();
+            tokenWinner.force();
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (Closeable file : files) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private <T extends Closeable> T add(T file) {
+            files.add(file);
+            return file;
+        }
+    }
+}
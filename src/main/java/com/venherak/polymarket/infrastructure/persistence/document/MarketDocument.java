@@ -2,6 +2,7 @@ package com.venherak.polymarket.infrastructure.persistence.document;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Dynamic;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
@@ -11,8 +12,11 @@ import java.util.List;
 /**
  * Elasticsearch document representing a Polymarket market.
  * Stores market data in Elasticsearch index for fast search and analytics.
+ * The index is created from a template built from this mapping, not by the repository;
+ * identifiers that are never searched are kept in the source only, and unmapped fields
+ * are stored but not indexed.
  */
-@Document(indexName = "polymarket-markets")
+@Document(indexName = "polymarket-markets", createIndex = false, dynamic = Dynamic.FALSE)
 public class MarketDocument {
     
     @Id
@@ -21,16 +25,16 @@ public class MarketDocument {
     @Field(type = FieldType.Keyword)
     private String conditionId;
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, index = false, docValues = false)
     private String questionId;
     
     @Field(type = FieldType.Text, analyzer = "standard")
     private String question;
     
-    @Field(type = FieldType.Text, analyzer = "standard")
+    @Field(type = FieldType.Text, analyzer = "standard", norms = false)
     private String description;
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, docValues = false)
     private String marketSlug;
     
     @Field(type = FieldType.Date)
@@ -42,7 +46,7 @@ public class MarketDocument {
     @Field(type = FieldType.Integer)
     private Integer secondsDelay;
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, index = false, docValues = false)
     private String fpmm;
     
     @Field(type = FieldType.Integer)
@@ -81,10 +85,10 @@ public class MarketDocument {
     @Field(type = FieldType.Boolean)
     private Boolean negRisk;
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, index = false, docValues = false)
     private String negRiskMarketId;
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, index = false, docValues = false)
     private String negRiskRequestId;
     
     @Field(type = FieldType.Boolean)
@@ -99,6 +103,9 @@ public class MarketDocument {
     @Field(type = FieldType.Object)
     private RewardsDocument rewards;
     
+    @Field(type = FieldType.Long)
+    private Long contentHash;
+    
     @Field(type = FieldType.Date)
     private OffsetDateTime createdAt;
     
@@ -336,6 +343,14 @@ public class MarketDocument {
         this.rewards = rewards;
     }
 
+    public Long getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(Long contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
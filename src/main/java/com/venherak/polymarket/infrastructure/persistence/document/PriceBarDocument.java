@@ -0,0 +1,133 @@
+package com.venherak.polymarket.infrastructure.persistence.document;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Dynamic;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+
+/**
+ * Elasticsearch document representing one OHLC bar of a token price.
+ * The ID is derived from token, interval and start, so every bar is one document that later
+ * observations of the same interval are merged into. Prices are only read, never searched.
+ */
+@Document(indexName = "polymarket-price-bars", createIndex = false, dynamic = Dynamic.FALSE)
+public class PriceBarDocument {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String tokenId;
+
+    @Field(type = FieldType.Keyword)
+    private String conditionId;
+
+    @Field(type = FieldType.Keyword)
+    private String interval;
+
+    @Field(type = FieldType.Date, format = DateFormat.epoch_millis)
+    private Instant start;
+
+    @Field(type = FieldType.Double, index = false)
+    private Double open;
+
+    @Field(type = FieldType.Double, index = false)
+    private Double high;
+
+    @Field(type = FieldType.Double, index = false)
+    private Double low;
+
+    @Field(type = FieldType.Double, index = false)
+    private Double close;
+
+    @Field(type = FieldType.Long, index = false)
+    private Long observations;
+
+    // Constructors
+    public PriceBarDocument() {}
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public String getConditionId() {
+        return conditionId;
+    }
+
+    public void setConditionId(String conditionId) {
+        this.conditionId = conditionId;
+    }
+
+    public String getInterval() {
+        return interval;
+    }
+
+    public void setInterval(String interval) {
+        this.interval = interval;
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public void setStart(Instant start) {
+        this.start = start;
+    }
+
+    public Double getOpen() {
+        return open;
+    }
+
+    public void setOpen(Double open) {
+        this.open = open;
+    }
+
+    public Double getHigh() {
+        return high;
+    }
+
+    public void setHigh(Double high) {
+        this.high = high;
+    }
+
+    public Double getLow() {
+        return low;
+    }
+
+    public void setLow(Double low) {
+        this.low = low;
+    }
+
+    public Double getClose() {
+        return close;
+    }
+
+    public void setClose(Double close) {
+        this.close = close;
+    }
+
+    public Long getObservations() {
+        return observations;
+    }
+
+    public void setObservations(Long observations) {
+        this.observations = observations;
+    }
+}
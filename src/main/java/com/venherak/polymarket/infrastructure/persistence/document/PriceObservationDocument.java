@@ -0,0 +1,72 @@
+package com.venherak.polymarket.infrastructure.persistence.document;
+
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+
+/**
+ * Elasticsearch document representing one observed token price.
+ * Stored in the polymarket-prices time series data stream, which generates the document IDs;
+ * the data stream and its mapping come from an index template, not from this class.
+ */
+@Document(indexName = "polymarket-prices", createIndex = false)
+public class PriceObservationDocument {
+
+    @Field(name = "@timestamp", type = FieldType.Date, format = DateFormat.epoch_millis)
+    private Instant timestamp;
+
+    @Field(type = FieldType.Keyword)
+    private String tokenId;
+
+    @Field(type = FieldType.Keyword)
+    private String conditionId;
+
+    @Field(type = FieldType.Double)
+    private Double price;
+
+    // Constructors
+    public PriceObservationDocument() {}
+
+    public PriceObservationDocument(Instant timestamp, String tokenId, String conditionId, Double price) {
+        this.timestamp = timestamp;
+        this.tokenId = tokenId;
+        this.conditionId = conditionId;
+        this.price = price;
+    }
+
+    // Getters and setters
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public String getConditionId() {
+        return conditionId;
+    }
+
+    public void setConditionId(String conditionId) {
+        this.conditionId = conditionId;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
  */
 public class RateDocument {
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, index = false, docValues = false)
     private String assetAddress;
     
     @Field(type = FieldType.Integer)
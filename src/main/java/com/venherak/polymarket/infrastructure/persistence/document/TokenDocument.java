@@ -9,7 +9,7 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
  */
 public class TokenDocument {
     
-    @Field(type = FieldType.Keyword)
+    @Field(type = FieldType.Keyword, docValues = false)
     private String tokenId;
     
     @Field(type = FieldType.Keyword)
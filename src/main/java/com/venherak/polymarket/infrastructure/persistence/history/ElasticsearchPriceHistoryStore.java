@@ -0,0 +1,308 @@
+package com.venherak.polymarket.infrastructure.persistence.history;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexSession;
+import com.venherak.polymarket.infrastructure.persistence.bulk.ElasticsearchBulkIndexer;
+import com.venherak.polymarket.infrastructure.persistence.document.PriceBarDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.PriceObservationDocument;
+import jakarta.annotation.PostConstruct;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores price history in Elasticsearch.
+ * <p>
+ * Observations go to the {@code polymarket-prices} time series data stream: the token ID is its
+ * dimension and the price a gauge, so the backing indices are routed and sorted by token and
+ * time, which keeps range reads of one token sequential and the storage compact. Observations
+ * older than the configured retention are deleted by the data stream lifecycle.
+ * <p>
+ * Bars are documents of the {@code polymarket-price-bars} index, sorted by token, interval and
+ * start. Merging a bar is a scripted upsert, so partial bars written by several syncs add up
+ * to the bar of the whole interval; bars are kept without a retention limit.
+ * <p>
+ * Both index templates are installed at startup; writes are refused until that succeeded, since
+ * without the templates the first write would create an index with a dynamic mapping.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchPriceHistoryStore implements PriceHistoryStore {
+
+    private static final Logger logger = Logger.getLogger(ElasticsearchPriceHistoryStore.class.getName());
+
+    static final String PRICES_STREAM = "polymarket-prices";
+    static final String BARS_INDEX = "polymarket-price-bars";
+    static final int TEMPLATE_VERSION = 1;
+    private static final int TEMPLATE_PRIORITY = 200;
+
+    /**
+     * Combines the stored bar with a later part of the same interval; see {@link PriceBar#merge}.
+     */
+    private static final String MERGE_SCRIPT = """
+            ctx._source.high = Math.max(ctx._source.high, params.high);
+            ctx._source.low = Math.min(ctx._source.low, params.low);
+            ctx._source.close = params.close;
+            ctx._source.observations += params.observations;
+            """;
+
+    private final RestClient restClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final ObjectMapper objectMapper;
+    private final int replicas;
+    private final String retention;
+
+    private volatile boolean installed;
+
+    public ElasticsearchPriceHistoryStore(
+            RestClient restClient,
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchBulkIndexer bulkIndexer,
+            ObjectMapper objectMapper,
+            @Value("${polymarket.elasticsearch.index.replicas:1}") int replicas,
+            @Value("${polymarket.history.retention:30d}") String retention) {
+        this.restClient = restClient;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.bulkIndexer = bulkIndexer;
+        this.objectMapper = objectMapper;
+        this.replicas = replicas;
+        this.retention = retention;
+    }
+
+    /**
+     * Installs the index templates. If Elasticsearch cannot be reached, this is tried again
+     * before the next write.
+     */
+    @PostConstruct
+    public void install() {
+        try {
+            putTemplate(PRICES_STREAM, pricesTemplate());
+            putTemplate(BARS_INDEX, barsTemplate());
+            installed = true;
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not install the price history templates; retrying before the next write", e);
+        }
+    }
+
+    @Override
+    public void append(List<PriceObservation> observations) {
+        if (observations.isEmpty()) {
+            return;
+        }
+        BulkIndexResult result;
+        try (BulkIndexSession session = openSession(PRICES_STREAM)) {
+            for (PriceObservation observation : observations) {
+                session.create(new PriceObservationDocument(observation.timestamp(), observation.tokenId(),
+                        observation.conditionId(), observation.price()));
+            }
+            result = session.finish();
+        }
+        logFailures(result, "price observations");
+    }
+
+    @Override
+    public void mergeBars(List<PriceBar> bars) {
+        if (bars.isEmpty()) {
+            return;
+        }
+        BulkIndexResult result;
+        try (BulkIndexSession session = openSession(BARS_INDEX)) {
+            for (PriceBar bar : bars) {
+                PriceBarDocument document = toDocument(bar);
+                session.upsert(document.getId(), document, MERGE_SCRIPT, Map.of(
+                        "high", bar.high(),
+                        "low", bar.low(),
+                        "close", bar.close(),
+                        "observations", bar.observations()));
+            }
+            result = session.finish();
+        }
+        logFailures(result, "price bars");
+    }
+
+    @Override
+    public List<PriceObservation> findObservations(String tokenId, Instant from, Instant to, int limit) {
+        NativeQuery query = rangeQuery(tokenId, null, "@timestamp", from, to, limit);
+        return search(query, PriceObservationDocument.class, PRICES_STREAM).stream()
+                .map(hit -> {
+                    PriceObservationDocument document = hit.getContent();
+                    return new PriceObservation(document.getTokenId(), document.getConditionId(),
+                            document.getPrice(), document.getTimestamp());
+                })
+                .toList();
+    }
+
+    @Override
+    public List<PriceBar> findBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit) {
+        NativeQuery query = rangeQuery(tokenId, interval, "start", from, to, limit);
+        return search(query, PriceBarDocument.class, BARS_INDEX).stream()
+                .map(hit -> {
+                    PriceBarDocument document = hit.getContent();
+                    return new PriceBar(document.getTokenId(), document.getConditionId(), interval,
+                            document.getStart(), document.getOpen(), document.getHigh(), document.getLow(),
+                            document.getClose(), document.getObservations());
+                })
+                .toList();
+    }
+
+    /**
+     * Builds the template of the observations data stream.
+     *
+     * @return the template as JSON
+     */
+    ObjectNode pricesTemplate() {
+        ObjectNode mappings = mapping(PriceObservationDocument.class);
+        ObjectNode properties = (ObjectNode) mappings.get("properties");
+        ((ObjectNode) properties.get("tokenId")).put("time_series_dimension", true);
+        ((ObjectNode) properties.get("price")).put("time_series_metric", "gauge");
+
+        ObjectNode body = templateBody(PRICES_STREAM);
+        body.putObject("data_stream");
+        ObjectNode template = (ObjectNode) body.get("template");
+        ObjectNode index = template.putObject("settings").putObject("index");
+        index.put("mode", "time_series");
+        index.putArray("routing_path").add("tokenId");
+        index.put("number_of_replicas", replicas);
+        template.set("mappings", mappings);
+        if (!retention.isBlank()) {
+            template.putObject("lifecycle").put("data_retention", retention);
+        }
+        return body;
+    }
+
+    /**
+     * Builds the template of the bars index.
+     *
+     * @return the template as JSON
+     */
+    ObjectNode barsTemplate() {
+        ObjectNode body = templateBody(BARS_INDEX);
+        ObjectNode template = (ObjectNode) body.get("template");
+        ObjectNode index = template.putObject("settings").putObject("index");
+        index.put("number_of_replicas", replicas);
+        ObjectNode sort = index.putObject("sort");
+        sort.putArray("field").add("tokenId").add("interval").add("start");
+        sort.putArray("order").add("asc").add("asc").add("asc");
+        template.set("mappings", mapping(PriceBarDocument.class));
+        return body;
+    }
+
+    private ObjectNode templateBody(String name) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putArray("index_patterns").add(name + "*");
+        body.put("priority", TEMPLATE_PRIORITY);
+        body.put("version", TEMPLATE_VERSION);
+        body.putObject("template");
+        return body;
+    }
+
+    private ObjectNode mapping(Class<?> documentClass) {
+        try {
+            return (ObjectNode) objectMapper.readTree(elasticsearchOperations.indexOps(documentClass).createMapping().toJson());
+        } catch (IOException e) {
+            throw DataPersistenceException.forIndexError(documentClass.getSimpleName(), e);
+        }
+    }
+
+    private void putTemplate(String name, JsonNode body) {
+        Request request = new Request("PUT", "/_index_template/" + name);
+        request.setEntity(new StringEntity(body.toString(), ContentType.APPLICATION_JSON));
+        try {
+            restClient.performRequest(request);
+        } catch (IOException e) {
+            throw DataPersistenceException.forIndexError(name, e);
+        }
+        logger.info(String.format("Installed index template %s version %d", name, TEMPLATE_VERSION));
+    }
+
+    private BulkIndexSession openSession(String indexName) {
+        if (!installed) {
+            install();
+        }
+        if (!installed) {
+            throw new DataPersistenceException("Index template " + indexName + " is not installed, cannot write");
+        }
+        return bulkIndexer.openSession(indexName);
+    }
+
+    private static NativeQuery rangeQuery(String tokenId, BarInterval interval, String timeField,
+                                          Instant from, Instant to, int limit) {
+        Query token = QueryBuilders.term(t -> t.field("tokenId").value(tokenId));
+        Query range = QueryBuilders.range(r -> r.date(d -> d.field(timeField)
+                .gte(String.valueOf(from.toEpochMilli()))
+                .lt(String.valueOf(to.toEpochMilli()))
+                .format("epoch_millis")));
+        Query filter = interval == null
+                ? QueryBuilders.bool(b -> b.filter(token, range))
+                : QueryBuilders.bool(b -> b.filter(token, range,
+                        QueryBuilders.term(t -> t.field("interval").value(interval.code()))));
+        return NativeQuery.builder()
+                .withQuery(filter)
+                .withSort(s -> s.field(f -> f.field(timeField).order(SortOrder.Asc)))
+                .withMaxResults(limit)
+                .withTrackTotalHits(false)
+                .build();
+    }
+
+    private <T> List<SearchHit<T>> search(NativeQuery query, Class<T> documentClass, String indexName) {
+        try {
+            return elasticsearchOperations.search(query, documentClass, IndexCoordinates.of(indexName)).getSearchHits();
+        } catch (NoSuchIndexException e) {
+            // Nothing has been written yet
+            return List.of();
+        }
+    }
+
+    private static PriceBarDocument toDocument(PriceBar bar) {
+        PriceBarDocument document = new PriceBarDocument();
+        document.setId(bar.tokenId() + ":" + bar.interval().code() + ":" + bar.start().toEpochMilli());
+        document.setTokenId(bar.tokenId());
+        document.setConditionId(bar.conditionId());
+        document.setInterval(bar.interval().code());
+        document.setStart(bar.start());
+        document.setOpen(bar.open());
+        document.setHigh(bar.high());
+        document.setLow(bar.low());
+        document.setClose(bar.close());
+        document.setObservations(bar.observations());
+        return document;
+    }
+
+    private static void logFailures(BulkIndexResult result, String what) {
+        if (result.getFailedRequests() > 0) {
+            logger.log(Level.WARNING, String.format("Failed to write %d of %d %s, %d bulk requests could not be executed",
+                    result.getFailed(), result.getFailed() + result.getSucceeded(), what, result.getFailedRequests()),
+                    result.getRequestError());
+        } else if (result.getFailed() > 0) {
+            logger.warning(String.format("Failed to write %d of %d %s: %s", result.getFailed(),
+                    result.getFailed() + result.getSucceeded(), what, result.getFailures().get(0).error()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.venherak.polymarket.infrastructure.persistence.history;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Stores observed token prices and the OHLC bars rolled up from them.
+ * Time ranges include their start and exclude their end; results are in time order.
+ */
+public interface PriceHistoryStore {
+
+    /**
+     * Appends price observations.
+     *
+     * @param observations observations to append
+     */
+    void append(List<PriceObservation> observations);
+
+    /**
+     * Merges bars into the stored ones. A bar for which a bar of the same token, interval and
+     * start is stored is combined with it as its later part; other bars are stored as they are.
+     *
+     * @param bars bars to merge
+     */
+    void mergeBars(List<PriceBar> bars);
+
+    /**
+     * Finds the observations of a token within a time range.
+     *
+     * @param tokenId token ID
+     * @param from    start of the range
+     * @param to      end of the range
+     * @param limit   maximum number of observations, the earliest ones are returned
+     * @return the observations
+     */
+    List<PriceObservation> findObservations(String tokenId, Instant from, Instant to, int limit);
+
+    /**
+     * Finds the bars of a token whose start is within a time range.
+     *
+     * @param tokenId  token ID
+     * @param interval width of the bars
+     * @param from     start of the range
+     * @param to       end of the range
+     * @param limit    maximum number of bars, the earliest ones are returned
+     * @return the bars
+     */
+    List<PriceBar> findBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit);
+}
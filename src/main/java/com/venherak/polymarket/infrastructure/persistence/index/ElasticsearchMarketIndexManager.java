@@ -0,0 +1,375 @@
+package com.venherak.polymarket.infrastructure.persistence.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import jakarta.annotation.PostConstruct;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.venherak.polymarket.infrastructure.persistence.bulk.ElasticsearchBulkIndexer.MARKETS_INDEX;
+
+/**
+ * Owns the settings and mapping of the polymarket-markets index through a versioned index template.
+ * At startup the template is installed unless the cluster already has a newer version, and the
+ * index is created from it if missing; an existing index gets the dynamic settings (replicas and
+ * refresh interval), while the shard count only applies to indices created later.
+ * <p>
+ * The mapping is the one Spring Data derives from {@link MarketDocument}. The settings add a
+ * configurable shard layout. The index is not sorted: Elasticsearch refuses index sorting on
+ * indices with nested fields, and the tokens are mapped as nested.
+ * <p>
+ * {@code polymarket-markets} is an alias of the current generation, an index named
+ * {@code polymarket-markets-<timestamp>}. A rebuild fills a new generation without replicas or
+ * refreshes, then moves the alias in a single {@code _aliases} request and deletes the older
+ * generations. An index created before generations existed is replaced by the same request.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchMarketIndexManager implements MarketIndexManager {
+
+    private static final Logger logger = Logger.getLogger(ElasticsearchMarketIndexManager.class.getName());
+
+    /**
+     * Version of the template; increase it whenever the mapping or settings built here change.
+     */
+    static final int TEMPLATE_VERSION = 2;
+    static final String TEMPLATE_NAME = MARKETS_INDEX;
+    private static final int TEMPLATE_PRIORITY = 200;
+    private static final String REFRESH_DISABLED = "-1";
+    private static final DateTimeFormatter GENERATION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final RestClient restClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ObjectMapper objectMapper;
+    private final int shards;
+    private final int replicas;
+    private final String refreshInterval;
+
+    private int writers;
+    private volatile boolean installed;
+    private volatile String rebuildIndex;
+
+    public ElasticsearchMarketIndexManager(
+            RestClient restClient,
+            ElasticsearchOperations elasticsearchOperations,
+            ObjectMapper objectMapper,
+            @Value("${polymarket.elasticsearch.index.shards:1}") int shards,
+            @Value("${polymarket.elasticsearch.index.replicas:1}") int replicas,
+            @Value("${polymarket.elasticsearch.index.refresh-interval:1s}") String refreshInterval) {
+        this.restClient = restClient;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.objectMapper = objectMapper;
+        this.shards = shards;
+        this.replicas = replicas;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Installs the template and creates or updates the index. If Elasticsearch cannot be reached,
+     * this is tried again before the next sync.
+     */
+    @PostConstruct
+    public void install() {
+        try {
+            installTemplate();
+            ensureIndex();
+            installed = true;
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not install the index template; retrying before the next sync", e);
+        }
+    }
+
+    @Override
+    public synchronized void suspendRefresh() {
+        if (writers++ > 0) {
+            return;
+        }
+        if (!installed) {
+            install();
+        }
+        try {
+            putRefreshInterval(REFRESH_DISABLED);
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not suspend refreshes of " + MARKETS_INDEX, e);
+        }
+    }
+
+    @Override
+    public synchronized void resumeRefresh() {
+        if (writers == 0 || --writers > 0) {
+            return;
+        }
+        try {
+            putRefreshInterval(refreshInterval);
+            perform(new Request("POST", "/" + MARKETS_INDEX + "/_refresh"));
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not restore refreshes of " + MARKETS_INDEX, e);
+        }
+    }
+
+    @Override
+    public synchronized void beginRebuild() {
+        if (rebuildIndex != null) {
+            throw new IllegalStateException("A rebuild into " + rebuildIndex + " is already running");
+        }
+        if (!installed) {
+            install();
+        }
+        if (!installed) {
+            // Without the template the generation would get a dynamic mapping
+            throw new DataPersistenceException("Index template " + TEMPLATE_NAME + " is not installed, cannot rebuild");
+        }
+        String generation = MARKETS_INDEX + "-" + GENERATION_FORMAT.format(Instant.now());
+        Request request = new Request("PUT", "/" + generation);
+        ObjectNode body = objectMapper.createObjectNode();
+        // Nothing reads the generation before it is complete
+        body.putObject("settings").putObject("index")
+                .put("number_of_replicas", 0)
+                .put("refresh_interval", REFRESH_DISABLED);
+        request.setEntity(json(body));
+        perform(request);
+        rebuildIndex = generation;
+        logger.info("Rebuilding markets into " + generation);
+    }
+
+    @Override
+    public long rebuildCount() {
+        String generation = requireRebuild();
+        perform(new Request("POST", "/" + generation + "/_refresh"));
+        return read(perform(new Request("GET", "/" + generation + "/_count"))).path("count").asLong();
+    }
+
+    @Override
+    public synchronized void commitRebuild() {
+        String generation = requireRebuild();
+        // Replicas are copied while the generation already serves reads from its primaries
+        Request settings = new Request("PUT", "/" + generation + "/_settings");
+        ObjectNode index = objectMapper.createObjectNode();
+        index.putObject("index")
+                .put("number_of_replicas", replicas)
+                .put("refresh_interval", refreshInterval);
+        settings.setEntity(json(index));
+        perform(settings);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode actions = body.putArray("actions");
+        List<String> previous = aliasedIndices();
+        for (String old : previous) {
+            actions.addObject().putObject("remove").put("index", old).put("alias", MARKETS_INDEX);
+        }
+        if (previous.isEmpty() && exists(MARKETS_INDEX)) {
+            // An index created before generations existed holds the name the alias takes over
+            actions.addObject().putObject("remove_index").put("index", MARKETS_INDEX);
+        }
+        actions.addObject().putObject("add")
+                .put("index", generation)
+                .put("alias", MARKETS_INDEX)
+                .put("is_write_index", true);
+        Request swap = new Request("POST", "/_aliases");
+        swap.setEntity(json(body));
+        perform(swap);
+        rebuildIndex = null;
+        logger.info(String.format("Alias %s switched from %s to %s", MARKETS_INDEX,
+                previous.isEmpty() ? MARKETS_INDEX : String.join(", ", previous), generation));
+
+        dropGenerationsExcept(generation);
+    }
+
+    @Override
+    public synchronized void abortRebuild() {
+        String generation = rebuildIndex;
+        if (generation == null) {
+            return;
+        }
+        rebuildIndex = null;
+        try {
+            performAllowing(new Request("DELETE", "/" + generation), 404);
+            logger.info("Rebuild aborted, dropped " + generation);
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not drop " + generation + "; it is dropped after the next rebuild", e);
+        }
+    }
+
+    /**
+     * Returns the index bulk writes go to: the generation being rebuilt, or the alias.
+     *
+     * @return index or alias name
+     */
+    public String writeIndex() {
+        String generation = rebuildIndex;
+        return generation != null ? generation : MARKETS_INDEX;
+    }
+
+    /**
+     * Builds the template body: index patterns, version, and the settings and mapping of new indices.
+     *
+     * @return the template as JSON
+     */
+    ObjectNode templateBody() {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putArray("index_patterns").add(MARKETS_INDEX + "*");
+        body.put("priority", TEMPLATE_PRIORITY);
+        body.put("version", TEMPLATE_VERSION);
+        body.putObject("_meta").put("description", "Markets synchronized from the Polymarket CLOB API");
+
+        ObjectNode template = body.putObject("template");
+        ObjectNode index = template.putObject("settings").putObject("index");
+        index.put("number_of_shards", shards);
+        index.put("number_of_replicas", replicas);
+        index.put("refresh_interval", refreshInterval);
+        try {
+            template.set("mappings", objectMapper.readTree(
+                    elasticsearchOperations.indexOps(MarketDocument.class).createMapping().toJson()));
+        } catch (IOException e) {
+            throw DataPersistenceException.forIndexError(MARKETS_INDEX, e);
+        }
+        return body;
+    }
+
+    private void installTemplate() {
+        Integer installedVersion = installedTemplateVersion();
+        if (installedVersion != null && installedVersion > TEMPLATE_VERSION) {
+            logger.warning(String.format("Keeping index template %s version %d, newer than version %d of this build",
+                    TEMPLATE_NAME, installedVersion, TEMPLATE_VERSION));
+            return;
+        }
+        Request request = new Request("PUT", "/_index_template/" + TEMPLATE_NAME);
+        request.setEntity(json(templateBody()));
+        perform(request);
+        logger.info(String.format("Installed index template %s version %d (previous version: %s)",
+                TEMPLATE_NAME, TEMPLATE_VERSION, installedVersion));
+    }
+
+    private Integer installedTemplateVersion() {
+        Response response = performAllowing(new Request("GET", "/_index_template/" + TEMPLATE_NAME), 404);
+        if (response.getStatusLine().getStatusCode() == 404) {
+            return null;
+        }
+        JsonNode version = read(response).at("/index_templates/0/index_template/version");
+        return version.isMissingNode() ? null : version.asInt();
+    }
+
+    private void ensureIndex() {
+        if (!exists(MARKETS_INDEX)) {
+            // Settings and mapping come from the template
+            String generation = MARKETS_INDEX + "-" + GENERATION_FORMAT.format(Instant.now());
+            Request request = new Request("PUT", "/" + generation);
+            ObjectNode body = objectMapper.createObjectNode();
+            body.putObject("aliases").putObject(MARKETS_INDEX).put("is_write_index", true);
+            request.setEntity(json(body));
+            perform(request);
+            logger.info("Created index " + generation + " behind alias " + MARKETS_INDEX);
+            return;
+        }
+
+        Request settings = new Request("PUT", "/" + MARKETS_INDEX + "/_settings");
+        ObjectNode index = objectMapper.createObjectNode();
+        index.putObject("index")
+                .put("number_of_replicas", replicas)
+                .put("refresh_interval", refreshInterval);
+        settings.setEntity(json(index));
+        perform(settings);
+    }
+
+    private List<String> aliasedIndices() {
+        Response response = performAllowing(new Request("GET", "/_alias/" + MARKETS_INDEX), 404);
+        if (response.getStatusLine().getStatusCode() == 404) {
+            return List.of();
+        }
+        List<String> indices = new ArrayList<>();
+        read(response).fieldNames().forEachRemaining(indices::add);
+        return indices;
+    }
+
+    private void dropGenerationsExcept(String current) {
+        try {
+            Request request = new Request("GET", "/_cat/indices/" + MARKETS_INDEX + "-*");
+            request.addParameter("h", "index");
+            request.addParameter("format", "json");
+            for (JsonNode row : read(perform(request))) {
+                String generation = row.path("index").asText();
+                if (!generation.equals(current)) {
+                    performAllowing(new Request("DELETE", "/" + generation), 404);
+                    logger.info("Dropped old generation " + generation);
+                }
+            }
+        } catch (DataPersistenceException e) {
+            logger.log(Level.WARNING, "Could not drop old generations of " + MARKETS_INDEX, e);
+        }
+    }
+
+    private boolean exists(String index) {
+        return performAllowing(new Request("HEAD", "/" + index), 404).getStatusLine().getStatusCode() != 404;
+    }
+
+    private String requireRebuild() {
+        String generation = rebuildIndex;
+        if (generation == null) {
+            throw new IllegalStateException("No rebuild is running");
+        }
+        return generation;
+    }
+
+    private void putRefreshInterval(String interval) {
+        Request request = new Request("PUT", "/" + MARKETS_INDEX + "/_settings");
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("index").put("refresh_interval", interval);
+        request.setEntity(json(body));
+        perform(request);
+    }
+
+    private Response perform(Request request) {
+        return performAllowing(request, -1);
+    }
+
+    /**
+     * Performs a request, returning responses with the given status instead of failing on them.
+     */
+    private Response performAllowing(Request request, int allowedStatus) {
+        try {
+            return restClient.performRequest(request);
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == allowedStatus) {
+                return e.getResponse();
+            }
+            throw DataPersistenceException.forIndexError(MARKETS_INDEX, e);
+        } catch (IOException e) {
+            throw DataPersistenceException.forIndexError(MARKETS_INDEX, e);
+        }
+    }
+
+    private JsonNode read(Response response) {
+        try (InputStream content = response.getEntity().getContent()) {
+            return objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw DataPersistenceException.forIndexError(MARKETS_INDEX, e);
+        }
+    }
+
+    private StringEntity json(JsonNode body) {
+        return new StringEntity(body.toString(), ContentType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,43 @@
+package com.venherak.polymarket.infrastructure.persistence.index;
+
+/**
+ * Manages the settings and generations of the markets store around bulk writes.
+ */
+public interface MarketIndexManager {
+
+    /**
+     * Stops periodic refreshes while a sync writes, so segments are not flushed for every few
+     * hundred documents. Calls nest: refreshes stay off until every call has been matched by
+     * {@link #resumeRefresh()}.
+     */
+    void suspendRefresh();
+
+    /**
+     * Restores the periodic refresh once no sync is writing any more, and refreshes right away
+     * so the written markets are visible to searches.
+     */
+    void resumeRefresh();
+
+    /**
+     * Starts a rebuild: until it is committed or aborted, markets written by the indexer go into
+     * a new, empty generation, while readers keep seeing the current one.
+     */
+    void beginRebuild();
+
+    /**
+     * Makes the markets written since {@link #beginRebuild()} visible and counts them.
+     *
+     * @return number of markets in the new generation
+     */
+    long rebuildCount();
+
+    /**
+     * Switches readers to the new generation in one step and drops the older ones.
+     */
+    void commitRebuild();
+
+    /**
+     * Drops the new generation; readers keep the current one. Does nothing without a rebuild.
+     */
+    void abortRebuild();
+}
@@ -0,0 +1,149 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketAggregator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Computes market statistics in one pass over the in-memory repository, with the bucket
+ * semantics of the Elasticsearch aggregations: histograms without gaps between the lowest and
+ * highest bucket, and terms ordered by count, then key.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryMarketAggregator implements MarketAggregator {
+
+    private final InMemoryMarketDocumentRepository repository;
+    private final double priceInterval;
+    private final double multiplierInterval;
+    private final int termsSize;
+
+    public InMemoryMarketAggregator(
+            InMemoryMarketDocumentRepository repository,
+            @Value("${polymarket.stats.price-interval:0.1}") double priceInterval,
+            @Value("${polymarket.stats.multiplier-interval:0.5}") double multiplierInterval,
+            @Value("${polymarket.stats.terms-size:50}") int termsSize) {
+        this.repository = repository;
+        this.priceInterval = priceInterval;
+        this.multiplierInterval = multiplierInterval;
+        this.termsSize = termsSize;
+    }
+
+    @Override
+    public MarketStats aggregate() {
+        long total = 0;
+        long active = 0;
+        long closed = 0;
+        long archived = 0;
+        long activeOpen = 0;
+        long withRewards = 0;
+        long activeWithRewards = 0;
+        Histogram prices = new Histogram(priceInterval);
+        Histogram multipliers = new Histogram(multiplierInterval);
+        Map<String, Long> tags = new HashMap<>();
+        Map<Integer, Long> rewardEpochs = new HashMap<>();
+
+        for (MarketDocument document : repository.findAll()) {
+            boolean isActive = Boolean.TRUE.equals(document.getActive());
+            RewardsDocument rewards = document.getRewards();
+            total++;
+            active += isActive ? 1 : 0;
+            closed += Boolean.TRUE.equals(document.getClosed()) ? 1 : 0;
+            archived += Boolean.TRUE.equals(document.getArchived()) ? 1 : 0;
+            activeOpen += isActive && Boolean.FALSE.equals(document.getClosed()) ? 1 : 0;
+            withRewards += rewards != null ? 1 : 0;
+            activeWithRewards += isActive && rewards != null ? 1 : 0;
+
+            if (document.getTokens() != null) {
+                for (TokenDocument token : document.getTokens()) {
+                    if (token != null && token.getPrice() != null) {
+                        prices.add(token.getPrice());
+                    }
+                }
+            }
+            if (rewards != null && rewards.getInGameMultiplier() != null) {
+                multipliers.add(rewards.getInGameMultiplier());
+            }
+            if (rewards != null && rewards.getRewardEpoch() != null) {
+                rewardEpochs.merge(rewards.getRewardEpoch(), 1L, Long::sum);
+            }
+            if (document.getTags() != null) {
+                document.getTags().stream().filter(tag -> tag != null).distinct()
+                        .forEach(tag -> tags.merge(tag, 1L, Long::sum));
+            }
+        }
+
+        return new MarketStats(total, active, closed, archived, activeOpen, withRewards, activeWithRewards,
+                prices.buckets(0.0, 1.0), multipliers.buckets(null, null),
+                top(tags), top(rewardEpochs), Instant.now());
+    }
+
+    private <K extends Comparable<K>> Map<K, Long> top(Map<K, Long> counts) {
+        Map<K, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(termsSize)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    /**
+     * Counts values per bucket of a fixed width, keyed by the bucket index.
+     */
+    private static final class Histogram {
+
+        private final double interval;
+        private final TreeMap<Long, Long> counts = new TreeMap<>();
+
+        Histogram(double interval) {
+            this.interval = interval;
+        }
+
+        void add(double value) {
+            counts.merge(index(value), 1L, Long::sum);
+        }
+
+        /**
+         * Returns all buckets from the lowest to the highest one that has values, widened to
+         * the given bounds like the {@code extended_bounds} of an Elasticsearch histogram.
+         */
+        List<MarketStats.HistogramBucket> buckets(Double min, Double max) {
+            List<MarketStats.HistogramBucket> buckets = new ArrayList<>();
+            if (counts.isEmpty() && (min == null || max == null)) {
+                return buckets;
+            }
+            long first = counts.isEmpty() ? index(min) : counts.firstKey();
+            long last = counts.isEmpty() ? index(max) : counts.lastKey();
+            if (min != null) {
+                first = Math.min(first, index(min));
+            }
+            if (max != null) {
+                last = Math.max(last, index(max));
+            }
+            for (long index = first; index <= last; index++) {
+                double from = index * interval;
+                buckets.add(new MarketStats.HistogramBucket(from, from + interval, counts.getOrDefault(index, 0L)));
+            }
+            return buckets;
+        }
+
+        private long index(double value) {
+            return (long) Math.floor(value / interval);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkItemResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.MarketDocumentIndexer;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Indexes market documents into the {@link InMemoryMarketDocumentRepository}, or into the
+ * generation being rebuilt, reporting results the way the Elasticsearch bulk indexer does:
+ * one request per call, every item either "created" or "updated".
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryMarketDocumentIndexer implements MarketDocumentIndexer {
+
+    private final InMemoryMarketIndexManager indexManager;
+
+    public InMemoryMarketDocumentIndexer(InMemoryMarketIndexManager indexManager) {
+        this.indexManager = indexManager;
+    }
+
+    @Override
+    public BulkIndexResult index(Collection<MarketDocument> documents) {
+        BulkIndexResult result = new BulkIndexResult();
+        if (documents.isEmpty()) {
+            return result;
+        }
+
+        long start = System.nanoTime();
+        List<MarketDocument> batch = List.copyOf(documents);
+        boolean[] updated = indexManager.writeRepository().saveAllReportingUpdates(batch);
+        result.addRequest(0, System.nanoTime() - start);
+        for (int i = 0; i < updated.length; i++) {
+            result.addItem(updated[i]
+                    ? new BulkItemResult(batch.get(i).getId(), 200, "updated", null, 1)
+                    : new BulkItemResult(batch.get(i).getId(), 201, "created", null, 1));
+        }
+        return result;
+    }
+}
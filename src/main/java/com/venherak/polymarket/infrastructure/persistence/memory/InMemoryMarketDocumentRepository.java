@@ -0,0 +1,464 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.repository.MarketDocumentRepository;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory implementation of {@link MarketDocumentRepository}, used instead of Elasticsearch
+ * with the {@code in-memory} profile so tests and benchmarks run without external services.
+ * <p>
+ * Documents are kept in ID order. The derived queries answer from the secondary indexes in
+ * {@link MarketDocumentIndex}; only the full-text {@code Containing} queries on question and
+ * description scan all documents, matching case-insensitively. Results are returned in ID order.
+ * Writes are visible immediately, so the {@link RefreshPolicy} arguments are ignored.
+ * <p>
+ * Documents are stored and returned as they are, not copied; callers must not modify a
+ * document after saving it or after reading it.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryMarketDocumentRepository implements MarketDocumentRepository {
+
+    private final NavigableMap<String, MarketDocument> documents = new TreeMap<>();
+    private final MarketDocumentIndex index = new MarketDocumentIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public Optional<MarketDocument> findByConditionId(String conditionId) {
+        return first(() -> index.conditionId(conditionId));
+    }
+
+    @Override
+    public Optional<MarketDocument> findByMarketSlug(String marketSlug) {
+        return first(() -> index.marketSlug(marketSlug));
+    }
+
+    @Override
+    public Optional<MarketDocument> findFirstByTokensTokenId(String tokenId) {
+        return first(() -> index.tokenId(tokenId));
+    }
+
+    @Override
+    public List<MarketDocument> findByActiveTrue() {
+        return resolve(index::active);
+    }
+
+    @Override
+    public List<MarketDocument> findByClosedFalse() {
+        return resolve(index::notClosed);
+    }
+
+    @Override
+    public long countByActiveTrue() {
+        return read(() -> (long) index.active().size());
+    }
+
+    @Override
+    public List<MarketDocument> findByQuestionContaining(String question) {
+        return scan(document -> containsIgnoreCase(document.getQuestion(), question));
+    }
+
+    @Override
+    public List<MarketDocument> findByDescriptionContaining(String description) {
+        return scan(document -> containsIgnoreCase(document.getDescription(), description));
+    }
+
+    @Override
+    public List<MarketDocument> findByActiveTrueAndClosedFalse() {
+        return resolve(() -> MarketDocumentIndex.intersect(index.active(), index.notClosed()));
+    }
+
+    @Override
+    public List<MarketDocument> findByRewardsIsNotNull() {
+        return resolve(index::withRewards);
+    }
+
+    @Override
+    public List<MarketDocument> findByRewardsInGameMultiplierGreaterThan(Double multiplier) {
+        return resolve(() -> index.inGameMultiplierGreaterThan(multiplier));
+    }
+
+    @Override
+    public List<MarketDocument> findByRewardsInGameMultiplierBetween(Double minMultiplier, Double maxMultiplier) {
+        return resolve(() -> index.inGameMultiplierBetween(minMultiplier, maxMultiplier));
+    }
+
+    @Override
+    public List<MarketDocument> findByActiveTrueAndRewardsIsNotNull() {
+        return resolve(() -> MarketDocumentIndex.intersect(index.active(), index.withRewards()));
+    }
+
+    @Override
+    public List<MarketDocument> findByRewardsMinSizeGreaterThan(Integer minSize) {
+        return resolve(() -> index.rewardsMinSizeGreaterThan(minSize));
+    }
+
+    @Override
+    public List<MarketDocument> findByRewardsRewardEpoch(Integer epoch) {
+        return resolve(() -> index.rewardEpoch(epoch));
+    }
+
+    @Override
+    public List<MarketDocument> findByTokensOutcome(String outcome) {
+        return resolve(() -> index.tokenOutcome(outcome));
+    }
+
+    @Override
+    public List<MarketDocument> findByTokensPriceGreaterThan(Double price) {
+        return resolve(() -> index.tokenPriceGreaterThan(price));
+    }
+
+    @Override
+    public List<MarketDocument> findByTokensWinnerTrue() {
+        return resolve(index::withWinningToken);
+    }
+
+    @Override
+    public List<MarketDocument> findByTag(String tag) {
+        return resolve(() -> index.tag(tag));
+    }
+
+    @Override
+    public List<MarketDocument> findByTagsContaining(String tag) {
+        return resolve(() -> index.tagContaining(tag));
+    }
+
+    // Source filtering saves nothing in memory; the summary finders return the full documents
+
+    @Override
+    public List<MarketDocument> findSummariesByActiveTrueAndClosedFalse() {
+        return findByActiveTrueAndClosedFalse();
+    }
+
+    @Override
+    public List<MarketDocument> findSummariesByRewardsIsNotNull() {
+        return findByRewardsIsNotNull();
+    }
+
+    @Override
+    public List<MarketDocument> findSummariesByTag(String tag) {
+        return findByTag(tag);
+    }
+
+    @Override
+    public List<MarketDocument> findSummariesByTokensPriceGreaterThan(Double price) {
+        return findByTokensPriceGreaterThan(price);
+    }
+
+    @Override
+    public Optional<MarketDocument> findTokensByConditionId(String conditionId) {
+        return findByConditionId(conditionId);
+    }
+
+    @Override
+    public long countByRewardsIsNotNull() {
+        return read(() -> (long) index.withRewards().size());
+    }
+
+    @Override
+    public long countByActiveTrueAndRewardsIsNotNull() {
+        return read(() -> MarketDocumentIndex.countIntersection(index.active(), index.withRewards()));
+    }
+
+    @Override
+    public <S extends MarketDocument> S save(S entity) {
+        lock.writeLock().lock();
+        try {
+            store(entity);
+            return entity;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public <S extends MarketDocument> S save(S entity, RefreshPolicy refreshPolicy) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends MarketDocument> Iterable<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            for (S entity : entities) {
+                store(entity);
+                saved.add(entity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends MarketDocument> Iterable<S> saveAll(Iterable<S> entities, RefreshPolicy refreshPolicy) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public Optional<MarketDocument> findById(String id) {
+        return read(() -> Optional.ofNullable(documents.get(id)));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return read(() -> documents.containsKey(id));
+    }
+
+    @Override
+    public Iterable<MarketDocument> findAll() {
+        return read(() -> List.copyOf(documents.values()));
+    }
+
+    @Override
+    public Iterable<MarketDocument> findAll(Sort sort) {
+        List<MarketDocument> all = read(() -> new ArrayList<>(documents.values()));
+        all.sort(comparator(sort));
+        return all;
+    }
+
+    @Override
+    public Page<MarketDocument> findAll(Pageable pageable) {
+        List<MarketDocument> all = read(() -> new ArrayList<>(documents.values()));
+        all.sort(comparator(pageable.getSort()));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all);
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    @Override
+    public Iterable<MarketDocument> findAllById(Iterable<String> ids) {
+        return read(() -> {
+            List<MarketDocument> found = new ArrayList<>();
+            for (String id : ids) {
+                MarketDocument document = documents.get(id);
+                if (document != null) {
+                    found.add(document);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public long count() {
+        return read(() -> (long) documents.size());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        lock.writeLock().lock();
+        try {
+            if (documents.remove(id) != null) {
+                index.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id, RefreshPolicy refreshPolicy) {
+        deleteById(id);
+    }
+
+    @Override
+    public void delete(MarketDocument entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void delete(MarketDocument entity, RefreshPolicy refreshPolicy) {
+        delete(entity);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids, RefreshPolicy refreshPolicy) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends MarketDocument> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends MarketDocument> entities, RefreshPolicy refreshPolicy) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAll() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            index.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(RefreshPolicy refreshPolicy) {
+        deleteAll();
+    }
+
+    /**
+     * Not supported: more-like-this relevance scoring has no in-memory equivalent.
+     */
+    @Override
+    public Page<MarketDocument> searchSimilar(MarketDocument entity, String[] fields, Pageable pageable) {
+        throw new UnsupportedOperationException("searchSimilar is not supported by the in-memory repository");
+    }
+
+    /**
+     * Saves documents and reports which of them replaced an existing document.
+     *
+     * @param entities documents to save
+     * @return for each document in order, true if it replaced one with the same ID
+     */
+    boolean[] saveAllReportingUpdates(List<MarketDocument> entities) {
+        boolean[] updated = new boolean[entities.size()];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < updated.length; i++) {
+                updated[i] = store(entities.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return updated;
+    }
+
+    /**
+     * Replaces all documents with those of another repository in one step, so readers see
+     * either the old or the new contents.
+     *
+     * @param source repository holding the new contents
+     */
+    void replaceWith(InMemoryMarketDocumentRepository source) {
+        List<MarketDocument> replacement = source.findAfter(null, Integer.MAX_VALUE);
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            index.clear();
+            replacement.forEach(this::store);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns documents in ID order, starting after the given ID.
+     *
+     * @param afterId ID of the last document already returned, or null to start at the beginning
+     * @param limit   maximum number of documents
+     * @return the documents
+     */
+    List<MarketDocument> findAfter(String afterId, int limit) {
+        return read(() -> {
+            Collection<MarketDocument> tail = afterId == null ? documents.values() : documents.tailMap(afterId, false).values();
+            List<MarketDocument> page = new ArrayList<>(Math.min(limit, tail.size()));
+            for (MarketDocument document : tail) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(document);
+            }
+            return page;
+        });
+    }
+
+    private boolean store(MarketDocument document) {
+        if (document.getId() == null) {
+            // Elasticsearch generates an ID for documents saved without one
+            document.setId(UUID.randomUUID().toString());
+        }
+        boolean replaced = documents.put(document.getId(), document) != null;
+        index.add(document);
+        return replaced;
+    }
+
+    private Optional<MarketDocument> first(Supplier<Set<String>> ids) {
+        return read(() -> {
+            Set<String> matches = ids.get();
+            return matches.isEmpty() ? Optional.empty() : Optional.of(documents.get(matches.iterator().next()));
+        });
+    }
+
+    private List<MarketDocument> resolve(Supplier<Set<String>> ids) {
+        return read(() -> {
+            Set<String> matches = ids.get();
+            List<MarketDocument> result = new ArrayList<>(matches.size());
+            for (String id : matches) {
+                result.add(documents.get(id));
+            }
+            return result;
+        });
+    }
+
+    private List<MarketDocument> scan(Predicate<MarketDocument> filter) {
+        return read(() -> documents.values().stream().filter(filter).toList());
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsIgnoreCase(String value, String text) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(text.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Orders documents by the sort properties, nulls last, then by ID.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<MarketDocument> comparator(Sort sort) {
+        Comparator<MarketDocument> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Function<MarketDocument, Comparable> property = document ->
+                    (Comparable) new BeanWrapperImpl(document).getPropertyValue(order.getProperty());
+            Comparator<Comparable> values = order.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            comparator = comparator.thenComparing(property, Comparator.nullsLast(values));
+        }
+        return comparator.thenComparing(MarketDocument::getId);
+    }
+}
@@ -0,0 +1,111 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentPage;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scans the {@link InMemoryMarketDocumentRepository} in ID order.
+ * A cursor is the encoded ID of the last returned document, so unlike an Elasticsearch point
+ * in time it never expires, and documents written during a scan show up if they sort later.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryMarketDocumentScanner implements MarketDocumentScanner {
+
+    private final InMemoryMarketDocumentRepository repository;
+    private final int batchSize;
+
+    public InMemoryMarketDocumentScanner(
+            InMemoryMarketDocumentRepository repository,
+            @Value("${polymarket.elasticsearch.scan.batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Stream<MarketDocument> streamAll() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new BatchIterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Streams the complete documents; there is nothing to save by loading fewer fields.
+     */
+    @Override
+    public Stream<MarketDocument> streamFingerprints() {
+        return streamAll();
+    }
+
+    @Override
+    public MarketDocumentPage page(String cursor, int size) {
+        List<MarketDocument> documents = repository.findAfter(cursor != null ? decode(cursor) : null, size);
+        if (documents.size() < size) {
+            return new MarketDocumentPage(documents, null);
+        }
+        return new MarketDocumentPage(documents, encode(documents.get(documents.size() - 1).getId()));
+    }
+
+    private static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Fetches the next batch whenever the current one is used up.
+     */
+    private final class BatchIterator implements Iterator<MarketDocument> {
+
+        private Iterator<MarketDocument> batch = List.<MarketDocument>of().iterator();
+        private String lastId;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (batch.hasNext()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+
+            List<MarketDocument> documents = repository.findAfter(lastId, batchSize);
+            if (documents.size() < batchSize) {
+                exhausted = true;
+            }
+            if (documents.isEmpty()) {
+                return false;
+            }
+            lastId = documents.get(documents.size() - 1).getId();
+            batch = documents.iterator();
+            return true;
+        }
+
+        @Override
+        public MarketDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.next();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.index.MarketIndexManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * The in-memory repository makes every write visible immediately, so there is no refresh to
+ * suspend or resume. A rebuild fills a separate repository whose contents replace the live
+ * ones on commit.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryMarketIndexManager implements MarketIndexManager {
+
+    private final InMemoryMarketDocumentRepository repository;
+
+    private volatile InMemoryMarketDocumentRepository rebuild;
+
+    public InMemoryMarketIndexManager(InMemoryMarketDocumentRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void suspendRefresh() {
+    }
+
+    @Override
+    public void resumeRefresh() {
+    }
+
+    @Override
+    public synchronized void beginRebuild() {
+        if (rebuild != null) {
+            throw new IllegalStateException("A rebuild is already running");
+        }
+        rebuild = new InMemoryMarketDocumentRepository();
+    }
+
+    @Override
+    public long rebuildCount() {
+        return requireRebuild().count();
+    }
+
+    @Override
+    public synchronized void commitRebuild() {
+        repository.replaceWith(requireRebuild());
+        rebuild = null;
+    }
+
+    @Override
+    public synchronized void abortRebuild() {
+        rebuild = null;
+    }
+
+    /**
+     * Returns the repository bulk writes go to: the one being rebuilt, or the live one.
+     *
+     * @return repository to write to
+     */
+    InMemoryMarketDocumentRepository writeRepository() {
+        InMemoryMarketDocumentRepository target = rebuild;
+        return target != null ? target : repository;
+    }
+
+    private InMemoryMarketDocumentRepository requireRebuild() {
+        InMemoryMarketDocumentRepository target = rebuild;
+        if (target == null) {
+            throw new IllegalStateException("No rebuild is running");
+        }
+        return target;
+    }
+}
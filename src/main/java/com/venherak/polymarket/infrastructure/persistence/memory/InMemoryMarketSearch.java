@@ -0,0 +1,48 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketCriteria;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketSearch;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketSearchHits;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Evaluates {@link MarketCriteria} with a filter over all documents of the in-memory repository.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryMarketSearch implements MarketSearch {
+
+    private final InMemoryMarketDocumentRepository repository;
+
+    public InMemoryMarketSearch(InMemoryMarketDocumentRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public MarketSearchHits search(MarketCriteria criteria) {
+        List<MarketDocument> matches = matches(criteria).sorted(criteria.comparator()).toList();
+        int from = Math.min(criteria.page() * criteria.size(), matches.size());
+        int to = Math.min(from + criteria.size(), matches.size());
+        return new MarketSearchHits(matches.subList(from, to), matches.size());
+    }
+
+    @Override
+    public Stream<MarketDocument> stream(MarketCriteria criteria) {
+        return matches(criteria).sorted(criteria.comparator());
+    }
+
+    @Override
+    public long count(MarketCriteria criteria) {
+        return matches(criteria).count();
+    }
+
+    private Stream<MarketDocument> matches(MarketCriteria criteria) {
+        return StreamSupport.stream(repository.findAll().spliterator(), false).filter(criteria::matches);
+    }
+}
@@ -0,0 +1,65 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.infrastructure.persistence.history.PriceHistoryStore;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps price history in memory, per token in time order. Like the time series data stream,
+ * a second observation of a token at the same instant is rejected, and there is no retention.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryPriceHistoryStore implements PriceHistoryStore {
+
+    private final Map<String, NavigableMap<Instant, PriceObservation>> observations = new HashMap<>();
+    private final Map<String, NavigableMap<Instant, PriceBar>> bars = new HashMap<>();
+
+    @Override
+    public synchronized void append(List<PriceObservation> newObservations) {
+        for (PriceObservation observation : newObservations) {
+            observations.computeIfAbsent(observation.tokenId(), tokenId -> new TreeMap<>())
+                    .putIfAbsent(observation.timestamp(), observation);
+        }
+    }
+
+    @Override
+    public synchronized void mergeBars(List<PriceBar> newBars) {
+        for (PriceBar bar : newBars) {
+            bars.computeIfAbsent(barKey(bar.tokenId(), bar.interval()), key -> new TreeMap<>())
+                    .merge(bar.start(), bar, PriceBar::merge);
+        }
+    }
+
+    @Override
+    public synchronized List<PriceObservation> findObservations(String tokenId, Instant from, Instant to, int limit) {
+        NavigableMap<Instant, PriceObservation> series = observations.get(tokenId);
+        if (series == null) {
+            return List.of();
+        }
+        return series.subMap(from, true, to, false).values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public synchronized List<PriceBar> findBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit) {
+        NavigableMap<Instant, PriceBar> series = bars.get(barKey(tokenId, interval));
+        if (series == null) {
+            return List.of();
+        }
+        return series.subMap(from, true, to, false).values().stream().limit(limit).toList();
+    }
+
+    private static String barKey(String tokenId, BarInterval interval) {
+        return tokenId + ":" + interval.code();
+    }
+}
@@ -0,0 +1,291 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Secondary indexes over the fields the repository queries filter on, each mapping a field
+ * value to the IDs of the matching documents in ID order.
+ * The indexed values of every document are kept as an {@link Entry}, so a document can be
+ * unindexed even if the stored instance was modified in the meantime.
+ * Not thread-safe; the repository guards it with its lock.
+ */
+final class MarketDocumentIndex {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final Map<String, Set<String>> byConditionId = new HashMap<>();
+    private final Map<String, Set<String>> byMarketSlug = new HashMap<>();
+    private final Map<String, Set<String>> byTokenId = new HashMap<>();
+    private final Map<String, Set<String>> byTokenOutcome = new HashMap<>();
+    private final Map<String, Set<String>> byTag = new TreeMap<>();
+    private final Map<Integer, Set<String>> byRewardEpoch = new HashMap<>();
+    private final NavigableMap<Double, Set<String>> byInGameMultiplier = new TreeMap<>();
+    private final NavigableMap<Integer, Set<String>> byRewardsMinSize = new TreeMap<>();
+    // A market has a token priced above p exactly when its highest token price is above p
+    private final NavigableMap<Double, Set<String>> byMaxTokenPrice = new TreeMap<>();
+    private final Set<String> active = new TreeSet<>();
+    private final Set<String> notClosed = new TreeSet<>();
+    private final Set<String> withRewards = new TreeSet<>();
+    private final Set<String> withWinningToken = new TreeSet<>();
+
+    /**
+     * Indexes a document, replacing the entries of a previous version with the same ID.
+     *
+     * @param document the document, with its ID set
+     */
+    void add(MarketDocument document) {
+        remove(document.getId());
+        Entry entry = Entry.of(document);
+        entries.put(entry.id(), entry);
+
+        String id = entry.id();
+        put(byConditionId, entry.conditionId(), id);
+        put(byMarketSlug, entry.marketSlug(), id);
+        entry.tokenIds().forEach(tokenId -> put(byTokenId, tokenId, id));
+        entry.tokenOutcomes().forEach(outcome -> put(byTokenOutcome, outcome, id));
+        entry.tags().forEach(tag -> put(byTag, tag, id));
+        put(byRewardEpoch, entry.rewardEpoch(), id);
+        put(byInGameMultiplier, entry.inGameMultiplier(), id);
+        put(byRewardsMinSize, entry.rewardsMinSize(), id);
+        put(byMaxTokenPrice, entry.maxTokenPrice(), id);
+        if (entry.active()) {
+            active.add(id);
+        }
+        if (entry.notClosed()) {
+            notClosed.add(id);
+        }
+        if (entry.hasRewards()) {
+            withRewards.add(id);
+        }
+        if (entry.hasWinningToken()) {
+            withWinningToken.add(id);
+        }
+    }
+
+    /**
+     * Removes all entries of a document.
+     *
+     * @param id document ID
+     */
+    void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        delete(byConditionId, entry.conditionId(), id);
+        delete(byMarketSlug, entry.marketSlug(), id);
+        entry.tokenIds().forEach(tokenId -> delete(byTokenId, tokenId, id));
+        entry.tokenOutcomes().forEach(outcome -> delete(byTokenOutcome, outcome, id));
+        entry.tags().forEach(tag -> delete(byTag, tag, id));
+        delete(byRewardEpoch, entry.rewardEpoch(), id);
+        delete(byInGameMultiplier, entry.inGameMultiplier(), id);
+        delete(byRewardsMinSize, entry.rewardsMinSize(), id);
+        delete(byMaxTokenPrice, entry.maxTokenPrice(), id);
+        active.remove(id);
+        notClosed.remove(id);
+        withRewards.remove(id);
+        withWinningToken.remove(id);
+    }
+
+    void clear() {
+        entries.clear();
+        byConditionId.clear();
+        byMarketSlug.clear();
+        byTokenId.clear();
+        byTokenOutcome.clear();
+        byTag.clear();
+        byRewardEpoch.clear();
+        byInGameMultiplier.clear();
+        byRewardsMinSize.clear();
+        byMaxTokenPrice.clear();
+        active.clear();
+        notClosed.clear();
+        withRewards.clear();
+        withWinningToken.clear();
+    }
+
+    Set<String> conditionId(String conditionId) {
+        return byConditionId.getOrDefault(conditionId, Set.of());
+    }
+
+    Set<String> marketSlug(String marketSlug) {
+        return byMarketSlug.getOrDefault(marketSlug, Set.of());
+    }
+
+    Set<String> tokenId(String tokenId) {
+        return byTokenId.getOrDefault(tokenId, Set.of());
+    }
+
+    Set<String> tokenOutcome(String outcome) {
+        return byTokenOutcome.getOrDefault(outcome, Set.of());
+    }
+
+    Set<String> rewardEpoch(Integer epoch) {
+        return byRewardEpoch.getOrDefault(epoch, Set.of());
+    }
+
+    Set<String> tag(String tag) {
+        return byTag.getOrDefault(tag, Set.of());
+    }
+
+    /**
+     * Finds documents with a tag containing the given text, like a {@code *text*} wildcard
+     * query on the keyword field. Scans the distinct tags, of which there are few.
+     */
+    Set<String> tagContaining(String text) {
+        List<Set<String>> matches = new ArrayList<>();
+        byTag.forEach((tag, ids) -> {
+            if (tag.contains(text)) {
+                matches.add(ids);
+            }
+        });
+        return union(matches);
+    }
+
+    Set<String> inGameMultiplierGreaterThan(double multiplier) {
+        return union(byInGameMultiplier.tailMap(multiplier, false).values());
+    }
+
+    Set<String> inGameMultiplierBetween(double min, double max) {
+        return min > max ? Set.of() : union(byInGameMultiplier.subMap(min, true, max, true).values());
+    }
+
+    Set<String> rewardsMinSizeGreaterThan(int minSize) {
+        return union(byRewardsMinSize.tailMap(minSize, false).values());
+    }
+
+    Set<String> tokenPriceGreaterThan(double price) {
+        return union(byMaxTokenPrice.tailMap(price, false).values());
+    }
+
+    Set<String> active() {
+        return active;
+    }
+
+    Set<String> notClosed() {
+        return notClosed;
+    }
+
+    Set<String> withRewards() {
+        return withRewards;
+    }
+
+    Set<String> withWinningToken() {
+        return withWinningToken;
+    }
+
+    /**
+     * Intersects two ID sets, probing the larger with the members of the smaller.
+     */
+    static Set<String> intersect(Set<String> first, Set<String> second) {
+        Set<String> smaller = first.size() <= second.size() ? first : second;
+        Set<String> larger = smaller == first ? second : first;
+        Set<String> result = new TreeSet<>();
+        for (String id : smaller) {
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the IDs two sets have in common without building the intersection.
+     */
+    static long countIntersection(Set<String> first, Set<String> second) {
+        Set<String> smaller = first.size() <= second.size() ? first : second;
+        Set<String> larger = smaller == first ? second : first;
+        long count = 0;
+        for (String id : smaller) {
+            if (larger.contains(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Set<String> union(Collection<Set<String>> sets) {
+        if (sets.size() == 1) {
+            return sets.iterator().next();
+        }
+        Set<String> result = new TreeSet<>();
+        sets.forEach(result::addAll);
+        return result;
+    }
+
+    private static <K> void put(Map<K, Set<String>> index, K key, String id) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private static <K> void delete(Map<K, Set<String>> index, K key, String id) {
+        if (key == null) {
+            return;
+        }
+        Set<String> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Indexed values of one document.
+     */
+    private record Entry(String id, String conditionId, String marketSlug, List<String> tokenIds,
+                         List<String> tokenOutcomes, List<String> tags, Integer rewardEpoch,
+                         Double inGameMultiplier, Integer rewardsMinSize, Double maxTokenPrice,
+                         boolean active, boolean notClosed, boolean hasRewards, boolean hasWinningToken) {
+
+        static Entry of(MarketDocument document) {
+            List<String> tokenIds = new ArrayList<>(2);
+            List<String> tokenOutcomes = new ArrayList<>(2);
+            Double maxTokenPrice = null;
+            boolean hasWinningToken = false;
+            if (document.getTokens() != null) {
+                for (TokenDocument token : document.getTokens()) {
+                    if (token == null) {
+                        continue;
+                    }
+                    if (token.getTokenId() != null) {
+                        tokenIds.add(token.getTokenId());
+                    }
+                    if (token.getOutcome() != null) {
+                        tokenOutcomes.add(token.getOutcome());
+                    }
+                    if (token.getPrice() != null && (maxTokenPrice == null || token.getPrice() > maxTokenPrice)) {
+                        maxTokenPrice = token.getPrice();
+                    }
+                    hasWinningToken |= Boolean.TRUE.equals(token.getWinner());
+                }
+            }
+
+            RewardsDocument rewards = document.getRewards();
+            List<String> tags = document.getTags() != null
+                    ? document.getTags().stream().filter(tag -> tag != null).distinct().toList()
+                    : List.of();
+            return new Entry(document.getId(), document.getConditionId(), document.getMarketSlug(),
+                    tokenIds, tokenOutcomes, tags,
+                    rewards != null ? rewards.getRewardEpoch() : null,
+                    rewards != null ? rewards.getInGameMultiplier() : null,
+                    rewards != null ? rewards.getMinSize() : null,
+                    maxTokenPrice,
+                    Boolean.TRUE.equals(document.getActive()),
+                    Boolean.FALSE.equals(document.getClosed()),
+                    rewards != null,
+                    hasWinningToken);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.venherak.polymarket.infrastructure.persistence.repository;
 
 import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.data.elasticsearch.annotations.CountQuery;
+import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.annotations.SourceFilters;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +13,8 @@ import java.util.Optional;
 /**
  * Elasticsearch repository for managing MarketDocument objects.
  * Provides search and CRUD operations for market data in Elasticsearch.
+ * Boolean and exact-match finders run as filter queries from {@link MarketFilterQueries};
+ * range and full-text finders are derived from their names.
  */
 @Repository
 public interface MarketDocumentRepository extends ElasticsearchRepository<MarketDocument, String> {
@@ -20,6 +25,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * @param conditionId the condition ID
      * @return the market document if found
      */
+    @Query(MarketFilterQueries.CONDITION_ID)
     Optional<MarketDocument> findByConditionId(String conditionId);
     
     /**
@@ -28,13 +34,24 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * @param marketSlug the market slug
      * @return the market document if found
      */
+    @Query(MarketFilterQueries.MARKET_SLUG)
     Optional<MarketDocument> findByMarketSlug(String marketSlug);
     
+    /**
+     * Find the market that has a token with the given token ID.
+     * 
+     * @param tokenId the token ID
+     * @return the market document if found
+     */
+    @Query(MarketFilterQueries.TOKEN_ID)
+    Optional<MarketDocument> findFirstByTokensTokenId(String tokenId);
+    
     /**
      * Find all active markets.
      * 
      * @return list of active markets
      */
+    @Query(MarketFilterQueries.ACTIVE)
     List<MarketDocument> findByActiveTrue();
     
     /**
@@ -42,6 +59,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return list of markets that are not closed
      */
+    @Query(MarketFilterQueries.NOT_CLOSED)
     List<MarketDocument> findByClosedFalse();
     
     /**
@@ -49,6 +67,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return count of active markets
      */
+    @CountQuery(MarketFilterQueries.ACTIVE)
     long countByActiveTrue();
     
     /**
@@ -74,6 +93,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * @param closed whether the market is closed
      * @return list of markets matching the criteria
      */
+    @Query(MarketFilterQueries.ACTIVE_AND_NOT_CLOSED)
     List<MarketDocument> findByActiveTrueAndClosedFalse();
     
     /**
@@ -81,6 +101,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return list of markets that have rewards
      */
+    @Query(MarketFilterQueries.WITH_REWARDS)
     List<MarketDocument> findByRewardsIsNotNull();
     
     /**
@@ -105,6 +126,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return list of active markets that have rewards
      */
+    @Query(MarketFilterQueries.ACTIVE_WITH_REWARDS)
     List<MarketDocument> findByActiveTrueAndRewardsIsNotNull();
     
     /**
@@ -121,6 +143,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * @param epoch the reward epoch
      * @return list of markets in the specified reward epoch
      */
+    @Query(MarketFilterQueries.REWARD_EPOCH)
     List<MarketDocument> findByRewardsRewardEpoch(Integer epoch);
     
     /**
@@ -129,6 +152,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * @param outcome the token outcome to search for
      * @return list of markets with tokens having the specified outcome
      */
+    @Query(MarketFilterQueries.TOKEN_OUTCOME)
     List<MarketDocument> findByTokensOutcome(String outcome);
     
     /**
@@ -144,14 +168,25 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return list of markets that have winning tokens
      */
+    @Query(MarketFilterQueries.WINNING_TOKEN)
     List<MarketDocument> findByTokensWinnerTrue();
     
     /**
-     * Find markets by tag.
+     * Find markets with a tag.
      * 
-     * @param tag the tag to search for
+     * @param tag the exact tag
      * @return list of markets with the specified tag
      */
+    @Query(MarketFilterQueries.TAG)
+    List<MarketDocument> findByTag(String tag);
+    
+    /**
+     * Find markets with a tag containing the given text. Runs as a wildcard query on the
+     * keyword field, which visits every distinct tag; prefer {@link #findByTag} for exact tags.
+     * 
+     * @param tag the text to search for
+     * @return list of markets with a matching tag
+     */
     List<MarketDocument> findByTagsContaining(String tag);
     
     /**
@@ -159,6 +194,7 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return number of markets that have rewards
      */
+    @CountQuery(MarketFilterQueries.WITH_REWARDS)
     long countByRewardsIsNotNull();
     
     /**
@@ -166,5 +202,53 @@ public interface MarketDocumentRepository extends ElasticsearchRepository<Market
      * 
      * @return number of active markets that have rewards
      */
+    @CountQuery(MarketFilterQueries.ACTIVE_WITH_REWARDS)
     long countByActiveTrueAndRewardsIsNotNull();
-}
\ No newline at end of file
+    
+    /**
+     * Find active and open markets, loading only the fields of a market summary.
+     * 
+     * @return list of partially loaded market documents
+     */
+    @Query(MarketFilterQueries.ACTIVE_AND_NOT_CLOSED)
+    @MarketSummaryFields
+    List<MarketDocument> findSummariesByActiveTrueAndClosedFalse();
+    
+    /**
+     * Find markets with rewards, loading only the fields of a market summary.
+     * 
+     * @return list of partially loaded market documents
+     */
+    @Query(MarketFilterQueries.WITH_REWARDS)
+    @MarketSummaryFields
+    List<MarketDocument> findSummariesByRewardsIsNotNull();
+    
+    /**
+     * Find markets with a tag, loading only the fields of a market summary.
+     * 
+     * @param tag the exact tag
+     * @return list of partially loaded market documents
+     */
+    @Query(MarketFilterQueries.TAG)
+    @MarketSummaryFields
+    List<MarketDocument> findSummariesByTag(String tag);
+    
+    /**
+     * Find markets with token price greater than specified value, loading only the fields of a market summary.
+     * 
+     * @param price the minimum token price
+     * @return list of partially loaded market documents
+     */
+    @MarketSummaryFields
+    List<MarketDocument> findSummariesByTokensPriceGreaterThan(Double price);
+    
+    /**
+     * Find the tokens of a market by its condition ID, loading nothing else.
+     * 
+     * @param conditionId the condition ID
+     * @return the market document with only its tokens, if found
+     */
+    @Query(MarketFilterQueries.CONDITION_ID)
+    @SourceFilters(includes = "tokens")
+    Optional<MarketDocument> findTokensByConditionId(String conditionId);
+}
@@ -0,0 +1,54 @@
+package com.venherak.polymarket.infrastructure.persistence.repository;
+
+/**
+ * Query bodies for the boolean and exact-match finders of {@link MarketDocumentRepository}.
+ * Derived finders compile to scored clauses in query context, and {@code Containing} on a keyword
+ * field to a wildcard. These bodies put {@code term} clauses into the filter context of a bool
+ * query instead: no scores are computed and the node query cache can reuse the matching documents
+ * per segment. Token fields are matched through a nested query without scoring, so every clause
+ * applies to a single token. {@code ?0} is replaced with the first method argument.
+ */
+final class MarketFilterQueries {
+
+    static final String CONDITION_ID = """
+            {"bool": {"filter": [{"term": {"conditionId": "?0"}}]}}""";
+
+    static final String MARKET_SLUG = """
+            {"bool": {"filter": [{"term": {"marketSlug": "?0"}}]}}""";
+
+    static final String TOKEN_ID = """
+            {"bool": {"filter": [{"nested": {"path": "tokens", "score_mode": "none",
+                "query": {"term": {"tokens.tokenId": "?0"}}}}]}}""";
+
+    static final String TOKEN_OUTCOME = """
+            {"bool": {"filter": [{"nested": {"path": "tokens", "score_mode": "none",
+                "query": {"term": {"tokens.outcome": "?0"}}}}]}}""";
+
+    static final String WINNING_TOKEN = """
+            {"bool": {"filter": [{"nested": {"path": "tokens", "score_mode": "none",
+                "query": {"term": {"tokens.winner": true}}}}]}}""";
+
+    static final String ACTIVE = """
+            {"bool": {"filter": [{"term": {"active": true}}]}}""";
+
+    static final String NOT_CLOSED = """
+            {"bool": {"filter": [{"term": {"closed": false}}]}}""";
+
+    static final String ACTIVE_AND_NOT_CLOSED = """
+            {"bool": {"filter": [{"term": {"active": true}}, {"term": {"closed": false}}]}}""";
+
+    static final String WITH_REWARDS = """
+            {"bool": {"filter": [{"exists": {"field": "rewards"}}]}}""";
+
+    static final String ACTIVE_WITH_REWARDS = """
+            {"bool": {"filter": [{"term": {"active": true}}, {"exists": {"field": "rewards"}}]}}""";
+
+    static final String REWARD_EPOCH = """
+            {"bool": {"filter": [{"term": {"rewards.rewardEpoch": ?0}}]}}""";
+
+    static final String TAG = """
+            {"bool": {"filter": [{"term": {"tags": "?0"}}]}}""";
+
+    private MarketFilterQueries() {
+    }
+}
@@ -0,0 +1,22 @@
+package com.venherak.polymarket.infrastructure.persistence.repository;
+
+import org.springframework.data.elasticsearch.annotations.SourceFilters;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the {@code _source} returned for a repository query to the fields of a
+ * {@link com.venherak.polymarket.domain.model.MarketSummary}. Fields outside the list,
+ * such as the description and reward rates, are null in the returned documents.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@SourceFilters(includes = {
+        "conditionId", "marketSlug", "question", "endDate",
+        "active", "closed", "archived", "acceptingOrders",
+        "rewards.inGameMultiplier", "tokens"})
+@interface MarketSummaryFields {
+}
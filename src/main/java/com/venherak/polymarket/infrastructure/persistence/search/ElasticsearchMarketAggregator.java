@@ -0,0 +1,130 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.FiltersBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes market statistics with a single search of size 0: a filters aggregation for the
+ * status counts, terms aggregations per tag and reward epoch, and histograms of the reward
+ * multiplier and, through a nested aggregation, of the token prices.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchMarketAggregator implements MarketAggregator {
+
+    private static final String STATUS = "status";
+    private static final String TAGS = "tags";
+    private static final String REWARD_EPOCHS = "reward_epochs";
+    private static final String MULTIPLIERS = "multipliers";
+    private static final String TOKENS = "tokens";
+    private static final String PRICES = "prices";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final double priceInterval;
+    private final double multiplierInterval;
+    private final int termsSize;
+
+    public ElasticsearchMarketAggregator(
+            ElasticsearchOperations elasticsearchOperations,
+            @Value("${polymarket.stats.price-interval:0.1}") double priceInterval,
+            @Value("${polymarket.stats.multiplier-interval:0.5}") double multiplierInterval,
+            @Value("${polymarket.stats.terms-size:50}") int termsSize) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.priceInterval = priceInterval;
+        this.multiplierInterval = multiplierInterval;
+        this.termsSize = termsSize;
+    }
+
+    @Override
+    public MarketStats aggregate() {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(QueryBuilders.matchAll(m -> m))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .withAggregation(STATUS, statusAggregation())
+                .withAggregation(TAGS, Aggregation.of(a -> a.terms(t -> t.field("tags").size(termsSize))))
+                .withAggregation(REWARD_EPOCHS, Aggregation.of(a -> a.terms(t -> t.field("rewards.rewardEpoch").size(termsSize))))
+                .withAggregation(MULTIPLIERS, Aggregation.of(a -> a.histogram(h -> h
+                        .field("rewards.inGameMultiplier")
+                        .interval(multiplierInterval)
+                        .minDocCount(0))))
+                .withAggregation(TOKENS, Aggregation.of(a -> a
+                        .nested(n -> n.path(MarketQueries.TOKENS_PATH))
+                        .aggregations(PRICES, p -> p.histogram(h -> h
+                                .field(MarketQueries.TOKENS_PATH + ".price")
+                                .interval(priceInterval)
+                                .minDocCount(0)
+                                .extendedBounds(b -> b.min(0.0).max(1.0))))))
+                .build();
+        SearchHits<MarketDocument> hits = elasticsearchOperations.search(query, MarketDocument.class);
+        Map<String, Aggregate> aggregates = aggregates(hits);
+
+        Map<String, FiltersBucket> status = aggregates.get(STATUS).filters().buckets().keyed();
+        Map<String, Long> tags = new LinkedHashMap<>();
+        aggregates.get(TAGS).sterms().buckets().array()
+                .forEach(bucket -> tags.put(bucket.key().stringValue(), bucket.docCount()));
+        Map<Integer, Long> rewardEpochs = new LinkedHashMap<>();
+        aggregates.get(REWARD_EPOCHS).lterms().buckets().array()
+                .forEach(bucket -> rewardEpochs.put((int) bucket.key(), bucket.docCount()));
+
+        return new MarketStats(
+                hits.getTotalHits(),
+                status.get("active").docCount(),
+                status.get("closed").docCount(),
+                status.get("archived").docCount(),
+                status.get("active_open").docCount(),
+                status.get("with_rewards").docCount(),
+                status.get("active_with_rewards").docCount(),
+                histogram(aggregates.get(TOKENS).nested().aggregations().get(PRICES), priceInterval),
+                histogram(aggregates.get(MULTIPLIERS), multiplierInterval),
+                tags,
+                rewardEpochs,
+                Instant.now());
+    }
+
+    private static Aggregation statusAggregation() {
+        Query active = MarketQueries.term("active", true);
+        Query withRewards = QueryBuilders.exists(e -> e.field("rewards"));
+        Map<String, Query> filters = new LinkedHashMap<>();
+        filters.put("active", active);
+        filters.put("closed", MarketQueries.term("closed", true));
+        filters.put("archived", MarketQueries.term("archived", true));
+        filters.put("active_open", QueryBuilders.bool(b -> b.filter(active, MarketQueries.term("closed", false))));
+        filters.put("with_rewards", withRewards);
+        filters.put("active_with_rewards", QueryBuilders.bool(b -> b.filter(active, withRewards)));
+        return Aggregation.of(a -> a.filters(f -> f.filters(b -> b.keyed(filters))));
+    }
+
+    private static Map<String, Aggregate> aggregates(SearchHits<MarketDocument> hits) {
+        Map<String, Aggregate> aggregates = new LinkedHashMap<>();
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+        if (aggregations != null) {
+            aggregations.aggregationsAsMap().forEach((name, aggregation) ->
+                    aggregates.put(name, aggregation.aggregation().getAggregate()));
+        }
+        return aggregates;
+    }
+
+    private static List<MarketStats.HistogramBucket> histogram(Aggregate aggregate, double interval) {
+        return aggregate.histogram().buckets().array().stream()
+                .map(bucket -> new MarketStats.HistogramBucket(bucket.key(), bucket.key() + interval, bucket.docCount()))
+                .toList();
+    }
+}
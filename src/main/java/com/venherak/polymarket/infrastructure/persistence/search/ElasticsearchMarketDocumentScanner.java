@@ -0,0 +1,225 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the whole markets index in batches using a point in time (PIT) and {@code search_after}.
+ * Unlike from/size paging this is not limited by {@code index.max_result_window}, and the PIT
+ * gives every batch the same consistent view of the index even while a sync is writing to it.
+ * Batches are sorted by {@code _shard_doc}, the cheapest sort order available.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchMarketDocumentScanner implements MarketDocumentScanner {
+
+    private static final Logger logger = Logger.getLogger(ElasticsearchMarketDocumentScanner.class.getName());
+
+    private static final IndexCoordinates MARKETS_INDEX = IndexCoordinates.of("polymarket-markets");
+    private static final Sort SHARD_DOC_ORDER = Sort.by(Sort.Order.asc("_shard_doc"));
+    private static final SourceFilter FINGERPRINT_FIELDS = new FetchSourceFilter(true, new String[]{"contentHash", "archived"}, null);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration keepAlive;
+
+    public ElasticsearchMarketDocumentScanner(
+            ElasticsearchOperations elasticsearchOperations,
+            ObjectMapper objectMapper,
+            @Value("${polymarket.elasticsearch.scan.batch-size:1000}") int batchSize,
+            @Value("${polymarket.elasticsearch.scan.keep-alive:1m}") Duration keepAlive) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream must be closed to release the point in time early; otherwise it expires
+     * after the keep-alive.
+     */
+    @Override
+    public Stream<MarketDocument> streamAll() {
+        return stream(null);
+    }
+
+    @Override
+    public Stream<MarketDocument> streamFingerprints() {
+        return stream(FINGERPRINT_FIELDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The last page releases the point in time. A cursor stays valid for the keep-alive
+     * after the page that returned it.
+     */
+    @Override
+    public MarketDocumentPage page(String cursor, int size) {
+        ScanCursor position = cursor != null ? decode(cursor) : new ScanCursor(openPointInTime(), null);
+        SearchHits<MarketDocument> hits = search(position.pit(), position.after(), size, null);
+        String pit = hits.getPointInTimeId() != null ? hits.getPointInTimeId() : position.pit();
+
+        List<MarketDocument> documents = hits.getSearchHits().stream().map(SearchHit::getContent).toList();
+        if (documents.size() < size) {
+            closePointInTime(pit);
+            return new MarketDocumentPage(documents, null);
+        }
+        List<Object> after = hits.getSearchHit(documents.size() - 1).getSortValues();
+        return new MarketDocumentPage(documents, encode(new ScanCursor(pit, after)));
+    }
+
+    private Stream<MarketDocument> stream(SourceFilter sourceFilter) {
+        PointInTimeIterator iterator = new PointInTimeIterator(openPointInTime(), sourceFilter);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private SearchHits<MarketDocument> search(String pit, List<Object> after, int size, SourceFilter sourceFilter) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(m -> m))
+                .withPointInTime(new Query.PointInTime(pit, keepAlive))
+                .withSort(SHARD_DOC_ORDER)
+                .withPageable(PageRequest.of(0, size))
+                .withTrackTotalHits(false);
+        if (after != null) {
+            builder.withSearchAfter(after);
+        }
+        if (sourceFilter != null) {
+            builder.withSourceFilter(sourceFilter);
+        }
+        return elasticsearchOperations.search(builder.build(), MarketDocument.class);
+    }
+
+    private String openPointInTime() {
+        return elasticsearchOperations.openPointInTime(MARKETS_INDEX, keepAlive);
+    }
+
+    private void closePointInTime(String pit) {
+        try {
+            elasticsearchOperations.closePointInTime(pit);
+        } catch (Exception e) {
+            // Expires on its own after the keep-alive
+            logger.log(Level.FINE, "Could not close point in time: " + e.getMessage(), e);
+        }
+    }
+
+    private String encode(ScanCursor cursor) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode scan cursor", e);
+        }
+    }
+
+    private ScanCursor decode(String cursor) {
+        try {
+            ScanCursor decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), ScanCursor.class);
+            if (decoded.pit() == null || decoded.after() == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return decoded;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Position of a scan: the point in time and the sort values of the last returned document.
+     */
+    private record ScanCursor(String pit, List<Object> after) {
+    }
+
+    /**
+     * Fetches the next batch whenever the current one is used up.
+     */
+    private final class PointInTimeIterator implements Iterator<MarketDocument> {
+
+        private final SourceFilter sourceFilter;
+        private String pit;
+        private List<Object> after;
+        private Iterator<SearchHit<MarketDocument>> batch = List.<SearchHit<MarketDocument>>of().iterator();
+        private boolean exhausted;
+        private boolean closed;
+
+        private PointInTimeIterator(String pit, SourceFilter sourceFilter) {
+            this.pit = pit;
+            this.sourceFilter = sourceFilter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (batch.hasNext()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+
+            SearchHits<MarketDocument> hits = search(pit, after, batchSize, sourceFilter);
+            if (hits.getPointInTimeId() != null) {
+                pit = hits.getPointInTimeId();
+            }
+            List<SearchHit<MarketDocument>> searchHits = hits.getSearchHits();
+            if (searchHits.size() < batchSize) {
+                exhausted = true;
+                close();
+            }
+            if (searchHits.isEmpty()) {
+                return false;
+            }
+            after = searchHits.get(searchHits.size() - 1).getSortValues();
+            batch = searchHits.iterator();
+            return true;
+        }
+
+        @Override
+        public MarketDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SearchHit<MarketDocument> hit = batch.next();
+            MarketDocument document = hit.getContent();
+            if (document.getId() == null) {
+                // Not part of a filtered source
+                document.setId(hit.getId());
+            }
+            return document;
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                closePointInTime(pit);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Runs {@link MarketCriteria} as one native bool query of filter clauses.
+ */
+@Component
+@Profile("!in-memory")
+public class ElasticsearchMarketSearch implements MarketSearch {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final int batchSize;
+
+    public ElasticsearchMarketSearch(
+            ElasticsearchOperations elasticsearchOperations,
+            @Value("${polymarket.elasticsearch.scan.batch-size:1000}") int batchSize) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public MarketSearchHits search(MarketCriteria criteria) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(MarketQueries.of(criteria))
+                .withPageable(PageRequest.of(criteria.page(), criteria.size(), criteria.sort()))
+                .withTrackTotalHits(true)
+                .build();
+        SearchHits<MarketDocument> hits = elasticsearchOperations.search(query, MarketDocument.class);
+        return new MarketSearchHits(hits.getSearchHits().stream().map(SearchHit::getContent).toList(), hits.getTotalHits());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reads the matches in batches with a scroll, which the stream clears when it is closed.
+     */
+    @Override
+    public Stream<MarketDocument> stream(MarketCriteria criteria) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(MarketQueries.of(criteria))
+                .withPageable(PageRequest.of(0, batchSize, criteria.sort()))
+                .build();
+        return elasticsearchOperations.searchForStream(query, MarketDocument.class).stream().map(SearchHit::getContent);
+    }
+
+    @Override
+    public long count(MarketCriteria criteria) {
+        return elasticsearchOperations.count(NativeQuery.builder().withQuery(MarketQueries.of(criteria)).build(), MarketDocument.class);
+    }
+}
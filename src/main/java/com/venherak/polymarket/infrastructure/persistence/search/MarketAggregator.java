@@ -0,0 +1,16 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.domain.model.MarketStats;
+
+/**
+ * Computes {@link MarketStats} over all stored markets.
+ */
+public interface MarketAggregator {
+
+    /**
+     * Computes the statistics.
+     *
+     * @return the statistics
+     */
+    MarketStats aggregate();
+}
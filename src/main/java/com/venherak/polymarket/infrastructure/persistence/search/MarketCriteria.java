@@ -0,0 +1,297 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Combination of market filters with sort order and page, built with {@link #builder()}.
+ * Every filter left unset matches all markets; the set ones must all match. The Elasticsearch
+ * search compiles the criteria into a single bool query of filter clauses, which are not scored
+ * and can be cached by the node query cache, and {@link #matches(MarketDocument)} evaluates the
+ * same criteria in memory.
+ *
+ * @param active              required active flag, or null
+ * @param closed              required closed flag, or null
+ * @param archived            required archived flag, or null
+ * @param hasRewards          whether the market must have (true) or lack (false) rewards, or null
+ * @param anyTags             the market needs at least one of these tags; empty for no tag filter
+ * @param allTags             the market needs all of these tags; empty for no tag filter
+ * @param rewardEpoch         required reward epoch, or null
+ * @param minInGameMultiplier inclusive lower bound of the reward multiplier, or null
+ * @param maxInGameMultiplier inclusive upper bound of the reward multiplier, or null
+ * @param minTokenPrice       inclusive lower bound a single token's price must meet, or null
+ * @param maxTokenPrice       inclusive upper bound the same token's price must meet, or null
+ * @param endDateFrom         inclusive start of the end date window, or null
+ * @param endDateTo           exclusive end of the end date window, or null
+ * @param sortField           field to sort by, or null for condition ID order
+ * @param direction           sort direction
+ * @param page                zero-based page number
+ * @param size                page size
+ */
+public record MarketCriteria(
+        Boolean active,
+        Boolean closed,
+        Boolean archived,
+        Boolean hasRewards,
+        Set<String> anyTags,
+        Set<String> allTags,
+        Integer rewardEpoch,
+        Double minInGameMultiplier,
+        Double maxInGameMultiplier,
+        Double minTokenPrice,
+        Double maxTokenPrice,
+        OffsetDateTime endDateFrom,
+        OffsetDateTime endDateTo,
+        SortField sortField,
+        Sort.Direction direction,
+        int page,
+        int size) {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1_000;
+    /** Elasticsearch's default {@code index.max_result_window}; deeper pages need a scan. */
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    /**
+     * Fields results can be sorted by. Markets without a value sort last in either direction.
+     */
+    public enum SortField {
+        END_DATE("endDate", MarketDocument::getEndDate),
+        IN_GAME_MULTIPLIER("rewards.inGameMultiplier",
+                document -> document.getRewards() != null ? document.getRewards().getInGameMultiplier() : null),
+        UPDATED_AT("updatedAt", MarketDocument::getUpdatedAt),
+        CONDITION_ID("conditionId", MarketDocument::getConditionId);
+
+        private final String field;
+        private final Function<MarketDocument, ? extends Comparable<?>> value;
+
+        SortField(String field, Function<MarketDocument, ? extends Comparable<?>> value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        /**
+         * Returns the Elasticsearch field path.
+         *
+         * @return the field path
+         */
+        public String field() {
+            return field;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Evaluates the filters against a document, with the semantics of the Elasticsearch query.
+     *
+     * @param document the document
+     * @return true if the document matches all filters
+     */
+    public boolean matches(MarketDocument document) {
+        RewardsDocument rewards = document.getRewards();
+        return (active == null || active.equals(document.getActive()))
+                && (closed == null || closed.equals(document.getClosed()))
+                && (archived == null || archived.equals(document.getArchived()))
+                && (hasRewards == null || hasRewards == (rewards != null))
+                && (anyTags.isEmpty() || document.getTags() != null && document.getTags().stream().anyMatch(anyTags::contains))
+                && (allTags.isEmpty() || document.getTags() != null && document.getTags().containsAll(allTags))
+                && (rewardEpoch == null || rewards != null && rewardEpoch.equals(rewards.getRewardEpoch()))
+                && (minInGameMultiplier == null && maxInGameMultiplier == null
+                    || rewards != null && within(rewards.getInGameMultiplier(), minInGameMultiplier, maxInGameMultiplier))
+                && (minTokenPrice == null && maxTokenPrice == null
+                    || document.getTokens() != null && document.getTokens().stream()
+                        .anyMatch(token -> token != null && within(token.getPrice(), minTokenPrice, maxTokenPrice)))
+                && (endDateFrom == null && endDateTo == null || withinEndDate(document.getEndDate()));
+    }
+
+    /**
+     * Returns the sort order as a comparator, for evaluating the criteria in memory.
+     * Ties, and all documents when no sort field is set, are ordered by document ID.
+     *
+     * @return the comparator
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<MarketDocument> comparator() {
+        Comparator<MarketDocument> byId = Comparator.comparing(MarketDocument::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        if (sortField == null) {
+            return byId;
+        }
+        Comparator<Comparable> order = direction == Sort.Direction.DESC ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        Function<MarketDocument, Comparable> value = (Function) sortField.value;
+        return Comparator.comparing(value, Comparator.nullsLast(order)).thenComparing(byId);
+    }
+
+    /**
+     * Returns the sort order for Elasticsearch, with the condition ID as tie-breaker so pages are stable.
+     *
+     * @return the sort, by condition ID alone if no sort field is set
+     */
+    public Sort sort() {
+        if (sortField == null) {
+            return Sort.by(Sort.Order.asc(SortField.CONDITION_ID.field()));
+        }
+        return Sort.by(new Sort.Order(direction, sortField.field()), Sort.Order.asc(SortField.CONDITION_ID.field()));
+    }
+
+    private static boolean within(Double value, Double min, Double max) {
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private boolean withinEndDate(OffsetDateTime endDate) {
+        return endDate != null
+                && (endDateFrom == null || !endDate.isBefore(endDateFrom))
+                && (endDateTo == null || endDate.isBefore(endDateTo));
+    }
+
+    /**
+     * Builder for {@link MarketCriteria}.
+     */
+    public static final class Builder {
+
+        private Boolean active;
+        private Boolean closed;
+        private Boolean archived;
+        private Boolean hasRewards;
+        private final Set<String> anyTags = new LinkedHashSet<>();
+        private final Set<String> allTags = new LinkedHashSet<>();
+        private Integer rewardEpoch;
+        private Double minInGameMultiplier;
+        private Double maxInGameMultiplier;
+        private Double minTokenPrice;
+        private Double maxTokenPrice;
+        private OffsetDateTime endDateFrom;
+        private OffsetDateTime endDateTo;
+        private SortField sortField;
+        private Sort.Direction direction = Sort.Direction.ASC;
+        private int page;
+        private int size = DEFAULT_PAGE_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder active(Boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        public Builder closed(Boolean closed) {
+            this.closed = closed;
+            return this;
+        }
+
+        public Builder archived(Boolean archived) {
+            this.archived = archived;
+            return this;
+        }
+
+        public Builder hasRewards(Boolean hasRewards) {
+            this.hasRewards = hasRewards;
+            return this;
+        }
+
+        /**
+         * Requires at least one of the given tags. Can be combined with {@link #allTags}.
+         */
+        public Builder anyTags(Collection<String> tags) {
+            if (tags != null) {
+                tags.stream().filter(Objects::nonNull).forEach(anyTags::add);
+            }
+            return this;
+        }
+
+        /**
+         * Requires all of the given tags.
+         */
+        public Builder allTags(Collection<String> tags) {
+            if (tags != null) {
+                tags.stream().filter(Objects::nonNull).forEach(allTags::add);
+            }
+            return this;
+        }
+
+        public Builder rewardEpoch(Integer rewardEpoch) {
+            this.rewardEpoch = rewardEpoch;
+            return this;
+        }
+
+        /**
+         * Requires a reward multiplier within the given bounds; either bound may be null.
+         */
+        public Builder inGameMultiplier(Double min, Double max) {
+            this.minInGameMultiplier = min;
+            this.maxInGameMultiplier = max;
+            return this;
+        }
+
+        /**
+         * Requires a token whose price lies within the given bounds; either bound may be null.
+         */
+        public Builder tokenPrice(Double min, Double max) {
+            this.minTokenPrice = min;
+            this.maxTokenPrice = max;
+            return this;
+        }
+
+        /**
+         * Requires an end date in {@code [from, to)}; either bound may be null.
+         */
+        public Builder endDate(OffsetDateTime from, OffsetDateTime to) {
+            this.endDateFrom = from;
+            this.endDateTo = to;
+            return this;
+        }
+
+        public Builder sortBy(SortField sortField, Sort.Direction direction) {
+            this.sortField = sortField;
+            this.direction = direction != null ? direction : Sort.Direction.ASC;
+            return this;
+        }
+
+        public Builder page(int page, int size) {
+            this.page = page;
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * Builds the criteria.
+         *
+         * @return the criteria
+         * @throws IllegalArgumentException if the page is out of range or a range has its bounds swapped
+         */
+        public MarketCriteria build() {
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            if (page < 0 || (long) (page + 1) * size > MAX_RESULT_WINDOW) {
+                throw new IllegalArgumentException("page must be between 0 and " + (MAX_RESULT_WINDOW / size - 1) + " for size " + size);
+            }
+            requireOrdered(minInGameMultiplier, maxInGameMultiplier, "in-game multiplier");
+            requireOrdered(minTokenPrice, maxTokenPrice, "token price");
+            if (endDateFrom != null && endDateTo != null && !endDateFrom.isBefore(endDateTo)) {
+                throw new IllegalArgumentException("end date window must start before it ends");
+            }
+            return new MarketCriteria(active, closed, archived, hasRewards, Set.copyOf(anyTags), Set.copyOf(allTags),
+                    rewardEpoch, minInGameMultiplier, maxInGameMultiplier, minTokenPrice, maxTokenPrice,
+                    endDateFrom, endDateTo, sortField, direction, page, size);
+        }
+
+        private static void requireOrdered(Double min, Double max, String name) {
+            if (min != null && max != null && min > max) {
+                throw new IllegalArgumentException(name + " minimum must not exceed the maximum");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.List;
+
+/**
+ * One page of a point-in-time scan over the markets index.
+ *
+ * @param documents  documents of this page
+ * @param nextCursor opaque cursor of the next page, or null if this is the last page
+ */
+public record MarketDocumentPage(List<MarketDocument> documents, String nextCursor) {
+}
@@ -0,0 +1,40 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.stream.Stream;
+
+/**
+ * Reads the whole markets store in a stable order, either as a stream or page by page.
+ */
+public interface MarketDocumentScanner {
+
+    /**
+     * Streams all market documents. Batches are fetched only as the stream is consumed,
+     * so memory use does not depend on the store size.
+     * The stream must be closed, e.g. with try-with-resources.
+     *
+     * @return lazily fetched documents
+     */
+    Stream<MarketDocument> streamAll();
+
+    /**
+     * Streams all market documents with only the fields needed for change detection loaded:
+     * the ID, {@code contentHash} and {@code archived}.
+     * The stream must be closed, e.g. with try-with-resources.
+     *
+     * @return lazily fetched partial documents
+     */
+    Stream<MarketDocument> streamFingerprints();
+
+    /**
+     * Returns one page of a scan. The first page is requested with a null cursor; every page
+     * returns the cursor of the next one until the last page.
+     *
+     * @param cursor cursor from the previous page, or null to start a new scan
+     * @param size   maximum number of documents per page
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    MarketDocumentPage page(String cursor, int size);
+}
@@ -0,0 +1,94 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.ChildScoreMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles {@link MarketCriteria} into native Elasticsearch queries.
+ * All clauses go into the filter context of one bool query: they are not scored, and their
+ * results can be cached per segment by the node query cache.
+ */
+final class MarketQueries {
+
+    static final String TOKENS_PATH = "tokens";
+
+    private MarketQueries() {
+    }
+
+    /**
+     * Builds the query for the filters of the criteria.
+     *
+     * @param criteria the criteria
+     * @return a bool query of filter clauses, or match_all if no filter is set
+     */
+    static Query of(MarketCriteria criteria) {
+        List<Query> filters = new ArrayList<>();
+        List<Query> mustNot = new ArrayList<>();
+        if (criteria.active() != null) {
+            filters.add(term("active", criteria.active()));
+        }
+        if (criteria.closed() != null) {
+            filters.add(term("closed", criteria.closed()));
+        }
+        if (criteria.archived() != null) {
+            filters.add(term("archived", criteria.archived()));
+        }
+        if (criteria.hasRewards() != null) {
+            (criteria.hasRewards() ? filters : mustNot).add(QueryBuilders.exists(e -> e.field("rewards")));
+        }
+        if (!criteria.anyTags().isEmpty()) {
+            filters.add(terms("tags", criteria.anyTags()));
+        }
+        for (String tag : criteria.allTags()) {
+            filters.add(QueryBuilders.term(t -> t.field("tags").value(tag)));
+        }
+        if (criteria.rewardEpoch() != null) {
+            filters.add(QueryBuilders.term(t -> t.field("rewards.rewardEpoch").value(criteria.rewardEpoch())));
+        }
+        if (criteria.minInGameMultiplier() != null || criteria.maxInGameMultiplier() != null) {
+            filters.add(QueryBuilders.range(r -> r.number(n -> n.field("rewards.inGameMultiplier")
+                    .gte(criteria.minInGameMultiplier())
+                    .lte(criteria.maxInGameMultiplier()))));
+        }
+        if (criteria.minTokenPrice() != null || criteria.maxTokenPrice() != null) {
+            // Nested, so both bounds apply to the same token
+            filters.add(nestedTokens(QueryBuilders.range(r -> r.number(n -> n.field(TOKENS_PATH + ".price")
+                    .gte(criteria.minTokenPrice())
+                    .lte(criteria.maxTokenPrice())))));
+        }
+        if (criteria.endDateFrom() != null || criteria.endDateTo() != null) {
+            filters.add(QueryBuilders.range(r -> r.date(d -> d.field("endDate")
+                    .gte(criteria.endDateFrom() != null ? criteria.endDateFrom().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) : null)
+                    .lt(criteria.endDateTo() != null ? criteria.endDateTo().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) : null))));
+        }
+
+        if (filters.isEmpty() && mustNot.isEmpty()) {
+            return QueryBuilders.matchAll(m -> m);
+        }
+        return QueryBuilders.bool(b -> b.filter(filters).mustNot(mustNot));
+    }
+
+    static Query term(String field, boolean value) {
+        return QueryBuilders.term(t -> t.field(field).value(value));
+    }
+
+    static Query terms(String field, Iterable<String> values) {
+        List<FieldValue> fieldValues = new ArrayList<>();
+        values.forEach(value -> fieldValues.add(FieldValue.of(value)));
+        return QueryBuilders.terms(t -> t.field(field).terms(v -> v.value(fieldValues)));
+    }
+
+    /**
+     * Wraps a query on token fields so it matches markets with at least one such token.
+     * Scoring is switched off, since the nested query only ever runs as a filter.
+     */
+    static Query nestedTokens(Query query) {
+        return QueryBuilders.nested(n -> n.path(TOKENS_PATH).query(query).scoreMode(ChildScoreMode.None));
+    }
+}
@@ -0,0 +1,37 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.stream.Stream;
+
+/**
+ * Finds markets by an arbitrary combination of filters, in place of one derived repository
+ * method per combination.
+ */
+public interface MarketSearch {
+
+    /**
+     * Returns one page of the matching markets in the order of the criteria.
+     *
+     * @param criteria filters, sort order and page
+     * @return the page with the total number of matches
+     */
+    MarketSearchHits search(MarketCriteria criteria);
+
+    /**
+     * Streams all matching markets in the order of the criteria, ignoring its page.
+     * The stream must be closed.
+     *
+     * @param criteria filters and sort order
+     * @return the matching documents
+     */
+    Stream<MarketDocument> stream(MarketCriteria criteria);
+
+    /**
+     * Counts the matching markets.
+     *
+     * @param criteria filters; sort order and page are ignored
+     * @return the number of matches
+     */
+    long count(MarketCriteria criteria);
+}
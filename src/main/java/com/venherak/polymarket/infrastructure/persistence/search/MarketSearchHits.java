@@ -0,0 +1,14 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.List;
+
+/**
+ * One page of a {@link MarketSearch}.
+ *
+ * @param documents documents of the page
+ * @param totalHits number of matching documents across all pages
+ */
+public record MarketSearchHits(List<MarketDocument> documents, long totalHits) {
+}
@@ -0,0 +1,48 @@
+package com.venherak.polymarket.mapper;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Small, fixed-size cache of parsed ISO-8601 timestamps.
+ * API pages repeat the same few end dates across hundreds of markets, so most lookups hit.
+ * The cache is direct-mapped: every string has exactly one slot and a colliding string simply
+ * replaces the previous entry. It needs no locking because entries are immutable and a lost
+ * update only costs one extra parse.
+ */
+final class DateParseCache {
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * @param size number of slots, rounded up to a power of two
+     */
+    DateParseCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Parses the text or returns the cached result of an earlier parse.
+     *
+     * @param text ISO-8601 date-time with offset
+     * @return the parsed date-time
+     * @throws DateTimeParseException if the text cannot be parsed; failures are not cached
+     */
+    OffsetDateTime parse(String text) {
+        int hash = text.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = entries[slot];
+        if (entry != null && entry.text().equals(text)) {
+            return entry.value();
+        }
+        OffsetDateTime value = OffsetDateTime.parse(text);
+        entries[slot] = new Entry(text, value);
+        return value;
+    }
+
+    private record Entry(String text, OffsetDateTime value) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.venherak.polymarket.mapper;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Values shared by all documents mapped in one batch, passed to the mapper as MapStruct context.
+ *
+ * @param updatedAt timestamp stamped on every document of the batch
+ */
+public record MappingBatch(OffsetDateTime updatedAt) {
+
+    /**
+     * Starts a batch stamped with the current time.
+     *
+     * @return the batch
+     */
+    public static MappingBatch now() {
+        return new MappingBatch(OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,211 @@
+package com.venherak.polymarket.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RateDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CLOB API market JSON straight into {@link MarketDocument}s, without building the
+ * {@code Market} model first. Produces the same documents as deserializing into {@code Market}
+ * and mapping with {@link MarketMapper#toDocument(com.venherak.polymarket.domain.model.Market, MappingBatch)}:
+ * fields missing from the JSON or set to null get the defaults of the model's primitive fields,
+ * empty date strings become null and unknown fields are skipped. Dates go through the mapper's
+ * parse cache and failure counter.
+ */
+@Component
+public class MarketDocumentJsonReader {
+
+    private final MarketMapper marketMapper;
+
+    public MarketDocumentJsonReader(MarketMapper marketMapper) {
+        this.marketMapper = marketMapper;
+    }
+
+    /**
+     * Reads one market object.
+     *
+     * @param parser parser positioned at the START_OBJECT of the market
+     * @param batch  values shared by all markets of the batch
+     * @return the document, positioned at the END_OBJECT of the market
+     * @throws IOException if the JSON cannot be read
+     */
+    public MarketDocument read(JsonParser parser, MappingBatch batch) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        MarketDocument document = new MarketDocument();
+        document.setEnableOrderBook(false);
+        document.setActive(false);
+        document.setClosed(false);
+        document.setArchived(false);
+        document.setAcceptingOrders(false);
+        document.setMinimumOrderSize(0);
+        document.setMinimumTickSize(0.0);
+        document.setSecondsDelay(0);
+        document.setMakerBaseFee(0);
+        document.setTakerBaseFee(0);
+        document.setNotificationsEnabled(false);
+        document.setNegRisk(false);
+        document.setIs5050Outcome(false);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "enable_order_book" -> document.setEnableOrderBook(booleanValue(parser));
+                case "active" -> document.setActive(booleanValue(parser));
+                case "closed" -> document.setClosed(booleanValue(parser));
+                case "archived" -> document.setArchived(booleanValue(parser));
+                case "accepting_orders" -> document.setAcceptingOrders(booleanValue(parser));
+                case "accepting_order_timestamp" -> document.setAcceptingOrderTimestamp(dateValue(parser));
+                case "minimum_order_size" -> document.setMinimumOrderSize(intValue(parser));
+                case "minimum_tick_size" -> document.setMinimumTickSize(doubleValue(parser));
+                case "condition_id" -> document.setConditionId(stringValue(parser));
+                case "question_id" -> document.setQuestionId(stringValue(parser));
+                case "question" -> document.setQuestion(stringValue(parser));
+                case "description" -> document.setDescription(stringValue(parser));
+                case "market_slug" -> document.setMarketSlug(stringValue(parser));
+                case "end_date_iso" -> document.setEndDate(dateValue(parser));
+                case "game_start_time" -> document.setGameStartTime(dateValue(parser));
+                case "seconds_delay" -> document.setSecondsDelay(intValue(parser));
+                case "fpmm" -> document.setFpmm(stringValue(parser));
+                case "maker_base_fee" -> document.setMakerBaseFee(intValue(parser));
+                case "taker_base_fee" -> document.setTakerBaseFee(intValue(parser));
+                case "notifications_enabled" -> document.setNotificationsEnabled(booleanValue(parser));
+                case "neg_risk" -> document.setNegRisk(booleanValue(parser));
+                case "neg_risk_market_id" -> document.setNegRiskMarketId(stringValue(parser));
+                case "neg_risk_request_id" -> document.setNegRiskRequestId(stringValue(parser));
+                case "is_50_50_outcome" -> document.setIs5050Outcome(booleanValue(parser));
+                case "rewards" -> document.setRewards(value == JsonToken.VALUE_NULL ? null : readRewards(parser));
+                case "tokens" -> document.setTokens(value == JsonToken.VALUE_NULL ? null : readTokens(parser));
+                case "tags" -> document.setTags(value == JsonToken.VALUE_NULL ? null : readStrings(parser));
+                default -> parser.skipChildren();
+            }
+        }
+
+        document.setId(MarketMapper.generateDocumentId(document.getConditionId(), document.getMarketSlug()));
+        document.setUpdatedAt(batch.updatedAt());
+        return document;
+    }
+
+    private RewardsDocument readRewards(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        RewardsDocument rewards = new RewardsDocument();
+        rewards.setMinSize(0);
+        rewards.setMaxSpread(0);
+        rewards.setInGameMultiplier(0.0);
+        rewards.setRewardEpoch(0);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "min_size" -> rewards.setMinSize(intValue(parser));
+                case "max_spread" -> rewards.setMaxSpread(intValue(parser));
+                case "event_start_date" -> rewards.setEventStartDate(dateValue(parser));
+                case "event_end_date" -> rewards.setEventEndDate(dateValue(parser));
+                case "in_game_multiplier" -> rewards.setInGameMultiplier(doubleValue(parser));
+                case "reward_epoch" -> rewards.setRewardEpoch(intValue(parser));
+                case "rates" -> rewards.setRates(value == JsonToken.VALUE_NULL ? null : readRates(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return rewards;
+    }
+
+    private List<RateDocument> readRates(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<RateDocument> rates = new ArrayList<>(2);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                rates.add(null);
+                continue;
+            }
+            expect(parser, JsonToken.START_OBJECT);
+            RateDocument rate = new RateDocument();
+            rate.setRewardsDailyRate(0);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "asset_address" -> rate.setAssetAddress(stringValue(parser));
+                    case "rewards_daily_rate" -> rate.setRewardsDailyRate(intValue(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            rates.add(rate);
+        }
+        return rates;
+    }
+
+    private List<TokenDocument> readTokens(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<TokenDocument> tokens = new ArrayList<>(2);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                tokens.add(null);
+                continue;
+            }
+            expect(parser, JsonToken.START_OBJECT);
+            TokenDocument token = new TokenDocument();
+            token.setPrice(0.0);
+            token.setWinner(false);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "token_id" -> token.setTokenId(stringValue(parser));
+                    case "outcome" -> token.setOutcome(stringValue(parser));
+                    case "price" -> token.setPrice(doubleValue(parser));
+                    case "winner" -> token.setWinner(booleanValue(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<String> values = new ArrayList<>(4);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(stringValue(parser));
+        }
+        return values;
+    }
+
+    private OffsetDateTime dateValue(JsonParser parser) throws IOException {
+        return marketMapper.stringToOffsetDateTime(stringValue(parser));
+    }
+
+    private static String stringValue(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static boolean booleanValue(JsonParser parser) throws IOException {
+        return parser.getValueAsBoolean(false);
+    }
+
+    private static int intValue(JsonParser parser) throws IOException {
+        return parser.getValueAsInt(0);
+    }
+
+    private static double doubleValue(JsonParser parser) throws IOException {
+        return parser.getValueAsDouble(0.0);
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new IOException("Unexpected " + parser.currentToken() + " in market JSON, expected " + expected
+                    + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -5,13 +5,19 @@ import com.venherak.polymarket.infrastructure.persistence.document.RateDocument;
 import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
 import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
 import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.domain.model.MarketSummary;
+import com.venherak.polymarket.domain.model.TokenQuote;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.mapstruct.*;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
@@ -27,10 +33,15 @@ public abstract class MarketMapper {
     
     private static final Logger logger = Logger.getLogger(MarketMapper.class.getName());
     
+    private static final int DATE_CACHE_SIZE = 1024;
+    
+    private final DateParseCache dateParseCache = new DateParseCache(DATE_CACHE_SIZE);
+    private final LongAdder dateParseFailures = new LongAdder();
 
     // Mapping from Market to MarketDocument
     @Mapping(target = "id", expression = "java(generateDocumentId(market))")
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
     @Mapping(target = "updatedAt", expression = "java(java.time.OffsetDateTime.now())")
     @Mapping(target = "endDate", source = "endDateIso", qualifiedByName = "stringToOffsetDateTime")
     @Mapping(target = "gameStartTime", source = "gameStartTime", qualifiedByName = "stringToOffsetDateTime")
@@ -48,6 +59,31 @@ public abstract class MarketMapper {
     @Mapping(target = "is5050Outcome", source = "is5050Outcome")
     public abstract MarketDocument toDocument(Market market);
 
+    /**
+     * Fast path used during sync: like {@link #toDocument(Market)}, but every document of the
+     * batch shares one {@code updatedAt} timestamp, and the tag list is taken over from the
+     * market instead of copied. The market must not be modified afterwards.
+     */
+    @Mapping(target = "id", expression = "java(generateDocumentId(market))")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "updatedAt", expression = "java(batch.updatedAt())")
+    @Mapping(target = "endDate", source = "endDateIso", qualifiedByName = "stringToOffsetDateTime")
+    @Mapping(target = "gameStartTime", source = "gameStartTime", qualifiedByName = "stringToOffsetDateTime")
+    @Mapping(target = "acceptingOrderTimestamp", source = "acceptingOrderTimestamp", qualifiedByName = "stringToOffsetDateTime")
+    @Mapping(target = "tags", expression = "java(market.getTags())")
+    @Mapping(target = "tokens", source = "tokens", qualifiedByName = "tokensToDocuments")
+    @Mapping(target = "rewards", source = "rewards", qualifiedByName = "rewardsToDocument")
+    @Mapping(target = "active", source = "active")
+    @Mapping(target = "closed", source = "closed")
+    @Mapping(target = "archived", source = "archived")
+    @Mapping(target = "acceptingOrders", source = "acceptingOrders")
+    @Mapping(target = "enableOrderBook", source = "enableOrderBook")
+    @Mapping(target = "notificationsEnabled", source = "notificationsEnabled")
+    @Mapping(target = "negRisk", source = "negRisk")
+    @Mapping(target = "is5050Outcome", source = "is5050Outcome")
+    public abstract MarketDocument toDocument(Market market, @Context MappingBatch batch);
+
     // Mapping from MarketDocument to Market
     @Mapping(target = "endDateIso", source = "endDate", qualifiedByName = "offsetDateTimeToString")
     @Mapping(target = "gameStartTime", source = "gameStartTime", qualifiedByName = "offsetDateTimeToString")
@@ -61,6 +97,94 @@ public abstract class MarketMapper {
     public abstract List<MarketDocument> toDocuments(List<Market> markets);
     public abstract List<Market> toModels(List<MarketDocument> documents);
 
+    /**
+     * Maps a page of markets with {@link #toDocument(Market, MappingBatch)}.
+     *
+     * @param markets markets of one page
+     * @param batch   values shared by the batch
+     * @return the documents
+     */
+    public List<MarketDocument> toDocuments(List<Market> markets, MappingBatch batch) {
+        if (markets == null) {
+            return null;
+        }
+        List<MarketDocument> documents = new ArrayList<>(markets.size());
+        for (Market market : markets) {
+            documents.add(toDocument(market, batch));
+        }
+        return documents;
+    }
+
+    /**
+     * Maps a document, possibly loaded with only the summary fields, to a market summary.
+     *
+     * @param document the document
+     * @return the summary
+     */
+    public MarketSummary toSummary(MarketDocument document) {
+        if (document == null) {
+            return null;
+        }
+        RewardsDocument rewards = document.getRewards();
+        return new MarketSummary(
+                document.getConditionId(),
+                document.getMarketSlug(),
+                document.getQuestion(),
+                offsetDateTimeToString(document.getEndDate()),
+                Boolean.TRUE.equals(document.getActive()),
+                Boolean.TRUE.equals(document.getClosed()),
+                Boolean.TRUE.equals(document.getArchived()),
+                Boolean.TRUE.equals(document.getAcceptingOrders()),
+                rewards != null ? rewards.getInGameMultiplier() : null,
+                toQuotes(document.getTokens()));
+    }
+
+    public List<MarketSummary> toSummaries(List<MarketDocument> documents) {
+        if (documents == null) {
+            return null;
+        }
+        List<MarketSummary> summaries = new ArrayList<>(documents.size());
+        for (MarketDocument document : documents) {
+            summaries.add(toSummary(document));
+        }
+        return summaries;
+    }
+
+    /**
+     * Maps token documents to quotes.
+     *
+     * @param documents the token documents, may be null
+     * @return the quotes, empty if there are no tokens
+     */
+    public List<TokenQuote> toQuotes(List<TokenDocument> documents) {
+        if (documents == null) {
+            return List.of();
+        }
+        List<TokenQuote> quotes = new ArrayList<>(documents.size());
+        for (TokenDocument document : documents) {
+            if (document != null) {
+                quotes.add(new TokenQuote(document.getTokenId(), document.getOutcome(), document.getPrice(), document.getWinner()));
+            }
+        }
+        return quotes;
+    }
+
+    /**
+     * Registers the date parse failure counter. Optional so the mapper also works outside Spring.
+     *
+     * @param meterRegistry registry to publish to
+     */
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("polymarket.mapper.date.parse.failures", dateParseFailures, LongAdder::sum)
+                .description("Date strings from the API that could not be parsed and were mapped to null")
+                .register(meterRegistry);
+    }
+
+    public long getDateParseFailures() {
+        return dateParseFailures.sum();
+    }
+
 
     // Custom mapping methods
     
@@ -69,11 +193,15 @@ public abstract class MarketMapper {
      * Uses condition_id if available, otherwise market_slug, otherwise generates UUID.
      */
     protected String generateDocumentId(Market market) {
-        if (market.getConditionId() != null && !market.getConditionId().isEmpty()) {
-            return market.getConditionId();
+        return generateDocumentId(market.getConditionId(), market.getMarketSlug());
+    }
+
+    static String generateDocumentId(String conditionId, String marketSlug) {
+        if (conditionId != null && !conditionId.isEmpty()) {
+            return conditionId;
         }
-        if (market.getMarketSlug() != null && !market.getMarketSlug().isEmpty()) {
-            return market.getMarketSlug();
+        if (marketSlug != null && !marketSlug.isEmpty()) {
+            return marketSlug;
         }
         return java.util.UUID.randomUUID().toString();
     }
@@ -84,9 +212,11 @@ public abstract class MarketMapper {
             return null;
         }
         try {
-            return OffsetDateTime.parse(dateString);
+            return dateParseCache.parse(dateString);
         } catch (DateTimeParseException e) {
-            logger.log(Level.WARNING, "Error parsing date: " + e.getMessage(), e);
+            // Counted in polymarket.mapper.date.parse.failures; a stack trace per bad date is too costly during sync
+            dateParseFailures.increment();
+            logger.fine("Error parsing date: " + e.getMessage());
             return null;
         }
     }
@@ -182,9 +312,11 @@ public abstract class MarketMapper {
         if (tokens == null) {
             return null;
         }
-        return tokens.stream()
-                .map(this::tokenToDocument)
-                .collect(java.util.stream.Collectors.toList());
+        List<TokenDocument> result = new ArrayList<>(tokens.size());
+        for (Market.Token token : tokens) {
+            result.add(tokenToDocument(token));
+        }
+        return result;
     }
     
     @Named("documentsToTokens")
@@ -192,9 +324,11 @@ public abstract class MarketMapper {
         if (documents == null) {
             return null;
         }
-        return documents.stream()
-                .map(this::documentToToken)
-                .collect(java.util.stream.Collectors.toList());
+        List<Market.Token> result = new ArrayList<>(documents.size());
+        for (TokenDocument document : documents) {
+            result.add(documentToToken(document));
+        }
+        return result;
     }
     
     protected RateDocument rateToDocument(Market.Rate rate) {
@@ -225,17 +359,21 @@ public abstract class MarketMapper {
         if (rates == null) {
             return null;
         }
-        return rates.stream()
-                .map(this::rateToDocument)
-                .collect(java.util.stream.Collectors.toList());
+        List<RateDocument> result = new ArrayList<>(rates.size());
+        for (Market.Rate rate : rates) {
+            result.add(rateToDocument(rate));
+        }
+        return result;
     }
     
     protected List<Market.Rate> documentsToRates(List<RateDocument> documents) {
         if (documents == null) {
             return null;
         }
-        return documents.stream()
-                .map(this::documentToRate)
-                .collect(java.util.stream.Collectors.toList());
+        List<Market.Rate> result = new ArrayList<>(documents.size());
+        for (RateDocument document : documents) {
+            result.add(documentToRate(document));
+        }
+        return result;
     }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.venherak.polymarket.runner;
 
-import com.venherak.polymarket.service.PolymarketService;
+import com.venherak.polymarket.service.sync.MarketSyncScheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -8,34 +8,24 @@ import org.springframework.stereotype.Component;
 import java.util.logging.Logger;
 
 /**
- * Command line runner that initializes market data by fetching from the API
- * and saving to the database on application startup.
- * Only runs when the "init-data" profile is active.
+ * Command line runner that starts the background market sync on application startup.
+ * It returns immediately; reads are served from the existing index while the sync runs.
  */
 @Component
 public class MarketDataInitializer implements CommandLineRunner {
     
     private static final Logger logger = Logger.getLogger(MarketDataInitializer.class.getName());
     
-    private final PolymarketService polymarketService;
+    private final MarketSyncScheduler marketSyncScheduler;
     
     @Autowired
-    public MarketDataInitializer(PolymarketService polymarketService) {
-        this.polymarketService = polymarketService;
+    public MarketDataInitializer(MarketSyncScheduler marketSyncScheduler) {
+        this.marketSyncScheduler = marketSyncScheduler;
     }
     
     @Override
     public void run(String... args) {
-        logger.info("Starting to fetch and save market data...");
-        
-        try {
-            int totalSaved = polymarketService.fetchAndSaveAllMarkets();
-            logger.info("Successfully saved " + totalSaved + " markets to the database");
-        } catch (Exception e) {
-            logger.severe("Error initializing market data: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        logger.info("Market data initialization completed");
+        marketSyncScheduler.start();
+        logger.info("Market data sync started in the background");
     }
-}
\ No newline at end of file
+}
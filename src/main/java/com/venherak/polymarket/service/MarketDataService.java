@@ -1,14 +1,33 @@
 package com.venherak.polymarket.service;
 
+import com.venherak.polymarket.exception.MarketNotFoundException;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.MarketDocumentIndexer;
+import com.venherak.polymarket.infrastructure.persistence.columnar.MarketColumnStore;
 import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
 import com.venherak.polymarket.mapper.MarketMapper;
 import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.domain.model.MarketPage;
+import com.venherak.polymarket.domain.model.MarketSearchResult;
+import com.venherak.polymarket.domain.model.MarketSummary;
+import com.venherak.polymarket.domain.model.TokenQuote;
 import com.venherak.polymarket.infrastructure.persistence.repository.MarketDocumentRepository;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentPage;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketCriteria;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketSearch;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketSearchHits;
+import com.venherak.polymarket.service.snapshot.MarketSnapshot;
+import com.venherak.polymarket.service.snapshot.MarketSnapshotCache;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Service for managing market data persistence and retrieval using Elasticsearch.
@@ -18,15 +37,32 @@ import java.util.logging.Logger;
 public class MarketDataService {
     
     private static final Logger logger = Logger.getLogger(MarketDataService.class.getName());
+    /** Documents fetched per request when column store matches are resolved without the snapshot. */
+    private static final int FETCH_BY_ID_CHUNK = 1_000;
     
     private final MarketDocumentRepository marketDocumentRepository;
     private final MarketMapper marketMapper;
+    private final MarketDocumentIndexer bulkIndexer;
+    private final MarketSnapshotCache snapshotCache;
+    private final MarketDocumentScanner documentScanner;
+    private final MarketColumnStore columnStore;
+    private final MarketSearch marketSearch;
 
     public MarketDataService(
             MarketDocumentRepository marketDocumentRepository,
-            MarketMapper marketMapper) {
+            MarketMapper marketMapper,
+            MarketDocumentIndexer bulkIndexer,
+            MarketSnapshotCache snapshotCache,
+            MarketDocumentScanner documentScanner,
+            MarketColumnStore columnStore,
+            MarketSearch marketSearch) {
         this.marketDocumentRepository = marketDocumentRepository;
         this.marketMapper = marketMapper;
+        this.bulkIndexer = bulkIndexer;
+        this.snapshotCache = snapshotCache;
+        this.documentScanner = documentScanner;
+        this.columnStore = columnStore;
+        this.marketSearch = marketSearch;
     }
 
     /**
@@ -40,33 +76,146 @@ public class MarketDataService {
             return 0;
         }
         
+        return saveDocuments(toDocuments(markets));
+    }
+    
+    /**
+     * Maps a batch of markets to Elasticsearch documents without persisting them.
+     * Exposed separately so sync pipelines can run mapping as its own stage.
+     * The batch shares one updatedAt timestamp and takes over the markets' tag lists.
+     * 
+     * @param markets The list of markets to map
+     * @return The mapped documents
+     */
+    public List<MarketDocument> toDocuments(List<Market> markets) {
+        if (markets == null || markets.isEmpty()) {
+            return List.of();
+        }
+        return marketMapper.toDocuments(markets, MappingBatch.now());
+    }
+    
+    /**
+     * Saves already mapped market documents to Elasticsearch using the bulk indexer.
+     * 
+     * @param documents The documents to save
+     * @return The number of documents saved
+     */
+    public int saveDocuments(List<MarketDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return 0;
+        }
+        
         try {
-            List<MarketDocument> documents = marketMapper.toDocuments(markets);
-            Iterable<MarketDocument> savedDocuments = marketDocumentRepository.saveAll(documents);
-            
-            // Count saved documents
-            int count = 0;
-            for (MarketDocument doc : savedDocuments) {
-                count++;
+            BulkIndexResult result = indexDocuments(documents);
+            if (result.getFailed() > 0) {
+                logger.warning(String.format("Failed to index %d of %d markets: %s",
+                        result.getFailed(), documents.size(), result.getFailures().get(0).error()));
             }
-            
-            return count;
+            return (int) result.getSucceeded();
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error saving markets to Elasticsearch: " + e.getMessage(), e);
             return 0;
         }
     }
     
+    /**
+     * Bulk indexes market documents and returns the per-item outcome.
+     * Unlike {@link #saveDocuments(List)} errors are propagated to the caller.
+     * 
+     * @param documents The documents to index
+     * @return Result summary including the failed items
+     * @throws com.venherak.polymarket.exception.DataPersistenceException if a bulk request could not be executed at all
+     */
+    public BulkIndexResult indexDocuments(List<MarketDocument> documents) {
+        return bulkIndexer.index(documents);
+    }
+    
     /**
      * Retrieves all markets from Elasticsearch.
+     * Holds every market in memory; prefer {@link #streamAllMarkets()} or
+     * {@link #getMarketsPage(String, int)} for large indexes.
      * 
      * @return List of Market objects
      */
     public List<Market> getAllMarkets() {
-        Iterable<MarketDocument> documents = marketDocumentRepository.findAll();
-        List<MarketDocument> documentList = new java.util.ArrayList<>();
-        documents.forEach(documentList::add);
-        return marketMapper.toModels(documentList);
+        try (Stream<Market> markets = streamAllMarkets()) {
+            return markets.toList();
+        }
+    }
+    
+    /**
+     * Streams all markets from Elasticsearch in constant memory.
+     * Documents are fetched in batches and mapped one at a time as the stream is consumed.
+     * The stream must be closed, e.g. with try-with-resources.
+     * 
+     * @return lazily loaded markets
+     */
+    public Stream<Market> streamAllMarkets() {
+        return documentScanner.streamAll().map(marketMapper::toModel);
+    }
+    
+    /**
+     * Retrieves one page of all markets.
+     * 
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param size   maximum number of markets in the page
+     * @return the page with the cursor of the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public MarketPage getMarketsPage(String cursor, int size) {
+        MarketDocumentPage page = documentScanner.page(cursor, size);
+        return new MarketPage(marketMapper.toModels(page.documents()), page.nextCursor());
+    }
+    
+    /**
+     * Finds a market by condition ID, from the in-memory snapshot once it is loaded.
+     * 
+     * @param conditionId the condition ID
+     * @return the market
+     * @throws MarketNotFoundException if no market has that condition ID
+     */
+    public Market getMarketByConditionId(String conditionId) {
+        if (snapshotCache.isLoaded()) {
+            return snapshotCache.getSnapshot().findByConditionId(conditionId)
+                    .orElseThrow(() -> MarketNotFoundException.forConditionId(conditionId));
+        }
+        return marketDocumentRepository.findByConditionId(conditionId)
+                .map(marketMapper::toModel)
+                .orElseThrow(() -> MarketNotFoundException.forConditionId(conditionId));
+    }
+    
+    /**
+     * Finds a market by slug, from the in-memory snapshot once it is loaded.
+     * 
+     * @param marketSlug the market slug
+     * @return the market
+     * @throws MarketNotFoundException if no market has that slug
+     */
+    public Market getMarketBySlug(String marketSlug) {
+        if (snapshotCache.isLoaded()) {
+            return snapshotCache.getSnapshot().findBySlug(marketSlug)
+                    .orElseThrow(() -> MarketNotFoundException.forMarketSlug(marketSlug));
+        }
+        return marketDocumentRepository.findByMarketSlug(marketSlug)
+                .map(marketMapper::toModel)
+                .orElseThrow(() -> MarketNotFoundException.forMarketSlug(marketSlug));
+    }
+    
+    /**
+     * Finds the market a token belongs to, from the in-memory snapshot once it is loaded.
+     * 
+     * @param tokenId the token ID
+     * @return the market
+     * @throws MarketNotFoundException if no market has that token
+     */
+    public Market getMarketByTokenId(String tokenId) {
+        if (snapshotCache.isLoaded()) {
+            return snapshotCache.getSnapshot().findByTokenId(tokenId)
+                    .orElseThrow(() -> MarketNotFoundException.forTokenId(tokenId));
+        }
+        return marketDocumentRepository.findFirstByTokensTokenId(tokenId)
+                .map(marketMapper::toModel)
+                .orElseThrow(() -> MarketNotFoundException.forTokenId(tokenId));
     }
     
     /**
@@ -120,11 +269,14 @@ public class MarketDataService {
     }
     
     /**
-     * Get active and open markets (active=true, closed=false).
+     * Get active and open markets (active=true, closed=false), from the column store once it is loaded.
      * 
      * @return List of active and open markets
      */
     public List<Market> getActiveOpenMarkets() {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByActiveTrueAndClosedFalse());
+        }
         List<MarketDocument> documents = marketDocumentRepository.findByActiveTrueAndClosedFalse();
         return marketMapper.toModels(documents);
     }
@@ -140,24 +292,58 @@ public class MarketDataService {
     }
     
     /**
-     * Get markets with high reward multipliers.
+     * Get markets with high reward multipliers, from the column store once it is loaded.
      * 
      * @param minMultiplier minimum multiplier value
      * @return List of markets with reward multipliers above the threshold
      */
     public List<Market> getMarketsWithHighRewardMultiplier(double minMultiplier) {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByRewardsInGameMultiplierGreaterThan(minMultiplier));
+        }
         List<MarketDocument> documents = marketDocumentRepository.findByRewardsInGameMultiplierGreaterThan(minMultiplier);
         return marketMapper.toModels(documents);
     }
     
+    /**
+     * Get markets whose reward multiplier lies within a range, from the column store once it is loaded.
+     * 
+     * @param minMultiplier inclusive lower bound
+     * @param maxMultiplier inclusive upper bound
+     * @return List of markets with reward multipliers in the range
+     */
+    public List<Market> getMarketsWithRewardMultiplierBetween(double minMultiplier, double maxMultiplier) {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByRewardsInGameMultiplierBetween(minMultiplier, maxMultiplier));
+        }
+        List<MarketDocument> documents = marketDocumentRepository.findByRewardsInGameMultiplierBetween(minMultiplier, maxMultiplier);
+        return marketMapper.toModels(documents);
+    }
+    
+    /**
+     * Get markets whose rewards require a minimum order size above a threshold, from the column store once it is loaded.
+     * 
+     * @param minSize exclusive lower bound for the rewards minimum size
+     * @return List of markets with larger reward minimum sizes
+     */
+    public List<Market> getMarketsWithRewardMinSizeAbove(int minSize) {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByRewardsMinSizeGreaterThan(minSize));
+        }
+        List<MarketDocument> documents = marketDocumentRepository.findByRewardsMinSizeGreaterThan(minSize);
+        return marketMapper.toModels(documents);
+    }
+    
     /**
      * Get active markets that have rewards.
      * 
      * @return List of active markets with rewards
      */
     public List<Market> getActiveMarketsWithRewards() {
-        List<MarketDocument> documents = marketDocumentRepository.findByActiveTrueAndRewardsIsNotNull();
-        return marketMapper.toModels(documents);
+        MarketCriteria criteria = MarketCriteria.builder().active(true).hasRewards(true).build();
+        try (Stream<MarketDocument> documents = marketSearch.stream(criteria)) {
+            return documents.map(marketMapper::toModel).toList();
+        }
     }
     
     /**
@@ -178,31 +364,88 @@ public class MarketDataService {
      * @return List of markets with the specified tag
      */
     public List<Market> getMarketsByTag(String tag) {
-        List<MarketDocument> documents = marketDocumentRepository.findByTagsContaining(tag);
+        List<MarketDocument> documents = marketDocumentRepository.findByTag(tag);
         return marketMapper.toModels(documents);
     }
     
     /**
-     * Get markets with winning tokens.
+     * Get markets with winning tokens, from the column store once it is loaded.
      * 
      * @return List of markets that have winning tokens
      */
     public List<Market> getMarketsWithWinningTokens() {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByTokensWinnerTrue());
+        }
         List<MarketDocument> documents = marketDocumentRepository.findByTokensWinnerTrue();
         return marketMapper.toModels(documents);
     }
     
     /**
-     * Get markets with high-priced tokens.
+     * Get markets with high-priced tokens, from the column store once it is loaded.
      * 
      * @param minPrice minimum token price
      * @return List of markets with tokens above the price threshold
      */
     public List<Market> getMarketsWithHighPricedTokens(double minPrice) {
+        if (isColumnStoreReady()) {
+            return fromColumnStore(columnStore.findByTokensPriceGreaterThan(minPrice));
+        }
         List<MarketDocument> documents = marketDocumentRepository.findByTokensPriceGreaterThan(minPrice);
         return marketMapper.toModels(documents);
     }
     
+    /**
+     * Get summaries of active and open markets, loading only the summary fields from Elasticsearch.
+     * 
+     * @return List of market summaries
+     */
+    public List<MarketSummary> getActiveOpenMarketSummaries() {
+        return marketMapper.toSummaries(marketDocumentRepository.findSummariesByActiveTrueAndClosedFalse());
+    }
+    
+    /**
+     * Get summaries of markets that have rewards, loading only the summary fields from Elasticsearch.
+     * 
+     * @return List of market summaries
+     */
+    public List<MarketSummary> getMarketSummariesWithRewards() {
+        return marketMapper.toSummaries(marketDocumentRepository.findSummariesByRewardsIsNotNull());
+    }
+    
+    /**
+     * Get summaries of markets with a specific tag, loading only the summary fields from Elasticsearch.
+     * 
+     * @param tag the tag to search for
+     * @return List of market summaries
+     */
+    public List<MarketSummary> getMarketSummariesByTag(String tag) {
+        return marketMapper.toSummaries(marketDocumentRepository.findSummariesByTag(tag));
+    }
+    
+    /**
+     * Get summaries of markets with high-priced tokens, loading only the summary fields from Elasticsearch.
+     * 
+     * @param minPrice minimum token price
+     * @return List of market summaries
+     */
+    public List<MarketSummary> getMarketSummariesWithHighPricedTokens(double minPrice) {
+        return marketMapper.toSummaries(marketDocumentRepository.findSummariesByTokensPriceGreaterThan(minPrice));
+    }
+    
+    /**
+     * Get the token quotes of a market, loading only its tokens from Elasticsearch.
+     * 
+     * @param conditionId the condition ID
+     * @return the market's token quotes
+     * @throws MarketNotFoundException if no market has that condition ID
+     */
+    public List<TokenQuote> getTokenQuotes(String conditionId) {
+        return marketDocumentRepository.findTokensByConditionId(conditionId)
+                .map(document -> marketMapper.toQuotes(document.getTokens()))
+                .orElseThrow(() -> MarketNotFoundException.forConditionId(conditionId));
+    }
+    
     /**
      * Get count of markets with rewards.
      * 
@@ -218,6 +461,57 @@ public class MarketDataService {
      * @return Number of active markets that have rewards
      */
     public long getActiveMarketsWithRewardsCount() {
-        return marketDocumentRepository.countByActiveTrueAndRewardsIsNotNull();
+        return marketSearch.count(MarketCriteria.builder().active(true).hasRewards(true).build());
+    }
+    
+    /**
+     * Finds one page of markets matching any combination of filters with a single query.
+     * 
+     * @param criteria filters, sort order and page
+     * @return the page of markets with the total number of matches
+     */
+    public MarketSearchResult searchMarkets(MarketCriteria criteria) {
+        MarketSearchHits hits = marketSearch.search(criteria);
+        return new MarketSearchResult(marketMapper.toModels(hits.documents()), hits.totalHits(), criteria.page(), criteria.size());
+    }
+    
+    /**
+     * Counts the markets matching a combination of filters.
+     * 
+     * @param criteria filters; sort order and page are ignored
+     * @return the number of matching markets
+     */
+    public long countMarkets(MarketCriteria criteria) {
+        return marketSearch.count(criteria);
+    }
+    
+    /**
+     * Whether range and flag queries can be answered from the column store. The store is read
+     * back from disk on startup, so this holds before the first sync has loaded the snapshot.
+     */
+    private boolean isColumnStoreReady() {
+        return columnStore.isReady();
+    }
+    
+    /**
+     * Resolves document IDs found by the column store to markets: from the current snapshot once
+     * it is loaded, otherwise by fetching the documents by ID in chunks.
+     */
+    private List<Market> fromColumnStore(List<String> documentIds) {
+        if (snapshotCache.isLoaded()) {
+            MarketSnapshot snapshot = snapshotCache.getSnapshot();
+            return documentIds.stream()
+                    .map(snapshot::findByDocumentId)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+        List<Market> markets = new ArrayList<>(documentIds.size());
+        for (int from = 0; from < documentIds.size(); from += FETCH_BY_ID_CHUNK) {
+            List<String> chunk = documentIds.subList(from, Math.min(from + FETCH_BY_ID_CHUNK, documentIds.size()));
+            for (MarketDocument document : marketDocumentRepository.findAllById(chunk)) {
+                markets.add(marketMapper.toModel(document));
+            }
+        }
+        return markets;
     }
-}
\ No newline at end of file
+}
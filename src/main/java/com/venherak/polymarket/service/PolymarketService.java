@@ -1,11 +1,32 @@
 package com.venherak.polymarket.service;
 
-import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
 import com.venherak.polymarket.domain.model.Market;
-import com.venherak.polymarket.domain.model.MarketsResponse;
+import com.venherak.polymarket.domain.model.MarketPage;
+import com.venherak.polymarket.domain.model.MarketSearchResult;
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.domain.model.MarketSummary;
+import com.venherak.polymarket.domain.model.TokenQuote;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.index.MarketIndexManager;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketCriteria;
+import com.venherak.polymarket.service.stats.MarketStatsCache;
+import com.venherak.polymarket.service.sync.FetchedPage;
+import com.venherak.polymarket.service.sync.MarketPageFetcher;
+import com.venherak.polymarket.service.sync.MarketPageWriter;
+import com.venherak.polymarket.service.sync.MarketStreamingSync;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import com.venherak.polymarket.service.sync.MarketSyncPipeline;
+import com.venherak.polymarket.service.sync.SyncCheckpoint;
+import com.venherak.polymarket.service.sync.SyncCheckpointStore;
+import com.venherak.polymarket.service.sync.SyncMode;
+import com.venherak.polymarket.service.sync.SyncReport;
+import com.venherak.polymarket.service.sync.SyncStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -17,14 +38,39 @@ import java.util.logging.Logger;
 public class PolymarketService {
     private static final Logger logger = Logger.getLogger(PolymarketService.class.getName());
 
-    private final PolymarketApiClient apiClient;
     private final MarketDataService marketDataService;
+    private final MarketSyncPipeline marketSyncPipeline;
+    private final MarketStreamingSync marketStreamingSync;
+    private final MarketPageFetcher pageFetcher;
+    private final MarketPageWriter pageWriter;
+    private final SyncCheckpointStore checkpointStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarketStatsCache statsCache;
+    private final MarketIndexManager indexManager;
+    private final double rebuildMinRatio;
+    private final AtomicBoolean syncRunning = new AtomicBoolean();
 
     public PolymarketService(
-            PolymarketApiClient apiClient,
-            MarketDataService marketDataService) {
-        this.apiClient = apiClient;
+            MarketDataService marketDataService,
+            MarketSyncPipeline marketSyncPipeline,
+            MarketStreamingSync marketStreamingSync,
+            MarketPageFetcher pageFetcher,
+            MarketPageWriter pageWriter,
+            SyncCheckpointStore checkpointStore,
+            ApplicationEventPublisher eventPublisher,
+            MarketStatsCache statsCache,
+            MarketIndexManager indexManager,
+            @Value("${polymarket.sync.rebuild.min-ratio:0.9}") double rebuildMinRatio) {
         this.marketDataService = marketDataService;
+        this.marketSyncPipeline = marketSyncPipeline;
+        this.marketStreamingSync = marketStreamingSync;
+        this.pageFetcher = pageFetcher;
+        this.pageWriter = pageWriter;
+        this.checkpointStore = checkpointStore;
+        this.eventPublisher = eventPublisher;
+        this.statsCache = statsCache;
+        this.indexManager = indexManager;
+        this.rebuildMinRatio = rebuildMinRatio;
     }
 
     
@@ -32,51 +78,161 @@ public class PolymarketService {
      * Fetches markets from the Polymarket API and saves them to the database.
      * This method will fetch all pages of markets by following the cursor.
      * 
-     * @return The total number of markets saved
+     * @return The total number of markets saved, 0 if another sync is in progress
      */
     public int fetchAndSaveAllMarkets() {
-        String cursor = null;
-        int totalSaved = 0;
+        SyncReport report = syncAllMarkets(SyncStrategy.SEQUENTIAL, SyncMode.FULL);
+        return report != null ? (int) report.getMarketsSaved() : 0;
+    }
+    
+    /**
+     * Fetches all pages of markets and saves them using the given execution strategy.
+     * In incremental mode only markets whose content changed since the last sync are written.
+     * Transient API failures are retried per page; if a page still fails, the sync stops and the
+     * next sync of the same mode resumes from the last indexed page.
+     * Index refreshes are suspended while the sync writes, and a {@link MarketSyncCompletedEvent}
+     * is published once they are restored and the markets are searchable.
+     * A rebuild writes into a new generation of the index instead and always starts from the first page.
+     * Syncs never overlap: a sync requested while another one is in progress is skipped.
+     * 
+     * @param strategy how fetching, mapping and indexing are scheduled
+     * @param mode     whether to re-index everything, only changed markets, or rebuild the index
+     * @return report with counts and per-stage timings, or null if another sync is in progress
+     */
+    public SyncReport syncAllMarkets(SyncStrategy strategy, SyncMode mode) {
+        if (!syncRunning.compareAndSet(false, true)) {
+            logger.info("Skipping " + mode + " sync, another sync is still running");
+            return null;
+        }
+        SyncReport report;
+        try {
+            report = mode == SyncMode.REBUILD ? rebuild(strategy) : sync(strategy, mode);
+        } finally {
+            syncRunning.set(false);
+        }
+        eventPublisher.publishEvent(new MarketSyncCompletedEvent(report));
+        return report;
+    }
+    
+    /**
+     * Tells whether a sync is in progress.
+     * 
+     * @return true while a sync started by any caller runs
+     */
+    public boolean isSyncRunning() {
+        return syncRunning.get();
+    }
+    
+    private SyncReport sync(SyncStrategy strategy, SyncMode mode) {
+        indexManager.suspendRefresh();
+        try {
+            return run(strategy, mode);
+        } finally {
+            indexManager.resumeRefresh();
+        }
+    }
+    
+    /**
+     * Writes all markets into a new generation and switches readers to it if the sync completed
+     * and the generation holds at least the configured share of the markets served so far.
+     * Otherwise the generation is dropped and the reason recorded as an error of the report.
+     */
+    private SyncReport rebuild(SyncStrategy strategy) {
+        // Pages before a checkpoint went into a generation that has been dropped
+        checkpointStore.clear();
+        long servedMarkets = marketDataService.getTotalMarketCount();
+        indexManager.beginRebuild();
+        
+        SyncReport report;
+        try {
+            report = run(strategy, SyncMode.REBUILD);
+        } catch (RuntimeException e) {
+            indexManager.abortRebuild();
+            throw e;
+        }
+        try {
+            long rebuiltMarkets = indexManager.rebuildCount();
+            String rejection = rebuildRejection(report, rebuiltMarkets, servedMarkets);
+            if (rejection != null) {
+                indexManager.abortRebuild();
+                logger.warning("Rebuild rejected, keeping the current markets: " + rejection);
+                report.recordError(new DataPersistenceException("Rebuild rejected: " + rejection));
+                return report;
+            }
+            indexManager.commitRebuild();
+            logger.info(String.format("Rebuild complete: %d markets, previously %d", rebuiltMarkets, servedMarkets));
+        } catch (RuntimeException e) {
+            indexManager.abortRebuild();
+            logger.log(Level.SEVERE, "Rebuild failed, keeping the current markets: " + e.getMessage(), e);
+            report.recordError(e);
+        }
+        return report;
+    }
+    
+    private String rebuildRejection(SyncReport report, long rebuiltMarkets, long servedMarkets) {
+        if (report.getErrors() > 0) {
+            return "the sync stopped with an error: " + report.getLastError();
+        }
+        if (rebuiltMarkets == 0) {
+            return "no markets were written";
+        }
+        if (rebuiltMarkets < servedMarkets * rebuildMinRatio) {
+            return String.format("only %d markets were written, %d are currently served", rebuiltMarkets, servedMarkets);
+        }
+        return null;
+    }
+    
+    private SyncReport run(SyncStrategy strategy, SyncMode mode) {
+        return switch (strategy) {
+            case PIPELINED -> marketSyncPipeline.run(mode);
+            case STREAMING -> marketStreamingSync.run(mode);
+            case SEQUENTIAL -> syncSequentially(mode);
+        };
+    }
+    
+    private SyncReport syncSequentially(SyncMode mode) {
+        SyncReport report = new SyncReport(SyncStrategy.SEQUENTIAL, mode);
+        SyncCheckpoint checkpoint = checkpointStore.start(mode);
+        String cursor = checkpoint.cursor();
         
         do {
             try {
-                MarketsResponse response = apiClient.getMarkets(cursor);
-                if (response == null || response.getData() == null || response.getData().isEmpty()) {
+                long fetchStart = System.nanoTime();
+                FetchedPage page = pageFetcher.fetch(cursor);
+                if (page.documents().isEmpty()) {
                     logger.info("No more markets available. Pagination complete.");
+                    checkpointStore.clear();
                     break;
                 }
+                // Fetch time covers reading the response straight into documents; there is no separate map step
+                report.recordFetch(System.nanoTime() - fetchStart, page.documents().size());
+                cursor = page.nextCursor();
                 
-                cursor = response.getNextCursor();
+                long indexStart = System.nanoTime();
+                int saved = pageWriter.write(page.documents(), mode, report);
+                report.recordIndex(System.nanoTime() - indexStart, saved);
                 
-                // Save this batch of markets
-                int saved = marketDataService.saveMarkets(response.getData());
-                totalSaved += saved;
-                int batchSize = response.getData().size();
+                logger.info(String.format("Saved %d markets from batch, total saved: %d", saved, report.getMarketsSaved()));
                 
-                logger.info(String.format("Saved %d markets from batch, total saved: %d", saved, totalSaved));
-                
-                // If less than 500 markets returned, we've reached the end of available data
-                if (batchSize < 500) {
-                    logger.info(String.format("Received %d markets (less than 500). All available markets have been fetched.", batchSize));
+                // A short page or a missing cursor means we've reached the end of available data
+                if (page.isLast()) {
+                    logger.info(String.format("Received last page with %d markets. Pagination complete.", page.documents().size()));
+                    checkpointStore.clear();
                     break;
                 }
-                
-                // If there's no next cursor, we've reached the end
-                if (cursor == null || cursor.isEmpty()) {
-                    logger.info("No next cursor available. Pagination complete.");
-                    break;
-                }
-                
-                // Small delay to avoid hitting rate limits
-                Thread.sleep(100);
+                checkpoint = checkpoint.advance(cursor, saved);
+                checkpointStore.save(checkpoint);
             } catch (Exception e) {
-                logger.log(Level.SEVERE, "Error fetching or saving markets: " + e.getMessage(), e);
+                // The checkpoint still points at this page, so the next sync retries it
+                logger.log(Level.SEVERE, "Error fetching or saving markets, stopping sync: " + e.getMessage(), e);
+                report.recordError(e);
                 break;
             }
         } while (cursor != null);
         
-        logger.info("Completed fetching and saving markets. Total saved: " + totalSaved);
-        return totalSaved;
+        report.complete();
+        logger.info("Completed fetching and saving markets: " + report);
+        return report;
     }
     
     /**
@@ -89,6 +245,18 @@ public class PolymarketService {
         return marketDataService.getAllMarkets();
     }
     
+    /**
+     * Retrieves one page of markets from the database.
+     * Delegates to MarketDataService.
+     * 
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param size   maximum number of markets in the page
+     * @return the page with the cursor of the next one
+     */
+    public MarketPage getMarketsPage(String cursor, int size) {
+        return marketDataService.getMarketsPage(cursor, size);
+    }
+    
     /**
      * Retrieves active markets from the database.
      * Delegates to MarketDataService.
@@ -118,4 +286,50 @@ public class PolymarketService {
     public long getActiveMarketCount() {
         return marketDataService.getActiveMarketCount();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Gets all dashboard statistics of the stored markets, computed with one aggregation request.
+     * Results are cached for a short time unless a fresh computation is requested.
+     * 
+     * @param fresh whether to bypass the cache
+     * @return the market statistics
+     */
+    public MarketStats getMarketStats(boolean fresh) {
+        return fresh ? statsCache.refresh() : statsCache.get();
+    }
+    
+    /**
+     * Retrieves market summaries: those of active and open markets, or those of all markets with a tag.
+     * Delegates to MarketDataService.
+     * 
+     * @param tag tag to search for, or null for active and open markets
+     * @return List of market summaries
+     */
+    public List<MarketSummary> getMarketSummaries(String tag) {
+        return tag != null
+                ? marketDataService.getMarketSummariesByTag(tag)
+                : marketDataService.getActiveOpenMarketSummaries();
+    }
+    
+    /**
+     * Retrieves the token quotes of a market.
+     * Delegates to MarketDataService.
+     * 
+     * @param conditionId the condition ID
+     * @return the market's token quotes
+     */
+    public List<TokenQuote> getTokenQuotes(String conditionId) {
+        return marketDataService.getTokenQuotes(conditionId);
+    }
+    
+    /**
+     * Searches markets by a combination of filters.
+     * Delegates to MarketDataService.
+     * 
+     * @param criteria filters, sort order and page
+     * @return the page of matching markets
+     */
+    public MarketSearchResult searchMarkets(MarketCriteria criteria) {
+        return marketDataService.searchMarkets(criteria);
+    }
+}
@@ -0,0 +1,74 @@
+package com.venherak.polymarket.service.events;
+
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MarketMapper;
+import com.venherak.polymarket.service.snapshot.MarketSnapshot;
+import com.venherak.polymarket.service.snapshot.MarketSnapshotCache;
+import com.venherak.polymarket.service.sync.MarketsIndexedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compares every batch of indexed markets with the {@link MarketSnapshot}, which still holds the
+ * markets as of the previous sync until the current one completes, and publishes the differences
+ * on the {@link MarketEventBus}. Subscribers therefore see changes as soon as their page is
+ * indexed, not when the whole sync has finished.
+ * Nothing is published before the snapshot has been loaded by the first sync, and markets that
+ * are new to the snapshot produce no events.
+ */
+@Component
+public class MarketChangeDetector {
+
+    private final MarketSnapshotCache snapshotCache;
+    private final MarketMapper marketMapper;
+    private final MarketEventBus eventBus;
+    private final boolean enabled;
+    private final double priceThreshold;
+
+    public MarketChangeDetector(
+            MarketSnapshotCache snapshotCache,
+            MarketMapper marketMapper,
+            MarketEventBus eventBus,
+            @Value("${polymarket.events.enabled:true}") boolean enabled,
+            @Value("${polymarket.events.price-threshold:0.01}") double priceThreshold) {
+        this.snapshotCache = snapshotCache;
+        this.marketMapper = marketMapper;
+        this.eventBus = eventBus;
+        this.enabled = enabled;
+        this.priceThreshold = priceThreshold;
+    }
+
+    @EventListener
+    public void onMarketsIndexed(MarketsIndexedEvent event) {
+        if (!enabled || !eventBus.hasSubscribers() || !snapshotCache.isLoaded()) {
+            return;
+        }
+        eventBus.publishAll(detect(snapshotCache.getSnapshot(), event.documents()));
+    }
+
+    /**
+     * Compares indexed documents with their version in a snapshot.
+     *
+     * @param snapshot  markets as of the previous sync
+     * @param documents the indexed documents
+     * @return the changes, in document order
+     */
+    List<MarketEvent> detect(MarketSnapshot snapshot, List<MarketDocument> documents) {
+        Instant detectedAt = Instant.now();
+        List<MarketEvent> events = new ArrayList<>();
+        for (MarketDocument document : documents) {
+            Optional<Market> previous = snapshot.findByDocumentId(document.getId());
+            if (previous.isPresent()) {
+                MarketDiff.diff(previous.get(), marketMapper.toModel(document), priceThreshold, detectedAt, events);
+            }
+        }
+        return events;
+    }
+}
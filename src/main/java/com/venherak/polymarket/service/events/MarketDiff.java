@@ -0,0 +1,94 @@
+package com.venherak.polymarket.service.events;
+
+import com.venherak.polymarket.domain.model.Market;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares two versions of a market and turns the differences into {@link MarketEvent}s.
+ */
+final class MarketDiff {
+
+    private MarketDiff() {
+    }
+
+    /**
+     * Adds the events that lead from the previous to the current version of a market.
+     *
+     * @param previous       the market at the previous sync
+     * @param current        the market as just indexed
+     * @param priceThreshold smallest absolute price change reported as {@link MarketEvent.PriceMoved}
+     * @param detectedAt     detection time of the events
+     * @param events         list receiving the events
+     */
+    static void diff(Market previous, Market current, double priceThreshold, Instant detectedAt, List<MarketEvent> events) {
+        String conditionId = current.getConditionId();
+        if (current.isClosed() && !previous.isClosed()) {
+            events.add(new MarketEvent.MarketClosed(conditionId, detectedAt));
+        }
+        if (current.isAcceptingOrders() != previous.isAcceptingOrders()) {
+            events.add(new MarketEvent.AcceptingOrdersChanged(conditionId, current.isAcceptingOrders(), detectedAt));
+        }
+
+        if (current.getTokens() != null) {
+            Map<String, Market.Token> previousTokens = new HashMap<>();
+            if (previous.getTokens() != null) {
+                for (Market.Token token : previous.getTokens()) {
+                    previousTokens.put(token.getTokenId(), token);
+                }
+            }
+            for (Market.Token token : current.getTokens()) {
+                Market.Token before = previousTokens.get(token.getTokenId());
+                if (before == null) {
+                    continue;
+                }
+                // Equal prices are compared exactly so a threshold of 0 does not report every token
+                if (token.getPrice() != before.getPrice()
+                        && Math.abs(token.getPrice() - before.getPrice()) >= priceThreshold) {
+                    events.add(new MarketEvent.PriceMoved(conditionId, token.getTokenId(), token.getOutcome(),
+                            before.getPrice(), token.getPrice(), detectedAt));
+                }
+                if (token.isWinner() && !before.isWinner()) {
+                    events.add(new MarketEvent.WinnerResolved(conditionId, token.getTokenId(), token.getOutcome(), detectedAt));
+                }
+            }
+        }
+
+        if (!sameRewards(previous.getRewards(), current.getRewards())) {
+            events.add(new MarketEvent.RewardsChanged(conditionId, previous.getRewards(), current.getRewards(), detectedAt));
+        }
+    }
+
+    private static boolean sameRewards(Market.Rewards a, Market.Rewards b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getMinSize() == b.getMinSize()
+                && a.getMaxSpread() == b.getMaxSpread()
+                && Objects.equals(a.getEventStartDate(), b.getEventStartDate())
+                && Objects.equals(a.getEventEndDate(), b.getEventEndDate())
+                && Double.compare(a.getInGameMultiplier(), b.getInGameMultiplier()) == 0
+                && a.getRewardEpoch() == b.getRewardEpoch()
+                && sameRates(a.getRates(), b.getRates());
+    }
+
+    private static boolean sameRates(List<Market.Rate> a, List<Market.Rate> b) {
+        int size = a != null ? a.size() : 0;
+        if (size != (b != null ? b.size() : 0)) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Market.Rate rateA = a.get(i);
+            Market.Rate rateB = b.get(i);
+            if (!Objects.equals(rateA.getAssetAddress(), rateB.getAssetAddress())
+                    || rateA.getRewardsDailyRate() != rateB.getRewardsDailyRate()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.venherak.polymarket.service.events;
+
+import com.venherak.polymarket.domain.model.Market;
+
+import java.time.Instant;
+
+/**
+ * A change of a market detected between two syncs, delivered through the {@link MarketEventBus}.
+ */
+public sealed interface MarketEvent {
+
+    /**
+     * @return condition ID of the changed market
+     */
+    String conditionId();
+
+    /**
+     * @return when the sync that indexed the change detected it
+     */
+    Instant detectedAt();
+
+    /**
+     * A token price moved by at least the configured threshold since the previous sync.
+     *
+     * @param conditionId   condition ID of the market
+     * @param tokenId       token ID
+     * @param outcome       outcome the token pays out on
+     * @param previousPrice price at the previous sync
+     * @param price         current price
+     * @param detectedAt    detection time
+     */
+    record PriceMoved(String conditionId, String tokenId, String outcome, double previousPrice, double price,
+                      Instant detectedAt) implements MarketEvent {
+
+        /**
+         * @return signed price change
+         */
+        public double change() {
+            return price - previousPrice;
+        }
+    }
+
+    /**
+     * A market was closed.
+     *
+     * @param conditionId condition ID of the market
+     * @param detectedAt  detection time
+     */
+    record MarketClosed(String conditionId, Instant detectedAt) implements MarketEvent {
+    }
+
+    /**
+     * A market started or stopped accepting orders.
+     *
+     * @param conditionId     condition ID of the market
+     * @param acceptingOrders whether the market accepts orders now
+     * @param detectedAt      detection time
+     */
+    record AcceptingOrdersChanged(String conditionId, boolean acceptingOrders, Instant detectedAt)
+            implements MarketEvent {
+    }
+
+    /**
+     * A token of a market was resolved as the winning outcome.
+     *
+     * @param conditionId condition ID of the market
+     * @param tokenId     token ID of the winner
+     * @param outcome     winning outcome
+     * @param detectedAt  detection time
+     */
+    record WinnerResolved(String conditionId, String tokenId, String outcome, Instant detectedAt)
+            implements MarketEvent {
+    }
+
+    /**
+     * The liquidity rewards of a market were added, removed or changed. The rewards objects are
+     * shared with the market snapshot and must be treated as read-only.
+     *
+     * @param conditionId condition ID of the market
+     * @param previous    rewards at the previous sync, or null if there were none
+     * @param current     current rewards, or null if they were removed
+     * @param detectedAt  detection time
+     */
+    record RewardsChanged(String conditionId, Market.Rewards previous, Market.Rewards current, Instant detectedAt)
+            implements MarketEvent {
+    }
+}
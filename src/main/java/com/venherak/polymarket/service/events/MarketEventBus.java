@@ -0,0 +1,271 @@
+package com.venherak.polymarket.service.events;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers {@link MarketEvent}s to in-process subscribers through a fixed-size ring buffer.
+ * Publishers claim sequence numbers with a compare-and-set on a shared cursor and mark each
+ * written slot with its sequence; every subscriber follows the buffer on its own thread and
+ * advances its own sequence, so neither side takes a lock. An idle subscriber parks and is
+ * woken by the next publication.
+ * <p>
+ * A slot is only reused once every subscriber has passed it: a full buffer makes publishers
+ * wait for the slowest subscriber. A subscriber that keeps the buffer full for longer than the
+ * publish timeout is unsubscribed, so a stuck listener cannot stall syncs.
+ */
+@Component
+public class MarketEventBus {
+
+    private static final Logger logger = Logger.getLogger(MarketEventBus.class.getName());
+
+    private static final long PUBLISHER_PARK_NANOS = 50_000;
+    private static final long SUBSCRIBER_PARK_NANOS = 100_000_000;
+    private static final int SUBSCRIBER_SPINS = 100;
+
+    private final MarketEvent[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final long publishTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final ObjectProvider<MarketEventListener> listeners;
+
+    /** Highest claimed sequence; slots up to it may still be being written. */
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public MarketEventBus(
+            @Value("${polymarket.events.buffer-size:4096}") int bufferSize,
+            @Value("${polymarket.events.publish-timeout:5s}") Duration publishTimeout,
+            ObjectProvider<MarketEventListener> listeners) {
+        this(bufferSize, publishTimeout, listeners, System::nanoTime);
+    }
+
+    MarketEventBus(int bufferSize, Duration publishTimeout, ObjectProvider<MarketEventListener> listeners,
+                   LongSupplier nanoTime) {
+        if (bufferSize < 1 || bufferSize > 1 << 30) {
+            throw new IllegalArgumentException("Event buffer size must be between 1 and 2^30: " + bufferSize);
+        }
+        int capacity = Integer.highestOneBit(bufferSize);
+        capacity = capacity < bufferSize ? capacity << 1 : capacity;
+        this.entries = new MarketEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        this.listeners = listeners;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Subscribes the listener beans of the application context.
+     */
+    @PostConstruct
+    public void subscribeListenerBeans() {
+        if (listeners != null) {
+            listeners.orderedStream().forEach(listener -> subscribe(listener.getClass().getSimpleName(), listener));
+        }
+    }
+
+    /**
+     * Subscribes a listener to all events published from now on.
+     *
+     * @param name     name of the subscriber, used for its thread and in log messages
+     * @param listener the listener
+     * @return the subscription; closing it stops the delivery
+     */
+    public Subscription subscribe(String name, MarketEventListener listener) {
+        Subscription subscription = new Subscription(name, listener, cursor.get());
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    /**
+     * Whether anyone listens. Without subscribers, published events are discarded.
+     *
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Publishes events in order, waiting while the buffer is full.
+     *
+     * @param events the events
+     */
+    public void publishAll(List<? extends MarketEvent> events) {
+        for (MarketEvent event : events) {
+            publish(event);
+        }
+    }
+
+    /**
+     * Publishes an event, waiting while the buffer is full.
+     *
+     * @param event the event
+     */
+    public void publish(MarketEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long sequence = claim();
+        int index = (int) (sequence & mask);
+        entries[index] = event;
+        // The volatile write of the sequence makes the entry visible to subscribers
+        published.set(index, sequence);
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+    }
+
+    /**
+     * Unsubscribes all subscribers.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * @return number of slots in the ring buffer
+     */
+    int capacity() {
+        return entries.length;
+    }
+
+    private long claim() {
+        long waitingSince = 0;
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            // The slot of the next sequence last held sequence next - capacity
+            long wrapPoint = next - entries.length;
+            if (wrapPoint > minimumSequence(current)) {
+                long now = nanoTime.getAsLong();
+                if (waitingSince == 0) {
+                    waitingSince = now;
+                } else if (now - waitingSince >= publishTimeoutNanos) {
+                    dropSubscribersBefore(wrapPoint);
+                    waitingSince = 0;
+                }
+                LockSupport.parkNanos(PUBLISHER_PARK_NANOS);
+                continue;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumSequence(long fallback) {
+        long minimum = fallback;
+        for (Subscription subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.sequence.get());
+        }
+        return minimum;
+    }
+
+    private void dropSubscribersBefore(long wrapPoint) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.sequence.get() < wrapPoint) {
+                logger.severe(String.format("Market event subscriber %s did not take an event for %d ms, unsubscribing it",
+                        subscription.name, Duration.ofNanos(publishTimeoutNanos).toMillis()));
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * A subscriber following the ring buffer on its own thread.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final String name;
+        private final MarketEventListener listener;
+        private final Thread thread;
+        /** Last sequence the listener has handled. */
+        private final AtomicLong sequence;
+
+        private volatile boolean running = true;
+        private volatile boolean parked;
+
+        private Subscription(String name, MarketEventListener listener, long sequence) {
+            this.name = name;
+            this.listener = listener;
+            this.sequence = new AtomicLong(sequence);
+            this.thread = new Thread(this::run, "market-events-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Stops the delivery; the event being handled, if any, is finished.
+         */
+        @Override
+        public void close() {
+            running = false;
+            subscriptions.remove(this);
+            LockSupport.unpark(thread);
+        }
+
+        public boolean isActive() {
+            return running;
+        }
+
+        private void wake() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void run() {
+            long next = sequence.get() + 1;
+            int spins = 0;
+            while (running) {
+                int index = (int) (next & mask);
+                if (published.get(index) != next) {
+                    if (spins++ < SUBSCRIBER_SPINS) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    parked = true;
+                    // Checked again after announcing the park, so a concurrent publication is not missed
+                    if (running && published.get(index) != next) {
+                        LockSupport.parkNanos(this, SUBSCRIBER_PARK_NANOS);
+                    }
+                    parked = false;
+                    continue;
+                }
+                spins = 0;
+                MarketEvent event = entries[index];
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Market event subscriber " + name + " failed on " + event + ": " + e.getMessage(), e);
+                }
+                sequence.set(next);
+                next++;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.venherak.polymarket.service.events;
+
+/**
+ * Receives market change events from the {@link MarketEventBus}. Beans implementing this interface
+ * are subscribed at startup; others can subscribe with {@link MarketEventBus#subscribe}.
+ * Each subscriber is called on its own thread, one event at a time, in publication order.
+ */
+@FunctionalInterface
+public interface MarketEventListener {
+
+    /**
+     * Handles one event. Exceptions are logged and do not stop the delivery of later events.
+     * A listener that takes long holds up publication once the buffer is full.
+     *
+     * @param event the event
+     */
+    void onEvent(MarketEvent event);
+}
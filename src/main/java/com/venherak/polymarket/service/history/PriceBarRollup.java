@@ -0,0 +1,48 @@
+package com.venherak.polymarket.service.history;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rolls price observations up into OHLC bars.
+ * The bars only cover the given observations; a bar whose interval also contains earlier
+ * observations is a later part of the stored bar and is merged into it by the store.
+ */
+public final class PriceBarRollup {
+
+    private PriceBarRollup() {
+    }
+
+    /**
+     * Builds one bar per token, interval and start from the given observations.
+     *
+     * @param observations observations in any order
+     * @param intervals    bar widths to build
+     * @return the bars, ordered by the time of their first observation
+     */
+    public static List<PriceBar> rollup(Collection<PriceObservation> observations, Collection<BarInterval> intervals) {
+        List<PriceObservation> ordered = new ArrayList<>(observations);
+        ordered.sort(Comparator.comparing(PriceObservation::timestamp));
+
+        Map<BarKey, PriceBar> bars = new LinkedHashMap<>();
+        for (PriceObservation observation : ordered) {
+            for (BarInterval interval : intervals) {
+                PriceBar bar = PriceBar.of(observation, interval);
+                bars.merge(new BarKey(bar.tokenId(), interval, bar.start()), bar, PriceBar::merge);
+            }
+        }
+        return new ArrayList<>(bars.values());
+    }
+
+    private record BarKey(String tokenId, BarInterval interval, Instant start) {
+    }
+}
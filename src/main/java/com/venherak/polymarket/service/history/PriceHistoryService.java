@@ -0,0 +1,144 @@
+package com.venherak.polymarket.service.history;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.infrastructure.persistence.history.PriceHistoryStore;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the token prices seen by every sync and answers price history queries.
+ * Observations are buffered and written when the sync completes, or earlier once the buffer
+ * is full, together with the 1m and 1h bars rolled up from them. Price history is best effort:
+ * failing to write it is logged and never fails a sync.
+ */
+@Service
+public class PriceHistoryService {
+
+    private static final Logger logger = Logger.getLogger(PriceHistoryService.class.getName());
+
+    private static final List<BarInterval> INTERVALS = List.of(BarInterval.values());
+
+    private final PriceHistoryStore store;
+    private final boolean enabled;
+    private final int flushSize;
+
+    private final Queue<PriceObservation> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public PriceHistoryService(
+            PriceHistoryStore store,
+            @Value("${polymarket.history.enabled:true}") boolean enabled,
+            @Value("${polymarket.history.flush-size:10000}") int flushSize) {
+        this.store = store;
+        this.enabled = enabled;
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * Buffers the token prices of fetched markets, stamped with the current time.
+     * Called for every fetched page, whether or not its markets changed.
+     *
+     * @param documents fetched markets
+     */
+    public void record(List<MarketDocument> documents) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        int added = 0;
+        for (MarketDocument document : documents) {
+            if (document.getTokens() == null) {
+                continue;
+            }
+            for (TokenDocument token : document.getTokens()) {
+                if (token != null && token.getTokenId() != null && token.getPrice() != null) {
+                    pending.add(new PriceObservation(token.getTokenId(), document.getConditionId(), token.getPrice(), now));
+                    added++;
+                }
+            }
+        }
+        if (pendingCount.addAndGet(added) >= flushSize) {
+            flush();
+        }
+    }
+
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffered observations and the bars rolled up from them.
+     */
+    public synchronized void flush() {
+        List<PriceObservation> batch = new ArrayList<>();
+        PriceObservation observation;
+        while ((observation = pending.poll()) != null) {
+            batch.add(observation);
+        }
+        pendingCount.addAndGet(-batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            store.append(batch);
+            store.mergeBars(PriceBarRollup.rollup(batch, INTERVALS));
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Could not write " + batch.size() + " price observations: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the observed prices of a token.
+     *
+     * @param tokenId token ID
+     * @param from    start of the range, inclusive
+     * @param to      end of the range, exclusive
+     * @param limit   maximum number of observations, the earliest ones are returned
+     * @return the observations in time order
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public List<PriceObservation> getObservations(String tokenId, Instant from, Instant to, int limit) {
+        requireRange(from, to);
+        return store.findObservations(tokenId, from, to, limit);
+    }
+
+    /**
+     * Returns the OHLC bars of a token that start within a range.
+     *
+     * @param tokenId  token ID
+     * @param interval width of the bars
+     * @param from     start of the range, inclusive
+     * @param to       end of the range, exclusive
+     * @param limit    maximum number of bars, the earliest ones are returned
+     * @return the bars in time order
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public List<PriceBar> getBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit) {
+        requireRange(from, to);
+        return store.findBars(tokenId, interval, from, to, limit);
+    }
+
+    private static void requireRange(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.venherak.polymarket.service.orderbook;
+
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.exception.MarketNotFoundException;
+import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBook;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookSnapshot;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookUpdate;
+import com.venherak.polymarket.service.MarketDataService;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the CLOB order books of selected tokens. Each refresh fetches the full book of every
+ * tracked token into one reusable {@link OrderBookUpdate}, applies it to the token's
+ * {@link OrderBook} and publishes an immutable {@link OrderBookSnapshot} for readers, so lookups
+ * never wait for a refresh.
+ * Only tokens of indexed markets with {@code enable_order_book} can be tracked; the tick size of
+ * the market sizes the book until a response reports another one. Configured tokens whose market
+ * is not indexed yet are tracked once a sync has completed without errors, or dropped with a
+ * warning if that sync did not index them either.
+ */
+@Service
+public class OrderBookService {
+
+    private static final Logger logger = Logger.getLogger(OrderBookService.class.getName());
+
+    private static final double DEFAULT_TICK_SIZE = 0.01;
+
+    private final PolymarketApiClient apiClient;
+    private final MarketDataService marketDataService;
+    private final Set<String> configuredTokenIds;
+    private final Set<String> pendingTokenIds = ConcurrentHashMap.newKeySet();
+    private final Duration refreshInterval;
+    private final Map<String, TrackedBook> books = new ConcurrentHashMap<>();
+    private final OrderBookUpdate update = new OrderBookUpdate();
+
+    private ScheduledExecutorService executor;
+
+    public OrderBookService(
+            PolymarketApiClient apiClient,
+            MarketDataService marketDataService,
+            @Value("${polymarket.orderbook.token-ids:}") String[] tokenIds,
+            @Value("${polymarket.orderbook.refresh-interval:5s}") Duration refreshInterval) {
+        this.apiClient = apiClient;
+        this.marketDataService = marketDataService;
+        this.configuredTokenIds = new TreeSet<>();
+        Arrays.stream(tokenIds).map(String::trim).filter(tokenId -> !tokenId.isEmpty()).forEach(configuredTokenIds::add);
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Tracks the configured tokens whose markets are indexed and starts the periodic refresh, if enabled.
+     */
+    @PostConstruct
+    public void start() {
+        pendingTokenIds.addAll(configuredTokenIds);
+        trackPending(false);
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-book-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refreshScheduled, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tracks the configured tokens that were waiting for their markets to be indexed.
+     */
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        if (!pendingTokenIds.isEmpty()) {
+            trackPending(event.report() != null && event.report().getErrors() == 0);
+        }
+    }
+
+    /**
+     * Starts keeping the book of a token. The book is empty until the next refresh.
+     *
+     * @param tokenId token ID
+     * @return true if the token was not tracked before
+     * @throws MarketNotFoundException  if no indexed market has the token
+     * @throws IllegalArgumentException if the market of the token has no order book
+     */
+    public boolean track(String tokenId) {
+        Market market = marketDataService.getMarketByTokenId(tokenId);
+        if (!market.isEnableOrderBook()) {
+            throw new IllegalArgumentException("Market " + market.getConditionId() + " of token " + tokenId
+                    + " has no order book");
+        }
+        double tickSize = market.getMinimumTickSize() > 0 ? market.getMinimumTickSize() : DEFAULT_TICK_SIZE;
+        return books.putIfAbsent(tokenId, new TrackedBook(new OrderBook(tokenId, tickSize))) == null;
+    }
+
+    /**
+     * Stops keeping the book of a token.
+     *
+     * @param tokenId token ID
+     * @return true if the token was tracked
+     */
+    public boolean untrack(String tokenId) {
+        return books.remove(tokenId) != null;
+    }
+
+    public Set<String> getTrackedTokenIds() {
+        return new TreeSet<>(books.keySet());
+    }
+
+    /**
+     * Returns the last fetched book of a token.
+     *
+     * @param tokenId token ID
+     * @return the book, empty if the token is not tracked or its book has not been fetched yet
+     */
+    public Optional<OrderBookSnapshot> getSnapshot(String tokenId) {
+        TrackedBook tracked = books.get(tokenId);
+        return Optional.ofNullable(tracked != null ? tracked.snapshot : null);
+    }
+
+    /**
+     * Fetches the books of all tracked tokens. A token whose book cannot be fetched keeps its
+     * previous snapshot.
+     *
+     * @return number of books refreshed
+     */
+    public synchronized int refreshAll() {
+        int refreshed = 0;
+        for (TrackedBook tracked : books.values()) {
+            try {
+                refresh(tracked);
+                refreshed++;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Could not refresh order book of token " + tracked.book.getTokenId()
+                        + ": " + e.getMessage(), e);
+            }
+        }
+        return refreshed;
+    }
+
+    /**
+     * Fetches the book of one tracked token.
+     *
+     * @param tokenId token ID
+     * @return the new snapshot, empty if the token is not tracked
+     */
+    public synchronized Optional<OrderBookSnapshot> refresh(String tokenId) {
+        TrackedBook tracked = books.get(tokenId);
+        return tracked != null ? Optional.of(refresh(tracked)) : Optional.empty();
+    }
+
+    private OrderBookSnapshot refresh(TrackedBook tracked) {
+        OrderBook book = tracked.book;
+        apiClient.fetchBook(book.getTokenId(), update);
+        int skipped = book.apply(update);
+        if (skipped > 0) {
+            logger.warning(String.format("Skipped %d order book levels of token %s off the %s tick grid",
+                    skipped, book.getTokenId(), book.getTickSize()));
+        }
+        OrderBookSnapshot snapshot = book.snapshot();
+        tracked.snapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Tracks pending configured tokens. Tokens of unknown markets stay pending unless
+     * {@code dropUnknown} is set, e.g. after a complete sync has not indexed them.
+     */
+    private void trackPending(boolean dropUnknown) {
+        for (String tokenId : pendingTokenIds) {
+            try {
+                track(tokenId);
+                pendingTokenIds.remove(tokenId);
+            } catch (MarketNotFoundException e) {
+                if (dropUnknown) {
+                    pendingTokenIds.remove(tokenId);
+                    logger.warning("Not tracking configured token " + tokenId + ": " + e.getMessage());
+                } else {
+                    logger.info("Tracking configured token " + tokenId + " once its market is indexed");
+                }
+            } catch (IllegalArgumentException e) {
+                pendingTokenIds.remove(tokenId);
+                logger.warning("Not tracking configured token " + tokenId + ": " + e.getMessage());
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Could not look up the market of configured token " + tokenId
+                        + ", retrying after the next sync: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void refreshScheduled() {
+        try {
+            refreshAll();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Order book refresh failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The book a single refreshing thread writes to, and the snapshot readers see.
+     */
+    private static final class TrackedBook {
+
+        private final OrderBook book;
+        private volatile OrderBookSnapshot snapshot;
+
+        private TrackedBook(OrderBook book) {
+            this.book = book;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.venherak.polymarket.service.snapshot;
+
+import com.venherak.polymarket.domain.model.Market;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, point-in-time view of all markets with hash lookups by condition ID,
+ * market slug and token ID.
+ * A snapshot is never modified; {@link #withChanges(Map)} builds a new one, so readers
+ * holding a reference always see a consistent set of markets.
+ * The contained {@link Market} objects are shared between snapshots and must be treated as read-only.
+ */
+public final class MarketSnapshot {
+
+    static final MarketSnapshot EMPTY = new MarketSnapshot(Map.of());
+
+    private final Map<String, Market> byDocumentId;
+    private final Map<String, Market> byConditionId;
+    private final Map<String, Market> bySlug;
+    private final Map<String, Market> byTokenId;
+    private final List<Market> markets;
+    private final OffsetDateTime builtAt;
+
+    private MarketSnapshot(Map<String, Market> byDocumentId) {
+        Map<String, Market> conditionIds = new HashMap<>(byDocumentId.size() * 2);
+        Map<String, Market> slugs = new HashMap<>(byDocumentId.size() * 2);
+        Map<String, Market> tokenIds = new HashMap<>(byDocumentId.size() * 4);
+        for (Market market : byDocumentId.values()) {
+            putIfKey(conditionIds, market.getConditionId(), market);
+            putIfKey(slugs, market.getMarketSlug(), market);
+            if (market.getTokens() != null) {
+                for (Market.Token token : market.getTokens()) {
+                    putIfKey(tokenIds, token.getTokenId(), market);
+                }
+            }
+        }
+
+        this.byDocumentId = Map.copyOf(byDocumentId);
+        this.byConditionId = Map.copyOf(conditionIds);
+        this.bySlug = Map.copyOf(slugs);
+        this.byTokenId = Map.copyOf(tokenIds);
+        this.markets = List.copyOf(byDocumentId.values());
+        this.builtAt = OffsetDateTime.now();
+    }
+
+    /**
+     * Builds a snapshot from markets keyed by their Elasticsearch document ID.
+     *
+     * @param byDocumentId markets by document ID
+     * @return the snapshot
+     */
+    static MarketSnapshot of(Map<String, Market> byDocumentId) {
+        return new MarketSnapshot(byDocumentId);
+    }
+
+    /**
+     * Returns a new snapshot with the given markets added or replaced.
+     *
+     * @param changed changed markets by document ID
+     * @return the new snapshot
+     */
+    MarketSnapshot withChanges(Map<String, Market> changed) {
+        Map<String, Market> merged = new HashMap<>(byDocumentId);
+        merged.putAll(changed);
+        return new MarketSnapshot(merged);
+    }
+
+    /**
+     * Finds a market by its Elasticsearch document ID.
+     *
+     * @param documentId the document ID
+     * @return the market with that document ID, if any
+     */
+    public Optional<Market> findByDocumentId(String documentId) {
+        return Optional.ofNullable(documentId != null ? byDocumentId.get(documentId) : null);
+    }
+
+    public Optional<Market> findByConditionId(String conditionId) {
+        return Optional.ofNullable(conditionId != null ? byConditionId.get(conditionId) : null);
+    }
+
+    public Optional<Market> findBySlug(String marketSlug) {
+        return Optional.ofNullable(marketSlug != null ? bySlug.get(marketSlug) : null);
+    }
+
+    /**
+     * Finds the market a token belongs to.
+     *
+     * @param tokenId the token ID
+     * @return the market with that token, if any
+     */
+    public Optional<Market> findByTokenId(String tokenId) {
+        return Optional.ofNullable(tokenId != null ? byTokenId.get(tokenId) : null);
+    }
+
+    public List<Market> getMarkets() {
+        return markets;
+    }
+
+    public int size() {
+        return markets.size();
+    }
+
+    public OffsetDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    private static void putIfKey(Map<String, Market> map, String key, Market market) {
+        if (key != null && !key.isEmpty()) {
+            map.put(key, market);
+        }
+    }
+}
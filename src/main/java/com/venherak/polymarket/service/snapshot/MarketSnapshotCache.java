@@ -0,0 +1,133 @@
+package com.venherak.polymarket.service.snapshot;
+
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import com.venherak.polymarket.mapper.MarketMapper;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import com.venherak.polymarket.service.sync.MarketsIndexedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * In-process copy of all markets for lookups that must not wait for Elasticsearch.
+ * The first completed sync loads the snapshot from Elasticsearch; later syncs patch it with
+ * the documents they indexed. Each refresh builds a new {@link MarketSnapshot} and publishes
+ * it with a single volatile write, so readers never lock and never see a half-applied sync.
+ */
+@Component
+public class MarketSnapshotCache {
+
+    private static final Logger logger = Logger.getLogger(MarketSnapshotCache.class.getName());
+
+    private final MarketDocumentScanner documentScanner;
+    private final MarketMapper marketMapper;
+    private final boolean enabled;
+    private final Queue<MarketDocument> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile MarketSnapshot snapshot = MarketSnapshot.EMPTY;
+    private volatile boolean loaded;
+
+    public MarketSnapshotCache(
+            MarketDocumentScanner documentScanner,
+            MarketMapper marketMapper,
+            @Value("${polymarket.snapshot.enabled:true}") boolean enabled) {
+        this.documentScanner = documentScanner;
+        this.marketMapper = marketMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the current snapshot; empty until the first load has finished.
+     *
+     * @return the current snapshot
+     */
+    public MarketSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Whether the snapshot holds all indexed markets. Until then lookups must fall back to Elasticsearch.
+     *
+     * @return true once the snapshot has been loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener
+    public void onMarketsIndexed(MarketsIndexedEvent event) {
+        if (enabled) {
+            pending.addAll(event.documents());
+        }
+    }
+
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isRebuild()) {
+            reload();
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Applies documents indexed since the last refresh, or loads the full snapshot if that has not happened yet.
+     */
+    public synchronized void refresh() {
+        if (!loaded) {
+            reload();
+            return;
+        }
+
+        Map<String, Market> changed = new HashMap<>();
+        MarketDocument document;
+        while ((document = pending.poll()) != null) {
+            changed.put(document.getId(), marketMapper.toModel(document));
+        }
+        if (!changed.isEmpty()) {
+            snapshot = snapshot.withChanges(changed);
+            logger.info(String.format("Market snapshot patched with %d markets, %d in total", changed.size(), snapshot.size()));
+        }
+    }
+
+    /**
+     * Replaces the snapshot with all markets currently stored in Elasticsearch.
+     * The previous snapshot stays in place if loading fails.
+     */
+    public synchronized void reload() {
+        // Everything pending is indexed already and therefore part of the full load
+        pending.clear();
+        try (Stream<MarketDocument> documents = documentScanner.streamAll()) {
+            Map<String, Market> markets = new HashMap<>();
+            documents.forEach(document -> markets.put(document.getId(), marketMapper.toModel(document)));
+            snapshot = MarketSnapshot.of(markets);
+            loaded = true;
+            logger.info("Market snapshot loaded with " + snapshot.size() + " markets");
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Could not load market snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns all markets of the current snapshot.
+     *
+     * @return markets, or an empty list before the first load
+     */
+    public List<Market> getMarkets() {
+        return snapshot.getMarkets();
+    }
+}
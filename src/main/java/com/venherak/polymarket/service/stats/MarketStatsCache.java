@@ -0,0 +1,96 @@
+package com.venherak.polymarket.service.stats;
+
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketAggregator;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the last computed {@link MarketStats} for a short time, so dashboards polling the
+ * statistics cost one aggregation per time-to-live instead of one per request. Concurrent
+ * callers that find the entry expired wait for a single recomputation. A completed sync
+ * drops the entry, since it may have changed every count.
+ */
+@Component
+public class MarketStatsCache {
+
+    private final MarketAggregator aggregator;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Entry entry;
+
+    @Autowired
+    public MarketStatsCache(
+            MarketAggregator aggregator,
+            @Value("${polymarket.stats.cache-ttl:10s}") Duration ttl) {
+        this(aggregator, ttl, System::nanoTime);
+    }
+
+    MarketStatsCache(MarketAggregator aggregator, Duration ttl, LongSupplier nanoTime) {
+        this.aggregator = aggregator;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns the cached statistics, or computes them if the cache is empty, expired or disabled.
+     *
+     * @return the statistics
+     */
+    public MarketStats get() {
+        Entry current = entry;
+        if (isFresh(current)) {
+            return current.stats();
+        }
+        synchronized (this) {
+            current = entry;
+            if (isFresh(current)) {
+                return current.stats();
+            }
+            return compute();
+        }
+    }
+
+    /**
+     * Computes the statistics regardless of the cached entry, and caches the result.
+     *
+     * @return the statistics
+     */
+    public synchronized MarketStats refresh() {
+        return compute();
+    }
+
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        generation.incrementAndGet();
+        entry = null;
+    }
+
+    private MarketStats compute() {
+        long computedGeneration = generation.get();
+        long start = nanoTime.getAsLong();
+        MarketStats stats = aggregator.aggregate();
+        // A sync that completed meanwhile makes the result stale for later callers
+        if (ttlNanos > 0 && generation.get() == computedGeneration) {
+            entry = new Entry(stats, start + ttlNanos);
+        }
+        return stats;
+    }
+
+    private boolean isFresh(Entry entry) {
+        return entry != null && nanoTime.getAsLong() - entry.expiresAtNanos() < 0;
+    }
+
+    private record Entry(MarketStats stats, long expiresAtNanos) {
+    }
+}
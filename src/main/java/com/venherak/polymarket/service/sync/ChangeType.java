@@ -0,0 +1,27 @@
+package com.venherak.polymarket.service.sync;
+
+/**
+ * Classification of a market relative to the last indexed version.
+ */
+public enum ChangeType {
+    
+    /**
+     * Market was not indexed before.
+     */
+    CREATED,
+    
+    /**
+     * Market content changed, archived flag unchanged.
+     */
+    UPDATED,
+    
+    /**
+     * Market was archived or unarchived since the last sync.
+     */
+    ARCHIVED,
+    
+    /**
+     * Market content is identical to the indexed version.
+     */
+    UNCHANGED
+}
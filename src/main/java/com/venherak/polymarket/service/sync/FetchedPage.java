@@ -0,0 +1,45 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.List;
+
+/**
+ * A single page of markets returned by the API, read into documents, together with the cursor of the following page.
+ *
+ * @param documents  documents of the markets contained in the page
+ * @param nextCursor cursor for the next page, may be null or empty on the last page
+ */
+public record FetchedPage(List<MarketDocument> documents, String nextCursor) {
+    
+    /**
+     * Number of markets the API returns for a full page.
+     */
+    public static final int FULL_PAGE_SIZE = 500;
+    
+    /**
+     * Cursor the API returns once there are no more pages (base64 of {@code -1}).
+     */
+    public static final String END_CURSOR = "LTE=";
+    
+    /**
+     * Checks whether pagination should stop after this page.
+     * A short page, a missing cursor or the end cursor all mean the API has no more data.
+     * 
+     * @return true if this is the last page
+     */
+    public boolean isLast() {
+        return isLastPage(documents.size(), nextCursor);
+    }
+    
+    /**
+     * Checks whether pagination should stop after a page of the given size and cursor.
+     * 
+     * @param size       number of markets in the page
+     * @param nextCursor cursor returned with the page
+     * @return true if this is the last page
+     */
+    public static boolean isLastPage(int size, String nextCursor) {
+        return size < FULL_PAGE_SIZE || nextCursor == null || nextCursor.isEmpty() || END_CURSOR.equals(nextCursor);
+    }
+}
@@ -0,0 +1,181 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RateDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.RewardsDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 64-bit FNV-1a content fingerprint of a {@link MarketDocument}.
+ * Covers every mapped field except the bookkeeping fields {@code createdAt},
+ * {@code updatedAt} and {@code contentHash}, so two syncs of an unchanged market
+ * produce the same value.
+ */
+public final class MarketFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Separates values so that ("ab", "c") and ("a", "bc") hash differently
+    private static final int FIELD_SEPARATOR = 0x1f;
+    private static final int NULL_MARKER = 0x00;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    private MarketFingerprint() {
+    }
+
+    /**
+     * Computes the content fingerprint of a market document.
+     *
+     * @param document the document to fingerprint
+     * @return the 64-bit fingerprint
+     */
+    public static long of(MarketDocument document) {
+        MarketFingerprint fingerprint = new MarketFingerprint();
+        fingerprint.add(document.getId())
+                .add(document.getConditionId())
+                .add(document.getQuestionId())
+                .add(document.getQuestion())
+                .add(document.getDescription())
+                .add(document.getMarketSlug())
+                .add(document.getEndDate())
+                .add(document.getGameStartTime())
+                .add(document.getSecondsDelay())
+                .add(document.getFpmm())
+                .add(document.getMakerBaseFee())
+                .add(document.getTakerBaseFee())
+                .add(document.getMinimumOrderSize())
+                .add(document.getMinimumTickSize())
+                .add(document.getActive())
+                .add(document.getClosed())
+                .add(document.getArchived())
+                .add(document.getAcceptingOrders())
+                .add(document.getAcceptingOrderTimestamp())
+                .add(document.getEnableOrderBook())
+                .add(document.getNotificationsEnabled())
+                .add(document.getNegRisk())
+                .add(document.getNegRiskMarketId())
+                .add(document.getNegRiskRequestId())
+                .add(document.getIs5050Outcome())
+                .addTags(document.getTags())
+                .addTokens(document.getTokens())
+                .addRewards(document.getRewards());
+        return fingerprint.hash;
+    }
+
+    private MarketFingerprint add(String value) {
+        if (value == null) {
+            return addNull();
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            mix(c & 0xff);
+            mix(c >>> 8);
+        }
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    private MarketFingerprint add(Integer value) {
+        return value == null ? addNull() : addLong(value);
+    }
+
+    private MarketFingerprint add(Double value) {
+        return value == null ? addNull() : addLong(Double.doubleToLongBits(value));
+    }
+
+    private MarketFingerprint add(Boolean value) {
+        if (value == null) {
+            return addNull();
+        }
+        mix(value ? 2 : 1);
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    private MarketFingerprint add(OffsetDateTime value) {
+        if (value == null) {
+            return addNull();
+        }
+        addLong(value.toEpochSecond());
+        return addLong(value.getNano());
+    }
+
+    private MarketFingerprint addTags(List<String> tags) {
+        if (tags == null) {
+            return addNull();
+        }
+        addLong(tags.size());
+        for (String tag : tags) {
+            add(tag);
+        }
+        return this;
+    }
+
+    private MarketFingerprint addTokens(List<TokenDocument> tokens) {
+        if (tokens == null) {
+            return addNull();
+        }
+        addLong(tokens.size());
+        for (TokenDocument token : tokens) {
+            if (token == null) {
+                addNull();
+                continue;
+            }
+            add(token.getTokenId())
+                    .add(token.getOutcome())
+                    .add(token.getPrice())
+                    .add(token.getWinner());
+        }
+        return this;
+    }
+
+    private MarketFingerprint addRewards(RewardsDocument rewards) {
+        if (rewards == null) {
+            return addNull();
+        }
+        add(rewards.getMinSize())
+                .add(rewards.getMaxSpread())
+                .add(rewards.getEventStartDate())
+                .add(rewards.getEventEndDate())
+                .add(rewards.getInGameMultiplier())
+                .add(rewards.getRewardEpoch());
+
+        List<RateDocument> rates = rewards.getRates();
+        if (rates == null) {
+            return addNull();
+        }
+        addLong(rates.size());
+        for (RateDocument rate : rates) {
+            if (rate == null) {
+                addNull();
+                continue;
+            }
+            add(rate.getAssetAddress()).add(rate.getRewardsDailyRate());
+        }
+        return this;
+    }
+
+    private MarketFingerprint addLong(long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            mix((int) (value >>> shift) & 0xff);
+        }
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    private MarketFingerprint addNull() {
+        mix(NULL_MARKER);
+        mix(FIELD_SEPARATOR);
+        return this;
+    }
+
+    private void mix(int octet) {
+        hash ^= octet;
+        hash *= FNV_PRIME;
+    }
+}
@@ -0,0 +1,131 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the content fingerprint of every indexed market, keyed by document ID (the condition ID).
+ * Each entry is a single long: the upper 63 bits of the {@link MarketFingerprint} with the
+ * archived flag stored in the lowest bit, so archived-state transitions can be told apart
+ * from other updates without keeping the previous document.
+ * On first use the store is seeded from the {@code contentHash} field of the stored documents,
+ * so an application restart does not force a full re-index.
+ */
+@Component
+public class MarketFingerprintStore {
+
+    private static final Logger logger = Logger.getLogger(MarketFingerprintStore.class.getName());
+
+    private final MarketDocumentScanner documentScanner;
+    private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public MarketFingerprintStore(MarketDocumentScanner documentScanner) {
+        this.documentScanner = documentScanner;
+    }
+
+    /**
+     * Compares a document against the stored fingerprint.
+     *
+     * @param document    the freshly mapped document
+     * @param contentHash its content fingerprint
+     * @return how the document differs from the indexed version
+     */
+    public ChangeType classify(MarketDocument document, long contentHash) {
+        Long previous = fingerprints.get(document.getId());
+        if (previous == null) {
+            return ChangeType.CREATED;
+        }
+
+        long current = pack(contentHash, Boolean.TRUE.equals(document.getArchived()));
+        if (previous == current) {
+            return ChangeType.UNCHANGED;
+        }
+        return (previous & 1L) != (current & 1L) ? ChangeType.ARCHIVED : ChangeType.UPDATED;
+    }
+
+    /**
+     * Stores the fingerprint of a successfully indexed document.
+     *
+     * @param document    the indexed document
+     * @param contentHash its content fingerprint
+     */
+    public void record(MarketDocument document, long contentHash) {
+        fingerprints.put(document.getId(), pack(contentHash, Boolean.TRUE.equals(document.getArchived())));
+    }
+
+    /**
+     * Removes a fingerprint so the document is treated as new on the next sync.
+     *
+     * @param id document ID
+     */
+    public void forget(String id) {
+        fingerprints.remove(id);
+    }
+
+    /**
+     * Drops all fingerprints; the next incremental sync reloads them from the store.
+     */
+    public void clear() {
+        fingerprints.clear();
+        loaded = false;
+    }
+
+    /**
+     * Drops all fingerprints after a rebuild, which may have removed markets or been rejected.
+     *
+     * @param event the completed sync
+     */
+    @EventListener
+    public void onSyncCompleted(MarketSyncCompletedEvent event) {
+        if (event.isRebuild()) {
+            clear();
+        }
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+
+    /**
+     * Loads fingerprints from the stored documents if that has not happened yet.
+     * Documents indexed before fingerprints existed have no contentHash and are
+     * simply treated as new, so they get rewritten once with a hash.
+     */
+    public synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        int count = 0;
+        try (Stream<MarketDocument> documents = documentScanner.streamFingerprints()) {
+            Iterator<MarketDocument> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                MarketDocument document = iterator.next();
+                Long contentHash = document.getContentHash();
+                if (contentHash != null) {
+                    // Entries recorded during this run are newer than the stored ones
+                    fingerprints.putIfAbsent(document.getId(), pack(contentHash, Boolean.TRUE.equals(document.getArchived())));
+                    count++;
+                }
+            }
+            logger.info("Loaded " + count + " market fingerprints");
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Could not load market fingerprints, treating all markets as new: " + e.getMessage(), e);
+        }
+        loaded = true;
+    }
+
+    private static long pack(long contentHash, boolean archived) {
+        return (contentHash & ~1L) | (archived ? 1L : 0L);
+    }
+}
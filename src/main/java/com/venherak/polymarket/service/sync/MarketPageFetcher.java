@@ -0,0 +1,41 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.domain.model.MarketsPageInfo;
+import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fetches one page of markets as Elasticsearch documents, retrying transient failures.
+ * The response is read straight into documents, so no {@code Market} objects are created on the write path.
+ */
+@Component
+public class MarketPageFetcher {
+
+    private final PolymarketApiClient apiClient;
+    private final SyncRetryPolicy retryPolicy;
+
+    public MarketPageFetcher(PolymarketApiClient apiClient, SyncRetryPolicy retryPolicy) {
+        this.apiClient = apiClient;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Fetches the page at the given cursor.
+     *
+     * @param cursor cursor of the page, null for the first page
+     * @return the documents of the page and the cursor of the next one
+     */
+    public FetchedPage fetch(String cursor) {
+        return retryPolicy.execute("Fetching markets page " + cursor, () -> {
+            // A fresh list per attempt, so a page that fails halfway is not half-filled on retry
+            List<MarketDocument> documents = new ArrayList<>(FetchedPage.FULL_PAGE_SIZE);
+            MarketsPageInfo info = apiClient.streamMarketDocuments(cursor, MappingBatch.now(), documents::add);
+            return new FetchedPage(documents, info.nextCursor());
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkItemResult;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.service.MarketDataService;
+import com.venherak.polymarket.service.history.PriceHistoryService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Index stage shared by all sync strategies.
+ * Stamps every document with its content fingerprint, unless it already carries one, and, in incremental mode,
+ * drops documents whose fingerprint matches the indexed version before writing.
+ * The token prices of every document, changed or not, are recorded in the price history once the
+ * page has been written; a page that fails is not recorded, and neither are documents Elasticsearch rejected.
+ */
+@Component
+public class MarketPageWriter {
+
+    private static final Logger logger = Logger.getLogger(MarketPageWriter.class.getName());
+
+    private final MarketDataService marketDataService;
+    private final MarketFingerprintStore fingerprintStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceHistoryService priceHistory;
+
+    public MarketPageWriter(
+            MarketDataService marketDataService,
+            MarketFingerprintStore fingerprintStore,
+            ApplicationEventPublisher eventPublisher,
+            PriceHistoryService priceHistory) {
+        this.marketDataService = marketDataService;
+        this.fingerprintStore = fingerprintStore;
+        this.eventPublisher = eventPublisher;
+        this.priceHistory = priceHistory;
+    }
+
+    /**
+     * Writes a page of mapped documents according to the sync mode.
+     *
+     * @param documents mapped documents of one page
+     * @param mode      full or incremental
+     * @param report    report receiving change and failure counts
+     * @return number of documents indexed
+     * @throws DataPersistenceException if the bulk request could not be executed at all, or every
+     *                                  document of the page failed; the page must then be written again
+     */
+    public int write(List<MarketDocument> documents, SyncMode mode, SyncReport report) {
+        if (mode == SyncMode.INCREMENTAL) {
+            fingerprintStore.ensureLoaded();
+        }
+
+        List<MarketDocument> changed = new ArrayList<>(documents.size());
+        for (MarketDocument document : documents) {
+            // Fingerprints computed by an earlier pipeline stage are reused
+            long contentHash = document.getContentHash() != null ? document.getContentHash() : MarketFingerprint.of(document);
+            document.setContentHash(contentHash);
+
+            if (mode == SyncMode.INCREMENTAL) {
+                ChangeType changeType = fingerprintStore.classify(document, contentHash);
+                report.recordChange(changeType);
+                if (changeType == ChangeType.UNCHANGED) {
+                    continue;
+                }
+            }
+            changed.add(document);
+        }
+
+        if (changed.isEmpty()) {
+            priceHistory.record(documents);
+            return 0;
+        }
+
+        try {
+            BulkIndexResult result = marketDataService.indexDocuments(changed);
+            report.recordFailures(result.getFailed());
+            for (MarketDocument document : changed) {
+                fingerprintStore.record(document, document.getContentHash());
+            }
+            // Failed items must be re-sent next time even if their content does not change
+            Set<String> failedIds = new HashSet<>();
+            for (BulkItemResult failure : result.getFailures()) {
+                fingerprintStore.forget(failure.id());
+                failedIds.add(failure.id());
+            }
+            if (result.getSucceeded() == 0 && result.getFailed() > 0) {
+                throw new DataPersistenceException(String.format("Failed to index all %d markets of the page: %s",
+                        changed.size(), result.getFailures().get(0).error()));
+            }
+            List<MarketDocument> indexed = changed;
+            List<MarketDocument> written = documents;
+            if (result.getFailed() > 0) {
+                logger.warning(String.format("Failed to index %d of %d markets: %s",
+                        result.getFailed(), changed.size(), result.getFailures().get(0).error()));
+                indexed = changed.stream().filter(document -> !failedIds.contains(document.getId())).toList();
+                written = documents.stream().filter(document -> !failedIds.contains(document.getId())).toList();
+            }
+            // Pages that fail are written again, so only written pages are recorded, without their rejected markets
+            priceHistory.record(written);
+            eventPublisher.publishEvent(new MarketsIndexedEvent(indexed));
+            return (int) result.getSucceeded();
+        } catch (RuntimeException e) {
+            for (MarketDocument document : changed) {
+                fingerprintStore.forget(document.getId());
+            }
+            throw e instanceof DataPersistenceException persistenceError
+                    ? persistenceError
+                    : DataPersistenceException.forSaveError(changed.size() + " markets", e);
+        }
+    }
+}
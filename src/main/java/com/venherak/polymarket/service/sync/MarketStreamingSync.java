@@ -0,0 +1,157 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.domain.model.MarketsPageInfo;
+import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streaming market synchronization.
+ * Each page is parsed token by token straight into documents, which are
+ * written in chunks while the rest of the response is still being read. At most one chunk
+ * of documents is held in memory, and the first documents reach Elasticsearch before the
+ * page download has finished.
+ */
+@Component
+public class MarketStreamingSync {
+
+    private static final Logger logger = Logger.getLogger(MarketStreamingSync.class.getName());
+
+    private final PolymarketApiClient apiClient;
+    private final MarketPageWriter pageWriter;
+    private final SyncRetryPolicy retryPolicy;
+    private final SyncCheckpointStore checkpointStore;
+    private final int chunkSize;
+
+    public MarketStreamingSync(
+            PolymarketApiClient apiClient,
+            MarketPageWriter pageWriter,
+            SyncRetryPolicy retryPolicy,
+            SyncCheckpointStore checkpointStore,
+            @Value("${polymarket.sync.streaming.chunk-size:100}") int chunkSize) {
+        this.apiClient = apiClient;
+        this.pageWriter = pageWriter;
+        this.retryPolicy = retryPolicy;
+        this.checkpointStore = checkpointStore;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Streams all pages of markets into Elasticsearch.
+     * Fetch time in the report is the time spent reading and parsing the responses into
+     * documents, excluding the index work done from within the stream.
+     * A page that fails while streaming is retried from its start, skipping the documents
+     * chunks of earlier attempts have written, so they are neither written, counted nor recorded
+     * in the price history twice. The checkpoint advances only once a whole page has been written.
+     *
+     * @param mode full or incremental
+     * @return report with per-stage timings
+     */
+    public SyncReport run(SyncMode mode) {
+        SyncReport report = new SyncReport(SyncStrategy.STREAMING, mode);
+        SyncCheckpoint checkpoint = checkpointStore.start(mode);
+
+        try {
+            while (true) {
+                String cursor = checkpoint.cursor();
+                ChunkWriter writer = new ChunkWriter(mode, report);
+                retryPolicy.execute("Streaming markets page " + cursor, () -> streamPage(cursor, writer));
+                MarketsPageInfo page = writer.page;
+
+                if (page.count() == 0) {
+                    logger.info("No more markets available. Pagination complete.");
+                    checkpointStore.clear();
+                    break;
+                }
+                logger.info(String.format("Saved %d markets from batch, total saved: %d", writer.saved, report.getMarketsSaved()));
+
+                if (FetchedPage.isLastPage(page.count(), page.nextCursor())) {
+                    logger.info(String.format("Received last page with %d markets. Pagination complete.", page.count()));
+                    checkpointStore.clear();
+                    break;
+                }
+                checkpoint = checkpoint.advance(page.nextCursor(), writer.saved);
+                checkpointStore.save(checkpoint);
+            }
+        } catch (Exception e) {
+            // The checkpoint still points at the failed page, so the next sync retries it
+            logger.log(Level.SEVERE, "Error streaming markets, stopping sync: " + e.getMessage(), e);
+            report.recordError(e);
+        }
+
+        report.complete();
+        logger.info("Streaming sync completed: " + report);
+        return report;
+    }
+
+    private MarketsPageInfo streamPage(String cursor, ChunkWriter writer) {
+        writer.startAttempt();
+        long start = System.nanoTime();
+        writer.page = apiClient.streamMarketDocuments(cursor, writer.batch, writer::accept);
+        writer.flush();
+        if (writer.page.count() > 0) {
+            writer.report.recordFetch(System.nanoTime() - start - writer.busyNanos, writer.page.count());
+        }
+        return writer.page;
+    }
+
+    /**
+     * Collects documents from the stream and writes them once a chunk is full.
+     * Lives across the attempts of one page: documents at positions an earlier attempt has
+     * written are skipped.
+     */
+    private final class ChunkWriter {
+
+        private final SyncMode mode;
+        private final SyncReport report;
+        private final MappingBatch batch = MappingBatch.now();
+        private final List<MarketDocument> chunk = new ArrayList<>(chunkSize);
+        private long busyNanos;
+        private int saved;
+        private int flushed;
+        private int position;
+        private MarketsPageInfo page;
+
+        private ChunkWriter(SyncMode mode, SyncReport report) {
+            this.mode = mode;
+            this.report = report;
+        }
+
+        private void startAttempt() {
+            chunk.clear();
+            busyNanos = 0;
+            position = 0;
+        }
+
+        private void accept(MarketDocument document) {
+            if (position++ < flushed) {
+                return;
+            }
+            chunk.add(document);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            long indexStart = System.nanoTime();
+            int written = pageWriter.write(chunk, mode, report);
+            long indexNanos = System.nanoTime() - indexStart;
+            report.recordIndex(indexNanos, written);
+            busyNanos += indexNanos;
+            saved += written;
+            flushed += chunk.size();
+            chunk.clear();
+        }
+    }
+}
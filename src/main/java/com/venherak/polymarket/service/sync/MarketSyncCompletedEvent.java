@@ -0,0 +1,20 @@
+package com.venherak.polymarket.service.sync;
+
+/**
+ * Published when a market sync has finished, whether or not it completed without errors.
+ * Every batch indexed during the sync has been announced by a {@link MarketsIndexedEvent} before.
+ *
+ * @param report report of the finished sync
+ */
+public record MarketSyncCompletedEvent(SyncReport report) {
+
+    /**
+     * Whether the sync rebuilt the store. Markets it removed are not announced by a
+     * {@link MarketsIndexedEvent}, and the announced ones may belong to a rejected generation.
+     *
+     * @return true for a {@link SyncMode#REBUILD} sync
+     */
+    public boolean isRebuild() {
+        return report != null && report.getMode() == SyncMode.REBUILD;
+    }
+}
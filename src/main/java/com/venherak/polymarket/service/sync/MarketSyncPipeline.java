@@ -0,0 +1,173 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pipelined market synchronization.
+ * Runs fetch, map and index as three stages connected by bounded queues, so the API
+ * download of page N+1 overlaps with mapping and indexing of page N. The queue capacity
+ * caps how many pages can be held in memory at once.
+ * The fetch stage reads responses straight into documents; the map stage stamps their
+ * content fingerprints, so the index stage only has to compare and write.
+ */
+@Component
+public class MarketSyncPipeline {
+
+    private static final Logger logger = Logger.getLogger(MarketSyncPipeline.class.getName());
+
+    private static final FetchedPage END_OF_FETCH = new FetchedPage(List.of(), null);
+    private static final MappedPage END_OF_MAP = new MappedPage(List.of(), null, true);
+
+    private final MarketPageFetcher pageFetcher;
+    private final MarketPageWriter pageWriter;
+    private final SyncCheckpointStore checkpointStore;
+    private final int queueCapacity;
+
+    public MarketSyncPipeline(
+            MarketPageFetcher pageFetcher,
+            MarketPageWriter pageWriter,
+            SyncCheckpointStore checkpointStore,
+            @Value("${polymarket.sync.pipeline.queue-capacity:4}") int queueCapacity) {
+        this.pageFetcher = pageFetcher;
+        this.pageWriter = pageWriter;
+        this.checkpointStore = checkpointStore;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Fetches all pages of markets and indexes them using the pipelined strategy.
+     * The index stage runs on the calling thread; fetch and map run on dedicated threads.
+     * Starts from the checkpoint of an interrupted sync, if there is one, and advances the
+     * checkpoint after every indexed page.
+     *
+     * @param mode full or incremental
+     * @return report with per-stage timings
+     */
+    public SyncReport run(SyncMode mode) {
+        SyncReport report = new SyncReport(SyncStrategy.PIPELINED, mode);
+        BlockingQueue<FetchedPage> fetchedPages = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<MappedPage> mappedPages = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService executor = Executors.newFixedThreadPool(2, stageThreadFactory());
+        SyncCheckpoint checkpoint = checkpointStore.start(mode);
+
+        try {
+            executor.execute(() -> fetchPages(checkpoint.cursor(), fetchedPages, report));
+            executor.execute(() -> mapPages(fetchedPages, mappedPages, report));
+            indexPages(mappedPages, checkpoint, report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.recordError(e);
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error saving markets: " + e.getMessage(), e);
+            report.recordError(e);
+        } finally {
+            // Unblocks upstream stages if the index stage stopped early
+            executor.shutdownNow();
+            report.complete();
+        }
+
+        logger.info("Pipelined sync completed: " + report);
+        return report;
+    }
+
+    private void fetchPages(String startCursor, BlockingQueue<FetchedPage> output, SyncReport report) {
+        String cursor = startCursor;
+        try {
+            while (true) {
+                long start = System.nanoTime();
+                FetchedPage page = pageFetcher.fetch(cursor);
+                if (page.documents().isEmpty()) {
+                    logger.info("No more markets available. Pagination complete.");
+                    output.put(page);
+                    break;
+                }
+                report.recordFetch(System.nanoTime() - start, page.documents().size());
+
+                output.put(page);
+                if (page.isLast()) {
+                    logger.info(String.format("Received last page with %d markets. Pagination complete.", page.documents().size()));
+                    break;
+                }
+                cursor = page.nextCursor();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error fetching markets: " + e.getMessage(), e);
+            report.recordError(e);
+        } finally {
+            signalEnd(output, END_OF_FETCH);
+        }
+    }
+
+    private void mapPages(BlockingQueue<FetchedPage> input, BlockingQueue<MappedPage> output, SyncReport report) {
+        try {
+            FetchedPage page;
+            while ((page = input.take()) != END_OF_FETCH) {
+                long start = System.nanoTime();
+                for (MarketDocument document : page.documents()) {
+                    document.setContentHash(MarketFingerprint.of(document));
+                }
+                report.recordMap(System.nanoTime() - start);
+                output.put(new MappedPage(page.documents(), page.nextCursor(), page.isLast()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error mapping markets: " + e.getMessage(), e);
+            report.recordError(e);
+        } finally {
+            signalEnd(output, END_OF_MAP);
+        }
+    }
+
+    private void indexPages(BlockingQueue<MappedPage> input, SyncCheckpoint checkpoint, SyncReport report) throws InterruptedException {
+        MappedPage page;
+        while ((page = input.take()) != END_OF_MAP) {
+            long start = System.nanoTime();
+            int saved = pageWriter.write(page.documents(), checkpoint.mode(), report);
+            report.recordIndex(System.nanoTime() - start, saved);
+            logger.info(String.format("Saved %d markets from batch, total saved: %d", saved, report.getMarketsSaved()));
+
+            if (page.last()) {
+                checkpointStore.clear();
+            } else {
+                checkpoint = checkpoint.advance(page.nextCursor(), saved);
+                checkpointStore.save(checkpoint);
+            }
+        }
+    }
+
+    private static <T> void signalEnd(BlockingQueue<T> queue, T endMarker) {
+        try {
+            queue.put(endMarker);
+        } catch (InterruptedException e) {
+            // Pipeline is shutting down, downstream stages are interrupted as well
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory stageThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "market-sync-stage-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record MappedPage(List<MarketDocument> documents, String nextCursor, boolean last) {
+    }
+}
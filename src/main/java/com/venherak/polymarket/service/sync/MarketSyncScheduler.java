@@ -0,0 +1,165 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.service.PolymarketService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs market syncs in the background so application startup and reads never wait for a crawl.
+ * Syncs repeat at the configured interval plus a random jitter, measured from the end of the
+ * previous run. Runs never overlap with each other or with syncs started elsewhere: the
+ * {@link PolymarketService} skips a sync requested while another is in progress.
+ * Syncs use the configured mode, except that a full sync is run whenever the last one is older
+ * than the full sync interval, so drift missed by incremental syncs is repaired. Running that
+ * sync as a rebuild also removes markets the API no longer returns.
+ */
+@Component
+public class MarketSyncScheduler {
+
+    private static final Logger logger = Logger.getLogger(MarketSyncScheduler.class.getName());
+
+    private final PolymarketService polymarketService;
+    private final SyncStrategy strategy;
+    private final SyncMode mode;
+    private final SyncMode fullSyncMode;
+    private final boolean enabled;
+    private final boolean runOnStartup;
+    private final Duration initialDelay;
+    private final Duration interval;
+    private final Duration jitter;
+    private final Duration fullSyncInterval;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "market-sync-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong completedRuns = new AtomicLong();
+
+    private volatile OffsetDateTime startedAt;
+    private volatile SyncReport lastRun;
+    private volatile OffsetDateTime lastFullSyncAt;
+    private volatile OffsetDateTime nextRunAt;
+
+    public MarketSyncScheduler(
+            PolymarketService polymarketService,
+            @Value("${polymarket.sync.strategy:sequential}") SyncStrategy strategy,
+            @Value("${polymarket.sync.mode:full}") SyncMode mode,
+            @Value("${polymarket.sync.schedule.full-sync-mode:full}") SyncMode fullSyncMode,
+            @Value("${polymarket.sync.schedule.enabled:true}") boolean enabled,
+            @Value("${polymarket.sync.schedule.run-on-startup:true}") boolean runOnStartup,
+            @Value("${polymarket.sync.schedule.initial-delay:0s}") Duration initialDelay,
+            @Value("${polymarket.sync.schedule.interval:5m}") Duration interval,
+            @Value("${polymarket.sync.schedule.jitter:30s}") Duration jitter,
+            @Value("${polymarket.sync.schedule.full-sync-interval:24h}") Duration fullSyncInterval) {
+        this.polymarketService = polymarketService;
+        this.strategy = strategy;
+        this.mode = mode;
+        this.fullSyncMode = fullSyncMode;
+        this.enabled = enabled;
+        this.runOnStartup = runOnStartup;
+        this.initialDelay = initialDelay;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.fullSyncInterval = fullSyncInterval;
+    }
+
+    /**
+     * Schedules the first sync and returns immediately.
+     * With scheduling disabled only that first sync runs. Without the startup sync the first run
+     * waits a full interval, and with scheduling disabled as well no sync runs at all.
+     * Calling this more than once has no effect.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        startedAt = OffsetDateTime.now();
+        if (!runOnStartup && !enabled) {
+            logger.info("Background sync disabled");
+            return;
+        }
+        logger.info(enabled
+                ? String.format("Starting background %s sync every %s (jitter %s)", strategy, interval, jitter)
+                : String.format("Starting one-off background %s sync", strategy));
+        schedule(runOnStartup ? initialDelay : interval);
+    }
+
+    /**
+     * Runs a sync on the calling thread unless one is already in progress.
+     *
+     * @param syncMode mode of the sync
+     * @return the report, or null if the sync was skipped because another one is running
+     */
+    public SyncReport runNow(SyncMode syncMode) {
+        SyncReport report = polymarketService.syncAllMarkets(strategy, syncMode);
+        if (report == null) {
+            return null;
+        }
+        lastRun = report;
+        completedRuns.incrementAndGet();
+        // A full sync that left markets behind does not postpone the next one
+        if (syncMode != SyncMode.INCREMENTAL && report.getErrors() == 0 && report.getMarketsFailed() == 0) {
+            lastFullSyncAt = OffsetDateTime.now();
+        }
+        return report;
+    }
+
+    public SyncStatus getStatus() {
+        return new SyncStatus(polymarketService.isSyncRunning(), enabled, nextRunAt, lastFullSyncAt,
+                completedRuns.get(), lastRun);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // A sync interrupted here resumes from its checkpoint on the next start
+        executor.shutdownNow();
+    }
+
+    private void runScheduled() {
+        nextRunAt = null;
+        try {
+            SyncReport report = runNow(nextMode());
+            if (report != null) {
+                logger.info("Background sync saved " + report.getMarketsSaved() + " markets");
+            }
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Background sync failed: " + e.getMessage(), e);
+        }
+        if (enabled) {
+            schedule(interval.plusMillis(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1)));
+        }
+    }
+
+    private SyncMode nextMode() {
+        if (mode != SyncMode.INCREMENTAL || fullSyncInterval.isZero()) {
+            return mode;
+        }
+        OffsetDateTime lastFull = lastFullSyncAt != null ? lastFullSyncAt : startedAt;
+        boolean fullSyncDue = lastFull.plus(fullSyncInterval).isBefore(OffsetDateTime.now());
+        return fullSyncDue ? fullSyncMode : mode;
+    }
+
+    private void schedule(Duration delay) {
+        try {
+            executor.schedule(this::runScheduled, delay.toMillis(), TimeUnit.MILLISECONDS);
+            nextRunAt = OffsetDateTime.now().plus(delay);
+        } catch (RejectedExecutionException e) {
+            logger.fine("Not scheduling another sync, application is shutting down");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+
+import java.util.List;
+
+/**
+ * Published after a batch of market documents has been indexed successfully.
+ * Listeners run on the indexing thread and should only hand the documents off.
+ *
+ * @param documents the indexed documents
+ */
+public record MarketsIndexedEvent(List<MarketDocument> documents) {
+}
@@ -0,0 +1,36 @@
+package com.venherak.polymarket.service.sync;
+
+import java.time.Instant;
+
+/**
+ * Progress of an unfinished sync: the cursor of the first page that has not been indexed yet.
+ *
+ * @param mode         mode of the sync
+ * @param cursor       cursor to resume from, null for the first page
+ * @param pages        pages indexed before the checkpoint, across resumed runs
+ * @param marketsSaved markets indexed before the checkpoint, across resumed runs
+ * @param updatedAt    when the checkpoint was written
+ */
+public record SyncCheckpoint(SyncMode mode, String cursor, long pages, long marketsSaved, Instant updatedAt) {
+
+    /**
+     * Checkpoint of a sync that starts from the first page.
+     *
+     * @param mode mode of the sync
+     * @return checkpoint without cursor or progress
+     */
+    public static SyncCheckpoint initial(SyncMode mode) {
+        return new SyncCheckpoint(mode, null, 0, 0, Instant.now());
+    }
+
+    /**
+     * Checkpoint after one more page has been indexed.
+     *
+     * @param nextCursor cursor of the next page to fetch
+     * @param saved      markets indexed from the page
+     * @return the new checkpoint
+     */
+    public SyncCheckpoint advance(String nextCursor, int saved) {
+        return new SyncCheckpoint(mode, nextCursor, pages + 1, marketsSaved + saved, Instant.now());
+    }
+}
@@ -0,0 +1,117 @@
+package com.venherak.polymarket.service.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists the cursor of an unfinished sync in a small local JSON file.
+ * The file is replaced atomically after every indexed page and deleted when a sync
+ * reaches the last page, so its presence means the previous run was interrupted.
+ */
+@Component
+public class SyncCheckpointStore {
+
+    private static final Logger logger = Logger.getLogger(SyncCheckpointStore.class.getName());
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final boolean enabled;
+
+    public SyncCheckpointStore(
+            ObjectMapper objectMapper,
+            @Value("${polymarket.sync.checkpoint.file:data/sync-checkpoint.json}") Path file,
+            @Value("${polymarket.sync.checkpoint.enabled:true}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the checkpoint a sync in the given mode should start from.
+     * A checkpoint left by a sync in a different mode is ignored, since resuming it
+     * would skip pages the requested mode has to see.
+     *
+     * @param mode mode of the sync about to start
+     * @return the stored checkpoint to resume from, or an initial one
+     */
+    public SyncCheckpoint start(SyncMode mode) {
+        Optional<SyncCheckpoint> stored = load();
+        if (stored.isEmpty()) {
+            return SyncCheckpoint.initial(mode);
+        }
+        SyncCheckpoint checkpoint = stored.get();
+        if (checkpoint.mode() != mode || checkpoint.cursor() == null) {
+            logger.info(String.format("Ignoring %s sync checkpoint for %s sync", checkpoint.mode(), mode));
+            return SyncCheckpoint.initial(mode);
+        }
+        logger.info(String.format("Resuming %s sync from checkpoint written at %s after %d pages and %d markets",
+                mode, checkpoint.updatedAt(), checkpoint.pages(), checkpoint.marketsSaved()));
+        return checkpoint;
+    }
+
+    /**
+     * Reads the stored checkpoint.
+     *
+     * @return the checkpoint, or empty if there is none or it cannot be read
+     */
+    public Optional<SyncCheckpoint> load() {
+        if (!enabled || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), SyncCheckpoint.class));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable sync checkpoint " + file + ": " + e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records that every page before the checkpoint cursor has been indexed.
+     * Failing to write the checkpoint does not fail the sync.
+     *
+     * @param checkpoint the checkpoint to store
+     */
+    public void save(SyncCheckpoint checkpoint) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), checkpoint);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not write sync checkpoint " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes the checkpoint once a sync has reached the last page.
+     */
+    public void clear() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not delete sync checkpoint " + file + ": " + e.getMessage(), e);
+        }
+    }
+}
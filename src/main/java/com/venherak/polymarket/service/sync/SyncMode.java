@@ -0,0 +1,23 @@
+package com.venherak.polymarket.service.sync;
+
+/**
+ * Determines which markets are written to Elasticsearch during a sync.
+ */
+public enum SyncMode {
+    
+    /**
+     * Re-index every market returned by the API.
+     */
+    FULL,
+    
+    /**
+     * Index only markets whose content fingerprint changed since the last sync.
+     */
+    INCREMENTAL,
+
+    /**
+     * Index every market into a new, empty generation of the store and switch readers to it
+     * once the sync has completed; markets the API no longer returns disappear with the old one.
+     */
+    REBUILD
+}
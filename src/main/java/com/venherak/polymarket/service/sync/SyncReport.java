@@ -0,0 +1,184 @@
+package com.venherak.polymarket.service.sync;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Statistics collected during a single market synchronization run.
+ * Stage timings are accumulated busy time, so in a pipelined run their sum
+ * exceeds the wall-clock time and the largest one is the throughput bottleneck.
+ * Thread-safe: stages running on different threads record into the same report.
+ */
+public class SyncReport {
+    
+    private final SyncStrategy strategy;
+    private final SyncMode mode;
+    private final OffsetDateTime startedAt;
+    private final long startNanos;
+    
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong marketsFetched = new AtomicLong();
+    private final AtomicLong marketsSaved = new AtomicLong();
+    private final AtomicLong marketsFailed = new AtomicLong();
+    private final AtomicLong fetchNanos = new AtomicLong();
+    private final AtomicLong mapNanos = new AtomicLong();
+    private final AtomicLong indexNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+    
+    private volatile long wallNanos = -1;
+
+    public SyncReport(SyncStrategy strategy, SyncMode mode) {
+        this.strategy = strategy;
+        this.mode = mode;
+        this.startedAt = OffsetDateTime.now();
+        this.startNanos = System.nanoTime();
+    }
+    
+    public void recordFetch(long nanos, int marketCount) {
+        fetchNanos.addAndGet(nanos);
+        pages.incrementAndGet();
+        marketsFetched.addAndGet(marketCount);
+    }
+    
+    public void recordMap(long nanos) {
+        mapNanos.addAndGet(nanos);
+    }
+    
+    public void recordIndex(long nanos, int savedCount) {
+        indexNanos.addAndGet(nanos);
+        marketsSaved.addAndGet(savedCount);
+    }
+    
+    /**
+     * Records markets Elasticsearch rejected. They are not errors that stop the sync, but the
+     * sync has not brought them up to date.
+     * 
+     * @param failedCount number of rejected markets
+     */
+    public void recordFailures(long failedCount) {
+        marketsFailed.addAndGet(failedCount);
+    }
+    
+    public void recordChange(ChangeType changeType) {
+        switch (changeType) {
+            case CREATED -> created.incrementAndGet();
+            case UPDATED -> updated.incrementAndGet();
+            case ARCHIVED -> archived.incrementAndGet();
+            case UNCHANGED -> unchanged.incrementAndGet();
+        }
+    }
+    
+    public void recordError(Throwable error) {
+        errors.incrementAndGet();
+        lastError.set(error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+    
+    /**
+     * Marks the run as finished and freezes the wall-clock duration.
+     */
+    public void complete() {
+        if (wallNanos < 0) {
+            wallNanos = System.nanoTime() - startNanos;
+        }
+    }
+    
+    /**
+     * Returns the stage that spent the most time working, which limits throughput.
+     * 
+     * @return "fetch", "map" or "index"
+     */
+    public String getBottleneckStage() {
+        long fetch = fetchNanos.get();
+        long map = mapNanos.get();
+        long index = indexNanos.get();
+        if (fetch >= map && fetch >= index) {
+            return "fetch";
+        }
+        return map >= index ? "map" : "index";
+    }
+    
+    public SyncStrategy getStrategy() {
+        return strategy;
+    }
+    
+    public SyncMode getMode() {
+        return mode;
+    }
+    
+    public OffsetDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public long getPages() {
+        return pages.get();
+    }
+    
+    public long getMarketsFetched() {
+        return marketsFetched.get();
+    }
+    
+    public long getMarketsSaved() {
+        return marketsSaved.get();
+    }
+    
+    public long getMarketsFailed() {
+        return marketsFailed.get();
+    }
+    
+    public long getCreated() {
+        return created.get();
+    }
+    
+    public long getUpdated() {
+        return updated.get();
+    }
+    
+    public long getArchived() {
+        return archived.get();
+    }
+    
+    public long getUnchanged() {
+        return unchanged.get();
+    }
+    
+    public long getErrors() {
+        return errors.get();
+    }
+    
+    public String getLastError() {
+        return lastError.get();
+    }
+    
+    public Duration getFetchTime() {
+        return Duration.ofNanos(fetchNanos.get());
+    }
+    
+    public Duration getMapTime() {
+        return Duration.ofNanos(mapNanos.get());
+    }
+    
+    public Duration getIndexTime() {
+        return Duration.ofNanos(indexNanos.get());
+    }
+    
+    public Duration getWallTime() {
+        return Duration.ofNanos(wallNanos >= 0 ? wallNanos : System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "SyncReport{strategy=%s, mode=%s, pages=%d, fetched=%d, saved=%d, failed=%d, created=%d, updated=%d, archived=%d, unchanged=%d, errors=%d, fetch=%dms, map=%dms, index=%dms, wall=%dms, bottleneck=%s}",
+            strategy, mode, getPages(), getMarketsFetched(), getMarketsSaved(), getMarketsFailed(),
+            getCreated(), getUpdated(), getArchived(), getUnchanged(), getErrors(),
+            getFetchTime().toMillis(), getMapTime().toMillis(), getIndexTime().toMillis(),
+            getWallTime().toMillis(), getBottleneckStage());
+    }
+}
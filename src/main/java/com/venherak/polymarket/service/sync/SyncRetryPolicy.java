@@ -0,0 +1,95 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.exception.ApiClientException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Retries transient failures of a single page request with exponential backoff and full jitter.
+ * Transient failures are I/O errors, truncated or unreadable responses, HTTP 429 and HTTP 5xx;
+ * anything else fails immediately.
+ */
+@Component
+public class SyncRetryPolicy {
+
+    private static final Logger logger = Logger.getLogger(SyncRetryPolicy.class.getName());
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public SyncRetryPolicy(
+            @Value("${polymarket.sync.retry.max-attempts:5}") int maxAttempts,
+            @Value("${polymarket.sync.retry.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${polymarket.sync.retry.max-backoff:30s}") Duration maxBackoff) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Runs the action, retrying transient failures.
+     *
+     * @param description what is being attempted, used in log messages
+     * @param action      the action to run
+     * @param <T>         result type
+     * @return the action result
+     * @throws ApiClientException if all attempts fail or the failure is not transient
+     */
+    public <T> T execute(String description, Callable<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.call();
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    throw e instanceof RuntimeException runtime ? runtime : new ApiClientException(description + " failed", e);
+                }
+                if (attempt >= maxAttempts) {
+                    throw new ApiClientException(description + " failed after " + attempt + " attempts", e);
+                }
+
+                long backoffMillis = backoffMillis(attempt);
+                logger.warning(String.format("%s failed (attempt %d/%d): %s. Retrying in %dms",
+                        description, attempt, maxAttempts, e.getMessage(), backoffMillis));
+                sleep(backoffMillis, description);
+            }
+        }
+    }
+
+    /**
+     * Full jitter: a random delay between zero and the capped exponential backoff.
+     *
+     * @param attempt the attempt that just failed, starting at 1
+     * @return delay in milliseconds
+     */
+    long backoffMillis(int attempt) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(maxBackoff.toMillis(), exponential);
+        return ThreadLocalRandom.current().nextLong(capped + 1);
+    }
+
+    static boolean isTransient(Throwable error) {
+        return error instanceof ResourceAccessException
+                || error instanceof HttpServerErrorException
+                || error instanceof HttpClientErrorException.TooManyRequests
+                || error instanceof HttpMessageNotReadableException;
+    }
+
+    private static void sleep(long millis, String description) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiClientException(description + " interrupted during backoff", e);
+        }
+    }
+}
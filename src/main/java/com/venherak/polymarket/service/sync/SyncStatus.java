@@ -0,0 +1,22 @@
+package com.venherak.polymarket.service.sync;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Snapshot of the background sync scheduler.
+ *
+ * @param running        whether a sync is in progress
+ * @param scheduled      whether syncs repeat at the configured interval
+ * @param nextRunAt      when the next sync starts, or null if none is planned
+ * @param lastFullSyncAt when the last full sync finished without errors or failed markets, or null if none has
+ * @param completedRuns  syncs finished since startup
+ * @param lastRun        report of the last finished sync, or null if none has finished
+ */
+public record SyncStatus(
+        boolean running,
+        boolean scheduled,
+        OffsetDateTime nextRunAt,
+        OffsetDateTime lastFullSyncAt,
+        long completedRuns,
+        SyncReport lastRun) {
+}
@@ -0,0 +1,24 @@
+package com.venherak.polymarket.service.sync;
+
+/**
+ * Execution strategy used to crawl the Polymarket API and index the results.
+ */
+public enum SyncStrategy {
+    
+    /**
+     * Fetch, map and index one page at a time on the calling thread.
+     */
+    SEQUENTIAL,
+    
+    /**
+     * Fetch, map and index on separate stages connected by bounded queues,
+     * so the next page is downloaded while the previous one is being indexed.
+     */
+    PIPELINED,
+    
+    /**
+     * Parse each page as a stream and index markets in small chunks while the
+     * response is still being read, without materializing the page.
+     */
+    STREAMING
+}
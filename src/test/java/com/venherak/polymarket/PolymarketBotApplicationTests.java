@@ -3,7 +3,11 @@ package com.venherak.polymarket;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"polymarket.sync.schedule.enabled=false",
+		"polymarket.sync.schedule.run-on-startup=false",
+		"polymarket.columnar.enabled=false"
+})
 class PolymarketBotApplicationTests {
 
 	@Test
@@ -0,0 +1,59 @@
+package com.venherak.polymarket.infrastructure.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testBurstThenSteadyRate() {
+        AdaptiveRateLimiter limiter = limiter(10, 2);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        // Bucket is empty, next permit is one interval (100ms at 10 req/s) away
+        assertEquals(Duration.ofMillis(100).toNanos(), limiter.reserve());
+    }
+
+    @Test
+    public void testThrottleHalvesRateAndHonoursRetryAfter() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+
+        limiter.onThrottle(Duration.ofSeconds(2));
+        assertEquals(5, limiter.getRate(), 1e-9);
+        assertEquals(Duration.ofSeconds(2).toNanos(), limiter.reserve());
+    }
+
+    @Test
+    public void testRateRecoversAdditivelyUpToMaximum() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+
+        limiter.onThrottle(null);
+        limiter.onThrottle(null);
+        assertEquals(2.5, limiter.getRate(), 1e-9);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(20, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    public void testParseRetryAfter() {
+        assertEquals(Duration.ofSeconds(30), RateLimitingInterceptor.parseRetryAfter("30"));
+        assertEquals(Duration.ZERO, RateLimitingInterceptor.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertNull(RateLimitingInterceptor.parseRetryAfter("soon"));
+    }
+
+    private AdaptiveRateLimiter limiter(double rate, double burst) {
+        return new AdaptiveRateLimiter(new SimpleMeterRegistry(), rate, 0.5, 20, 0.5, 0.5, burst, clock::get);
+    }
+}
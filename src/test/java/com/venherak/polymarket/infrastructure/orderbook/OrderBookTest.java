@@ -0,0 +1,141 @@
+package com.venherak.polymarket.infrastructure.orderbook;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.venherak.polymarket.domain.model.OrderBookDepth;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.fixtures.OrderBookFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderBookTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Test
+    void tracksBestLevelsAcrossRemovals() {
+        OrderBook book = new OrderBook("101", 0.001);
+        book.set(BookSide.BID, 0.010, 5);
+        book.set(BookSide.BID, 0.450, 10);
+        book.set(BookSide.BID, 0.449, 20);
+        book.set(BookSide.ASK, 0.460, 7);
+        book.set(BookSide.ASK, 0.900, 8);
+
+        assertEquals(0.450, book.bestBid());
+        assertEquals(10, book.bestBidSize());
+        assertEquals(0.460, book.bestAsk());
+        assertEquals(0.010, book.spread(), 1e-12);
+        assertEquals(20, book.depthAt(BookSide.BID, 0.449));
+        assertEquals(0, book.depthAt(BookSide.BID, 0.4495));
+
+        book.set(BookSide.BID, 0.450, 0);
+        assertEquals(0.449, book.bestBid());
+        book.set(BookSide.BID, 0.449, 0);
+        // The next bid is several bitset words further down
+        assertEquals(0.010, book.bestBid());
+        book.set(BookSide.ASK, 0.460, 0);
+        assertEquals(0.900, book.bestAsk());
+        book.set(BookSide.BID, 0.010, 0);
+        assertTrue(Double.isNaN(book.bestBid()));
+        assertEquals(0, book.levelCount(BookSide.BID));
+
+        assertThrows(IllegalArgumentException.class, () -> book.set(BookSide.BID, 0.4505, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OrderBook("101", 0.03));
+    }
+
+    @Test
+    void appliesApiBooksAndKeepsSnapshotsApart() throws IOException {
+        byte[] json = OrderBookFixtures.bookJson(MarketFixtures.DEFAULT_SEED, "101", 0);
+        JsonNode expected = MarketFixtures.objectMapper().readTree(json);
+        OrderBookUpdate update = read(json);
+        OrderBook book = new OrderBook("101", 0.1);
+
+        assertEquals(0, book.apply(update));
+        OrderBookSnapshot snapshot = book.snapshot();
+
+        // Best levels come last in API responses
+        JsonNode bids = expected.get("bids");
+        JsonNode asks = expected.get("asks");
+        assertEquals(expected.get("tick_size").asDouble(), book.getTickSize());
+        assertEquals(Double.parseDouble(bids.get(bids.size() - 1).get("price").asText()), book.bestBid());
+        assertEquals(Double.parseDouble(asks.get(asks.size() - 1).get("price").asText()), book.bestAsk());
+        for (JsonNode level : bids) {
+            assertEquals(Double.parseDouble(level.get("size").asText()),
+                    book.depthAt(BookSide.BID, Double.parseDouble(level.get("price").asText())));
+        }
+        assertEquals(bids.size(), book.levelCount(BookSide.BID));
+        assertEquals(asks.size(), book.levelCount(BookSide.ASK));
+        assertEquals(Long.parseLong(expected.get("timestamp").asText()), book.getTimestamp());
+
+        OrderBookDepth depth = snapshot.toDepth(3);
+        assertEquals(Math.min(3, bids.size()), depth.bids().size());
+        assertEquals(book.bestBid(), depth.bestBid());
+        assertTrue(depth.bids().get(0).price() > depth.bids().get(depth.bids().size() - 1).price());
+
+        book.apply(read(OrderBookFixtures.bookJson(MarketFixtures.DEFAULT_SEED, "101", 1)));
+        assertEquals(depth.bestBid(), snapshot.bestBid());
+        assertEquals(bids.size(), snapshot.levelCount(BookSide.BID));
+    }
+
+    @Test
+    void applyingBooksAllocatesNothing() throws IOException {
+        List<OrderBookUpdate> updates = OrderBookFixtures.books(MarketFixtures.DEFAULT_SEED, 1, 20).stream()
+                .map(json -> {
+                    try {
+                        return read(json);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).toList();
+        OrderBook book = new OrderBook(updates.get(0).getAssetId(), updates.get(0).getTickSize());
+        for (OrderBookUpdate update : updates) {
+            book.apply(update);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        double sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            book.apply(updates.get(i % updates.size()));
+            sum += book.bestBid() + book.depthAt(BookSide.ASK, book.bestAsk());
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sum > 0);
+        assertTrue(allocated < 1024, "apply allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void readsDecimalStringsLikeDoubleParsing() throws IOException {
+        String json = "{\"bids\":[{\"price\":\"0.123\",\"size\":\"1234567.89\"},{\"price\":0.5,\"size\":\"1e3\"}],"
+                + "\"asks\":[],\"tick_size\":\"0.001\",\"timestamp\":\"1735689600123\",\"hash\":null}";
+        OrderBookUpdate update = read(json.getBytes());
+
+        assertEquals(2, update.getBidCount());
+        assertEquals(0.123, update.getBidPrice(0));
+        assertEquals(1234567.89, update.getBidSize(0));
+        assertEquals(0.5, update.getBidPrice(1));
+        assertEquals(1000.0, update.getBidSize(1));
+        assertEquals(0.001, update.getTickSize());
+        assertEquals(1735689600123L, update.getTimestamp());
+        assertThrows(IOException.class, () -> read("{\"bids\":[{\"price\":\"abc\",\"size\":\"1\"}]}".getBytes()));
+    }
+
+    private static OrderBookUpdate read(byte[] json) throws IOException {
+        OrderBookUpdate update = new OrderBookUpdate();
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            new OrderBookJsonReader().read(parser, update);
+        }
+        return update;
+    }
+}
@@ -0,0 +1,52 @@
+package com.venherak.polymarket.infrastructure.persistence.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.index.ElasticsearchMarketIndexManager;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ElasticsearchBulkIndexerTest {
+
+    // Nothing listens on this port, so every bulk request fails to connect
+    private final RestClient restClient = RestClient.builder(new HttpHost("localhost", 1)).build();
+    private final ElasticsearchTemplate template =
+            new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.create("localhost:1")));
+    private final ElasticsearchBulkIndexer indexer = new ElasticsearchBulkIndexer(
+            restClient,
+            new ElasticsearchMarketIndexManager(restClient, template, new ObjectMapper(), 1, 0, "1s"),
+            template,
+            new ObjectMapper(),
+            500, DataSize.ofMegabytes(5), 1, 2, Duration.ofMillis(1));
+
+    @AfterEach
+    void tearDown() throws IOException {
+        indexer.shutdown();
+        restClient.close();
+    }
+
+    @Test
+    void throwsWhenRequestsCannotBeExecuted() {
+        MarketDocument document = new MarketDocument();
+        document.setId("0x01");
+        document.setConditionId("0x01");
+
+        DataPersistenceException e = assertThrows(DataPersistenceException.class, () -> indexer.index(List.of(document)));
+
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+}
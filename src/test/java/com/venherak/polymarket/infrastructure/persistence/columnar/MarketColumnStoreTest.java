@@ -0,0 +1,147 @@
+package com.venherak.polymarket.infrastructure.persistence.columnar;
+
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentRepository;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentScanner;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentPage;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketDocumentScanner;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import com.venherak.polymarket.service.sync.MarketsIndexedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketColumnStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryMarketDocumentRepository repository = new InMemoryMarketDocumentRepository();
+    private List<MarketDocument> documents;
+
+    @BeforeEach
+    void setUp() {
+        documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, 3_000), MappingBatch.now());
+        repository.saveAll(documents);
+    }
+
+    @Test
+    void buildsAfterFirstSyncAndAnswersLikeFullScan() {
+        MarketColumnStore store = open(new InMemoryMarketDocumentScanner(repository, 500));
+        assertFalse(store.isReady());
+
+        store.onSyncCompleted(new MarketSyncCompletedEvent(null));
+
+        assertTrue(store.isReady());
+        assertEquals(documents.size(), store.size());
+        assertQueries(store);
+        store.close();
+    }
+
+    @Test
+    void appliesIndexedDocumentsAfterSync() {
+        MarketColumnStore store = open(new InMemoryMarketDocumentScanner(repository, 500));
+        store.rebuild();
+
+        MarketDocument changed = documents.get(0);
+        changed.setActive(true);
+        changed.setClosed(false);
+        TokenDocument token = new TokenDocument();
+        token.setTokenId("extra");
+        token.setPrice(0.999);
+        token.setWinner(true);
+        changed.setTokens(List.of(changed.getTokens().get(0), token));
+        MarketDocument added = new MarketDocument();
+        added.setId("added");
+        added.setTokens(List.of());
+        documents = new ArrayList<>(documents);
+        documents.add(added);
+
+        store.onMarketsIndexed(new MarketsIndexedEvent(List.of(changed, added)));
+        store.onSyncCompleted(new MarketSyncCompletedEvent(null));
+
+        assertEquals(documents.size(), store.size());
+        assertTrue(store.findByTokensPriceGreaterThan(0.998).contains(changed.getId()));
+        assertQueries(store);
+        store.close();
+    }
+
+    @Test
+    void reopensWithoutRebuilding() {
+        MarketColumnStore store = open(new InMemoryMarketDocumentScanner(repository, 500));
+        store.rebuild();
+        store.close();
+
+        MarketColumnStore reopened = open(new UnusedScanner());
+
+        assertTrue(reopened.isReady());
+        assertEquals(documents.size(), reopened.size());
+        assertQueries(reopened);
+        reopened.onSyncCompleted(new MarketSyncCompletedEvent(null));
+        reopened.close();
+    }
+
+    private MarketColumnStore open(MarketDocumentScanner scanner) {
+        MarketColumnStore store = new MarketColumnStore(scanner, MarketFixtures.objectMapper(), directory, true);
+        store.open();
+        return store;
+    }
+
+    private void assertQueries(MarketColumnStore store) {
+        assertQuery(d -> d.getTokens().stream().anyMatch(t -> t.getPrice() > 0.9),
+                store.findByTokensPriceGreaterThan(0.9));
+        assertQuery(d -> d.getTokens().stream().anyMatch(TokenDocument::getWinner),
+                store.findByTokensWinnerTrue());
+        assertQuery(d -> d.getRewards() != null && d.getRewards().getInGameMultiplier() >= 1.0
+                        && d.getRewards().getInGameMultiplier() <= 2.0,
+                store.findByRewardsInGameMultiplierBetween(1.0, 2.0));
+        assertQuery(d -> d.getRewards() != null && d.getRewards().getInGameMultiplier() > 1.0,
+                store.findByRewardsInGameMultiplierGreaterThan(1.0));
+        assertQuery(d -> d.getRewards() != null && d.getRewards().getMinSize() > 100,
+                store.findByRewardsMinSizeGreaterThan(100));
+        assertQuery(d -> Boolean.TRUE.equals(d.getActive()) && Boolean.FALSE.equals(d.getClosed()),
+                store.findByActiveTrueAndClosedFalse());
+    }
+
+    private void assertQuery(Predicate<MarketDocument> filter, List<String> actual) {
+        List<String> expected = documents.stream().filter(filter).map(MarketDocument::getId).sorted().toList();
+        assertFalse(expected.isEmpty(), "fixture data should match the query");
+        assertEquals(expected, actual.stream().sorted().toList());
+    }
+
+    /**
+     * Fails the test if the store goes back to the index.
+     */
+    private static final class UnusedScanner implements MarketDocumentScanner {
+
+        @Override
+        public Stream<MarketDocument> streamAll() {
+            throw new AssertionError("store should not be rebuilt");
+        }
+
+        @Override
+        public Stream<MarketDocument> streamFingerprints() {
+            throw new AssertionError("store should not be rebuilt");
+        }
+
+        @Override
+        public MarketDocumentPage page(String cursor, int size) {
+            throw new AssertionError("store should not be rebuilt");
+        }
+    }
+}
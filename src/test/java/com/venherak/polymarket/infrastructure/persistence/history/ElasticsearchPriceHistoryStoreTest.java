@@ -0,0 +1,46 @@
+package com.venherak.polymarket.infrastructure.persistence.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticsearchPriceHistoryStoreTest {
+
+    // Building the templates only derives the mappings; nothing is sent to this address
+    private final ElasticsearchPriceHistoryStore store = new ElasticsearchPriceHistoryStore(
+            null,
+            new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.create("localhost:1"))),
+            null,
+            new ObjectMapper(),
+            0, "90d");
+
+    @Test
+    void observationsGoToATimeSeriesDataStream() {
+        JsonNode body = store.pricesTemplate();
+
+        assertTrue(body.has("data_stream"));
+        assertEquals("polymarket-prices*", body.at("/index_patterns/0").asText());
+        assertEquals("time_series", body.at("/template/settings/index/mode").asText());
+        assertEquals("tokenId", body.at("/template/settings/index/routing_path/0").asText());
+        assertEquals("90d", body.at("/template/lifecycle/data_retention").asText());
+        JsonNode properties = body.at("/template/mappings/properties");
+        assertEquals("date", properties.at("/@timestamp/type").asText());
+        assertTrue(properties.at("/tokenId/time_series_dimension").asBoolean());
+        assertEquals("gauge", properties.at("/price/time_series_metric").asText());
+    }
+
+    @Test
+    void barsAreSortedByTokenIntervalAndStart() {
+        JsonNode body = store.barsTemplate();
+
+        assertEquals("[\"tokenId\",\"interval\",\"start\"]", body.at("/template/settings/index/sort/field").toString());
+        assertEquals("keyword", body.at("/template/mappings/properties/interval/type").asText());
+        assertEquals("false", body.at("/template/mappings/properties/open/index").asText());
+    }
+}
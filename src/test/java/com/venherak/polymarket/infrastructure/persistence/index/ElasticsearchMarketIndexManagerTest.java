@@ -0,0 +1,48 @@
+package com.venherak.polymarket.infrastructure.persistence.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticsearchMarketIndexManagerTest {
+
+    // Building the template only derives the mapping; nothing is sent to this address
+    private final ElasticsearchMarketIndexManager manager = new ElasticsearchMarketIndexManager(
+            null,
+            new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.create("localhost:1"))),
+            new ObjectMapper(),
+            3, 0, "5s");
+
+    @Test
+    void templateCarriesVersionAndSettings() {
+        JsonNode body = manager.templateBody();
+
+        assertEquals("polymarket-markets*", body.at("/index_patterns/0").asText());
+        assertEquals(ElasticsearchMarketIndexManager.TEMPLATE_VERSION, body.get("version").asInt());
+        JsonNode index = body.at("/template/settings/index");
+        assertEquals(3, index.get("number_of_shards").asInt());
+        assertEquals(0, index.get("number_of_replicas").asInt());
+        assertEquals("5s", index.get("refresh_interval").asText());
+        // Index sorting is rejected on indices with nested fields
+        assertTrue(index.path("sort").isMissingNode());
+    }
+
+    @Test
+    void mappingComesFromTheDocument() {
+        JsonNode mappings = manager.templateBody().at("/template/mappings");
+
+        assertEquals("false", mappings.get("dynamic").asText());
+        JsonNode properties = mappings.get("properties");
+        assertEquals("nested", properties.at("/tokens/type").asText());
+        assertFalse(properties.at("/marketSlug/doc_values").asBoolean(true));
+        assertFalse(properties.at("/questionId/index").asBoolean(true));
+        assertFalse(properties.at("/description/norms").asBoolean(true));
+    }
+}
@@ -0,0 +1,63 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryMarketAggregatorTest {
+
+    @Test
+    void computesCountsHistogramsAndTerms() {
+        List<MarketDocument> documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, 2_000), MappingBatch.now());
+        InMemoryMarketDocumentRepository repository = new InMemoryMarketDocumentRepository();
+        repository.saveAll(documents);
+
+        MarketStats stats = new InMemoryMarketAggregator(repository, 0.1, 0.5, 3).aggregate();
+
+        assertEquals(documents.size(), stats.totalMarkets());
+        assertEquals(repository.countByActiveTrue(), stats.activeMarkets());
+        assertEquals(repository.findByActiveTrueAndClosedFalse().size(), stats.activeOpenMarkets());
+        assertEquals(repository.countByRewardsIsNotNull(), stats.marketsWithRewards());
+        assertEquals(repository.countByActiveTrueAndRewardsIsNotNull(), stats.activeMarketsWithRewards());
+
+        long tokens = documents.stream().mapToLong(d -> d.getTokens().size()).sum();
+        assertEquals(tokens, stats.tokenPriceHistogram().stream().mapToLong(MarketStats.HistogramBucket::count).sum());
+        assertEquals(0.0, stats.tokenPriceHistogram().get(0).from());
+        assertEquals(11, stats.tokenPriceHistogram().size(), "buckets from 0 up to and including 1.0");
+        assertEquals(stats.marketsWithRewards(),
+                stats.rewardMultiplierHistogram().stream().mapToLong(MarketStats.HistogramBucket::count).sum());
+        List<MarketStats.HistogramBucket> multipliers = stats.rewardMultiplierHistogram();
+        for (int i = 1; i < multipliers.size(); i++) {
+            assertEquals(multipliers.get(i - 1).to(), multipliers.get(i).from(), 1e-9, "histogram has no gaps");
+        }
+
+        assertEquals(List.of("All", "Sports"), stats.marketsByTag().keySet().stream().limit(2).toList());
+        assertEquals(documents.size(), stats.marketsByTag().get("All"));
+        assertEquals(repository.findByTag("Sports").size(), stats.marketsByTag().get("Sports"));
+        assertEquals(3, stats.marketsByTag().size());
+        stats.marketsByRewardEpoch().forEach((epoch, count) ->
+                assertEquals(documents.stream().filter(d -> d.getRewards() != null
+                        && Objects.equals(epoch, d.getRewards().getRewardEpoch())).count(), count));
+        assertTrue(stats.marketsByRewardEpoch().size() <= 3);
+    }
+
+    @Test
+    void returnsEmptyStatisticsForEmptyStore() {
+        MarketStats stats = new InMemoryMarketAggregator(new InMemoryMarketDocumentRepository(), 0.1, 0.5, 50).aggregate();
+
+        assertEquals(0, stats.totalMarkets());
+        assertEquals(11, stats.tokenPriceHistogram().size());
+        assertTrue(stats.rewardMultiplierHistogram().isEmpty());
+        assertTrue(stats.marketsByTag().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryMarketDocumentRepositoryTest {
+
+    private final InMemoryMarketDocumentRepository repository = new InMemoryMarketDocumentRepository();
+    private List<MarketDocument> documents;
+
+    @BeforeEach
+    void setUp() {
+        documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, 1_000), MappingBatch.now());
+        repository.saveAll(documents);
+    }
+
+    @Test
+    void indexedQueriesMatchFullScan() {
+        assertQuery(d -> Boolean.TRUE.equals(d.getActive()) && Boolean.FALSE.equals(d.getClosed()),
+                repository.findByActiveTrueAndClosedFalse());
+        assertQuery(d -> d.getRewards() != null && d.getRewards().getInGameMultiplier() > 1.0,
+                repository.findByRewardsInGameMultiplierGreaterThan(1.0));
+        assertQuery(d -> d.getRewards() != null && d.getRewards().getMinSize() > 100,
+                repository.findByRewardsMinSizeGreaterThan(100));
+        assertQuery(d -> d.getTokens().stream().anyMatch(t -> t.getPrice() > 0.9),
+                repository.findByTokensPriceGreaterThan(0.9));
+        assertQuery(d -> d.getTokens().stream().anyMatch(TokenDocument::getWinner),
+                repository.findByTokensWinnerTrue());
+        assertQuery(d -> d.getTags().stream().anyMatch(tag -> tag.contains("Sport")),
+                repository.findByTagsContaining("Sport"));
+        assertQuery(d -> d.getTags().contains("Sports"),
+                repository.findByTag("Sports"));
+        assertQuery(d -> d.getQuestion().toLowerCase().contains("bitcoin"),
+                repository.findByQuestionContaining("Bitcoin"));
+
+        assertEquals(documents.stream().filter(d -> Boolean.TRUE.equals(d.getActive()) && d.getRewards() != null).count(),
+                repository.countByActiveTrueAndRewardsIsNotNull());
+        assertEquals(documents.size(), repository.count());
+    }
+
+    @Test
+    void replacingDocumentUpdatesIndexes() {
+        MarketDocument document = documents.get(0);
+        String tokenId = document.getTokens().get(0).getTokenId();
+
+        MarketDocument replacement = new MarketDocument();
+        replacement.setId(document.getId());
+        replacement.setConditionId(document.getConditionId());
+        replacement.setActive(false);
+        replacement.setTags(List.of("Replaced"));
+        repository.save(replacement);
+
+        assertTrue(repository.findFirstByTokensTokenId(tokenId).isEmpty());
+        assertEquals(replacement, repository.findByConditionId(document.getConditionId()).orElseThrow());
+        assertEquals(List.of(replacement), repository.findByTagsContaining("Replaced"));
+        assertFalse(repository.findByActiveTrue().contains(replacement));
+        assertEquals(documents.size(), repository.count());
+
+        repository.deleteById(document.getId());
+
+        assertTrue(repository.findByConditionId(document.getConditionId()).isEmpty());
+        assertTrue(repository.findByTagsContaining("Replaced").isEmpty());
+    }
+
+    private void assertQuery(Predicate<MarketDocument> filter, Iterable<MarketDocument> actual) {
+        List<String> expected = documents.stream().filter(filter).map(MarketDocument::getId).sorted().toList();
+        assertFalse(expected.isEmpty(), "fixture data should match the query");
+        assertEquals(expected, StreamSupport.stream(actual.spliterator(), false).map(MarketDocument::getId).toList());
+    }
+}
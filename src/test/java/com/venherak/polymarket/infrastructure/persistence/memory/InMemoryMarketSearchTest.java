@@ -0,0 +1,83 @@
+package com.venherak.polymarket.infrastructure.persistence.memory;
+
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketCriteria;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketSearchHits;
+import com.venherak.polymarket.mapper.MappingBatch;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemoryMarketSearchTest {
+
+    private final InMemoryMarketDocumentRepository repository = new InMemoryMarketDocumentRepository();
+    private final InMemoryMarketSearch search = new InMemoryMarketSearch(repository);
+    private List<MarketDocument> documents;
+
+    @BeforeEach
+    void setUp() {
+        documents = new MarketMapperImpl().toDocuments(
+                MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, 2_000), MappingBatch.now());
+        repository.saveAll(documents);
+    }
+
+    @Test
+    void combinesFiltersLikeTheDerivedFinders() {
+        MarketCriteria criteria = MarketCriteria.builder().active(true).hasRewards(true).build();
+
+        assertEquals(repository.countByActiveTrueAndRewardsIsNotNull(), search.count(criteria));
+        try (Stream<MarketDocument> matches = search.stream(criteria)) {
+            assertEquals(ids(repository.findByActiveTrueAndRewardsIsNotNull()), ids(matches.toList()));
+        }
+    }
+
+    @Test
+    void pagesThroughSortedMatches() {
+        OffsetDateTime from = documents.stream().map(MarketDocument::getEndDate).min(Comparator.naturalOrder()).orElseThrow();
+        MarketCriteria.Builder builder = MarketCriteria.builder()
+                .closed(false)
+                .tokenPrice(0.1, 0.9)
+                .endDate(from, from.plusYears(1))
+                .sortBy(MarketCriteria.SortField.END_DATE, Sort.Direction.DESC);
+        List<MarketDocument> expected = documents.stream()
+                .filter(d -> Boolean.FALSE.equals(d.getClosed()))
+                .filter(d -> d.getTokens().stream().anyMatch(t -> t.getPrice() >= 0.1 && t.getPrice() <= 0.9))
+                .filter(d -> d.getEndDate() != null && d.getEndDate().isBefore(from.plusYears(1)))
+                .sorted(Comparator.comparing(MarketDocument::getEndDate).reversed().thenComparing(MarketDocument::getId))
+                .toList();
+        assertFalse(expected.isEmpty(), "fixture data should match the query");
+
+        List<MarketDocument> paged = new ArrayList<>();
+        MarketSearchHits hits;
+        int page = 0;
+        do {
+            hits = search.search(builder.page(page++, 50).build());
+            assertEquals(expected.size(), hits.totalHits());
+            paged.addAll(hits.documents());
+        } while (hits.documents().size() == 50);
+
+        assertEquals(ids(expected), ids(paged));
+    }
+
+    @Test
+    void rejectsPagesBeyondResultWindow() {
+        assertThrows(IllegalArgumentException.class, () -> MarketCriteria.builder().page(10, 1_000).build());
+        assertThrows(IllegalArgumentException.class, () -> MarketCriteria.builder().tokenPrice(0.9, 0.1).build());
+    }
+
+    private static List<String> ids(List<MarketDocument> documents) {
+        return documents.stream().map(MarketDocument::getId).toList();
+    }
+}
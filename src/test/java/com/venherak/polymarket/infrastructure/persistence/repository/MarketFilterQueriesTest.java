@@ -0,0 +1,41 @@
+package com.venherak.polymarket.infrastructure.persistence.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketFilterQueriesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void allQueriesRunInFilterContext() throws Exception {
+        int queries = 0;
+        for (Field field : MarketFilterQueries.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            String body = ((String) field.get(null)).replace("?0", "1");
+            JsonNode query = objectMapper.readTree(body);
+
+            assertEquals(1, query.size(), field.getName());
+            JsonNode bool = query.get("bool");
+            assertEquals(1, bool.size(), field.getName() + " should only have filter clauses");
+            for (JsonNode clause : bool.get("filter")) {
+                assertFalse(clause.has("wildcard") || clause.has("query_string") || clause.has("match"), field.getName());
+                if (clause.has("nested")) {
+                    assertEquals("none", clause.at("/nested/score_mode").asText(), field.getName());
+                }
+            }
+            queries++;
+        }
+        assertTrue(queries > 0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.venherak.polymarket.infrastructure.persistence.search;
+
+import co.elastic.clients.json.JsonpUtils;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketQueriesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compilesAllFiltersIntoFilterContext() throws Exception {
+        MarketCriteria criteria = MarketCriteria.builder()
+                .active(true)
+                .closed(false)
+                .hasRewards(true)
+                .anyTags(List.of("Sports", "Politics"))
+                .allTags(List.of("All"))
+                .rewardEpoch(3)
+                .inGameMultiplier(1.0, 2.0)
+                .tokenPrice(0.2, null)
+                .endDate(OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), null)
+                .build();
+
+        JsonNode bool = toJson(criteria).get("bool");
+
+        assertFalse(bool.has("must"));
+        assertFalse(bool.has("should"));
+        JsonNode filter = bool.get("filter");
+        assertEquals(9, filter.size(), filter.toString());
+        assertEquals(true, filter.get(0).at("/term/active/value").asBoolean());
+        assertEquals(false, filter.get(1).at("/term/closed/value").asBoolean(true));
+        assertEquals("rewards", filter.get(2).at("/exists/field").asText());
+        assertEquals(2, filter.get(3).at("/terms/tags").size());
+        assertEquals("All", filter.get(4).at("/term/tags/value").asText());
+        assertEquals(3, filter.get(5).at("/term/rewards.rewardEpoch/value").asInt());
+        assertEquals(2.0, filter.get(6).at("/range/rewards.inGameMultiplier/lte").asDouble());
+        JsonNode nested = filter.get(7).get("nested");
+        assertEquals("tokens", nested.get("path").asText());
+        assertEquals("none", nested.get("score_mode").asText());
+        assertEquals(0.2, nested.at("/query/range/tokens.price/gte").asDouble());
+        assertTrue(nested.at("/query/range/tokens.price/lte").isMissingNode());
+        assertEquals("2025-01-01T00:00:00Z", filter.get(8).at("/range/endDate/gte").asText());
+    }
+
+    @Test
+    void excludesMarketsWithRewardsThroughMustNot() throws Exception {
+        JsonNode bool = toJson(MarketCriteria.builder().hasRewards(false).build()).get("bool");
+
+        assertEquals("rewards", bool.at("/must_not/0/exists/field").asText());
+    }
+
+    @Test
+    void matchesAllWithoutFilters() throws Exception {
+        assertTrue(toJson(MarketCriteria.builder().build()).has("match_all"));
+    }
+
+    @Test
+    void sortsByConditionIdWhenNoSortFieldIsSet() {
+        Sort sort = MarketCriteria.builder().build().sort();
+
+        assertEquals(List.of(Sort.Order.asc("conditionId")), sort.toList());
+    }
+
+    private JsonNode toJson(MarketCriteria criteria) throws Exception {
+        return objectMapper.readTree(JsonpUtils.toJsonString(MarketQueries.of(criteria), new JacksonJsonpMapper()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.venherak.polymarket.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DateParseCacheTest {
+
+    @Test
+    void returnsCachedInstanceForRepeatedText() {
+        DateParseCache cache = new DateParseCache(16);
+
+        OffsetDateTime first = cache.parse("2025-12-31T12:00:00Z");
+
+        assertSame(first, cache.parse("2025-12-31T12:00:00Z"));
+        assertEquals(OffsetDateTime.parse("2025-12-31T12:00:00Z"), first);
+    }
+
+    @Test
+    void collidingEntriesReplaceEachOther() {
+        // A single slot forces every string into the same entry
+        DateParseCache cache = new DateParseCache(1);
+
+        assertEquals(OffsetDateTime.parse("2025-03-31T12:00:00Z"), cache.parse("2025-03-31T12:00:00Z"));
+        assertEquals(OffsetDateTime.parse("2025-06-30T12:00:00Z"), cache.parse("2025-06-30T12:00:00Z"));
+        assertEquals(OffsetDateTime.parse("2025-03-31T12:00:00Z"), cache.parse("2025-03-31T12:00:00Z"));
+    }
+
+    @Test
+    void invalidDatesThrowAndAreCountedByMapper() {
+        assertThrows(DateTimeParseException.class, () -> new DateParseCache(16).parse("not a date"));
+
+        MarketMapper mapper = new MarketMapperImpl();
+        assertNull(mapper.stringToOffsetDateTime("2025-13-45"));
+        assertNull(mapper.stringToOffsetDateTime("not a date"));
+        assertEquals(2, mapper.getDateParseFailures());
+    }
+}
@@ -0,0 +1,71 @@
+package com.venherak.polymarket.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.service.sync.MarketFingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MarketDocumentJsonReaderTest {
+
+    private static final int COUNT = 50;
+
+    private final MarketMapper mapper = new MarketMapperImpl();
+    private final MarketDocumentJsonReader reader = new MarketDocumentJsonReader(mapper);
+    private final JsonFactory jsonFactory = MarketFixtures.objectMapper().getFactory();
+
+    @Test
+    void readsSameDocumentAsMappingTheMarketModel() throws IOException {
+        MappingBatch batch = MappingBatch.now();
+        List<Market> markets = MarketFixtures.markets(MarketFixtures.DEFAULT_SEED, 0, COUNT);
+
+        for (int i = 0; i < COUNT; i++) {
+            MarketDocument expected = mapper.toDocument(markets.get(i), batch);
+            MarketDocument actual = read(marketJson(i), batch);
+
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+            assertEquals(MarketFingerprint.of(expected), MarketFingerprint.of(actual), "market " + i);
+        }
+    }
+
+    @Test
+    void skipsUnknownFieldsAndLeavesMissingOnesUnset() throws IOException {
+        String json = "{\"condition_id\":\"0xabc\",\"unknown\":{\"nested\":[1,2,3]},\"market_slug\":\"slug\"}";
+
+        MarketDocument document = read(json, MappingBatch.now());
+
+        assertEquals("0xabc", document.getConditionId());
+        assertEquals("slug", document.getMarketSlug());
+        assertEquals("0xabc", document.getId());
+        assertNull(document.getEndDate());
+    }
+
+    private MarketDocument read(String json, MappingBatch batch) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            MarketDocument document = reader.read(parser, batch);
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            return document;
+        }
+    }
+
+    private String marketJson(int index) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            MarketFixtures.writeMarket(generator, MarketFixtures.DEFAULT_SEED, index);
+        }
+        return out.toString();
+    }
+}
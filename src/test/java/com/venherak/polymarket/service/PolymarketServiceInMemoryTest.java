@@ -0,0 +1,172 @@
+package com.venherak.polymarket.service;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.domain.model.MarketPage;
+import com.venherak.polymarket.domain.model.MarketSummary;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.domain.model.TokenQuote;
+import com.venherak.polymarket.fixtures.ClobApiSimulator;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.repository.MarketDocumentRepository;
+import com.venherak.polymarket.service.history.PriceHistoryService;
+import com.venherak.polymarket.service.sync.SyncMode;
+import com.venherak.polymarket.service.sync.SyncReport;
+import com.venherak.polymarket.service.sync.SyncStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Full sync and read path against the CLOB simulator and the in-memory store; needs no external services.
+ */
+@SpringBootTest
+@ActiveProfiles("in-memory")
+class PolymarketServiceInMemoryTest {
+
+    private static final ClobApiSimulator SIMULATOR = ClobApiSimulator.builder()
+            .marketCount(2_500)
+            .build()
+            .start();
+
+    // Keeps the column store files out of the working directory
+    @TempDir
+    static Path columnarDirectory;
+
+    @Autowired
+    private PolymarketService polymarketService;
+
+    @Autowired
+    private MarketDocumentRepository repository;
+
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("polymarket.api.base-url", SIMULATOR::baseUrl);
+        registry.add("polymarket.columnar.directory", () -> columnarDirectory.toString());
+        // Keep the background sync out of the way of the syncs run by the test
+        registry.add("polymarket.sync.schedule.enabled", () -> "false");
+        registry.add("polymarket.sync.schedule.run-on-startup", () -> "false");
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        SIMULATOR.close();
+    }
+
+    @Test
+    void syncsAllMarketsAndSkipsUnchangedOnes() {
+        SyncReport full = polymarketService.syncAllMarkets(SyncStrategy.PIPELINED, SyncMode.FULL);
+        assertEquals(SIMULATOR.marketCount(), full.getMarketsSaved());
+        assertEquals(SIMULATOR.marketCount(), polymarketService.getTotalMarketCount());
+
+        SyncReport incremental = polymarketService.syncAllMarkets(SyncStrategy.STREAMING, SyncMode.INCREMENTAL);
+        assertEquals(0, incremental.getMarketsSaved());
+
+        Set<String> conditionIds = new HashSet<>();
+        String cursor = null;
+        do {
+            MarketPage page = polymarketService.getMarketsPage(cursor, 1_000);
+            page.markets().forEach(market -> conditionIds.add(market.getConditionId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertEquals(SIMULATOR.marketCount(), conditionIds.size());
+    }
+
+    @Test
+    void rebuildRemovesMarketsTheApiNoLongerReturns() {
+        polymarketService.syncAllMarkets(SyncStrategy.PIPELINED, SyncMode.FULL);
+        repository.save(staleMarket(0));
+        assertEquals(SIMULATOR.marketCount() + 1, polymarketService.getTotalMarketCount());
+
+        SyncReport rebuild = polymarketService.syncAllMarkets(SyncStrategy.STREAMING, SyncMode.REBUILD);
+
+        assertEquals(0, rebuild.getErrors());
+        assertEquals(SIMULATOR.marketCount(), polymarketService.getTotalMarketCount());
+        assertTrue(repository.findById("stale-0").isEmpty());
+    }
+
+    @Test
+    void rejectsRebuildThatLostTooManyMarkets() {
+        polymarketService.syncAllMarkets(SyncStrategy.PIPELINED, SyncMode.FULL);
+        // With 500 extra markets the rebuilt 2,500 fall below 90% of those served
+        List<MarketDocument> stale = IntStream.range(0, 500).mapToObj(this::staleMarket).toList();
+        repository.saveAll(stale);
+
+        try {
+            SyncReport rebuild = polymarketService.syncAllMarkets(SyncStrategy.SEQUENTIAL, SyncMode.REBUILD);
+
+            assertEquals(1, rebuild.getErrors());
+            assertTrue(rebuild.getLastError().contains("Rebuild rejected"), rebuild.getLastError());
+            assertEquals(SIMULATOR.marketCount() + stale.size(), polymarketService.getTotalMarketCount());
+        } finally {
+            repository.deleteAll(stale);
+        }
+    }
+
+    @Test
+    void recordsPriceHistoryOfEverySync() {
+        Instant start = Instant.now();
+        polymarketService.syncAllMarkets(SyncStrategy.PIPELINED, SyncMode.FULL);
+        polymarketService.syncAllMarkets(SyncStrategy.SEQUENTIAL, SyncMode.INCREMENTAL);
+        Instant end = Instant.now().plusMillis(1);
+
+        Market.Token token = polymarketService.getMarketsPage(null, 1).markets().get(0).getTokens().get(0);
+        List<PriceObservation> observations = priceHistoryService.getObservations(token.getTokenId(), start, end, 100);
+        // Unchanged markets are observed as well
+        assertEquals(2, observations.size());
+        assertEquals(token.getPrice(), observations.get(1).price());
+
+        // The hourly bars also hold the syncs of earlier tests within the same hours
+        Instant barStart = BarInterval.ONE_HOUR.bucketStart(start);
+        List<PriceBar> bars = priceHistoryService.getBars(token.getTokenId(), BarInterval.ONE_HOUR, barStart, end, 100);
+        assertEquals(priceHistoryService.getObservations(token.getTokenId(), barStart, end, 100).size(),
+                bars.stream().mapToLong(PriceBar::observations).sum());
+        assertEquals(token.getPrice(), bars.get(bars.size() - 1).close());
+    }
+
+    @Test
+    void returnsSummariesAndQuotesOfStoredMarkets() {
+        polymarketService.syncAllMarkets(SyncStrategy.PIPELINED, SyncMode.FULL);
+
+        List<Market> markets = polymarketService.getMarketsPage(null, 1_000).markets();
+        long activeOpen = polymarketService.getAllMarkets().stream()
+                .filter(market -> market.isActive() && !market.isClosed())
+                .count();
+        List<MarketSummary> summaries = polymarketService.getMarketSummaries(null);
+        assertEquals(activeOpen, summaries.size());
+        assertEquals(activeOpen, polymarketService.getMarketStats(false).activeOpenMarkets());
+        assertTrue(summaries.stream().allMatch(summary -> summary.active() && !summary.closed()));
+
+        Market market = markets.get(0);
+        List<TokenQuote> quotes = polymarketService.getTokenQuotes(market.getConditionId());
+        assertEquals(market.getTokens().stream().map(Market.Token::getTokenId).toList(),
+                quotes.stream().map(TokenQuote::tokenId).toList());
+        assertEquals(market.getTokens().get(0).getPrice(), quotes.get(0).price());
+    }
+
+    private MarketDocument staleMarket(int index) {
+        MarketDocument document = new MarketDocument();
+        document.setId("stale-" + index);
+        document.setConditionId("stale-" + index);
+        return document;
+    }
+}
@@ -1,16 +1,41 @@
 package com.venherak.polymarket.service;
 
+import com.venherak.polymarket.fixtures.ClobApiSimulator;
 import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
 import com.venherak.polymarket.domain.model.MarketsResponse;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @SpringBootTest
 public class PolymarketServiceTest {
 
+    // Local fake of the CLOB API, so the tests neither need the network nor depend on live data
+    private static final ClobApiSimulator SIMULATOR = ClobApiSimulator.builder()
+            .marketCount(2_500)
+            .build()
+            .start();
+
+    @DynamicPropertySource
+    static void apiProperties(DynamicPropertyRegistry registry) {
+        registry.add("polymarket.api.base-url", SIMULATOR::baseUrl);
+        registry.add("polymarket.sync.checkpoint.enabled", () -> "false");
+        registry.add("polymarket.columnar.enabled", () -> "false");
+        registry.add("polymarket.sync.schedule.enabled", () -> "false");
+        registry.add("polymarket.sync.schedule.run-on-startup", () -> "false");
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        SIMULATOR.close();
+    }
+
     @Autowired
     private PolymarketApiClient polymarketApiClient;
     
@@ -20,15 +45,12 @@ public class PolymarketServiceTest {
     @Test
     public void testGetMarkets() {
         // Test with the specific cursor from the requirement using the API client directly
-        MarketsResponse response = polymarketApiClient.getMarkets("MTAwMA==");
+        MarketsResponse response = polymarketApiClient.getMarkets(ClobApiSimulator.cursorFor(1000));
         
         // Verify response is not null
         assertNotNull(response, "Markets response should not be null");
-        
-        // Print some information about the response
-        System.out.println("[DEBUG_LOG] Markets fetched: " + 
-            (response.getData() != null ? response.getData().size() : 0));
-        System.out.println("[DEBUG_LOG] Next cursor: " + response.getNextCursor());
+        assertEquals(500, response.getData().size());
+        assertEquals(ClobApiSimulator.cursorFor(1500), response.getNextCursor());
     }
     
     @Test
@@ -36,7 +58,7 @@ public class PolymarketServiceTest {
         // Test the main orchestration method
         int totalSaved = polymarketService.fetchAndSaveAllMarkets();
         
-        // Verify that some markets were processed (could be 0 if already exists)
-        System.out.println("[DEBUG_LOG] Total markets processed: " + totalSaved);
+        // Verify that every simulated market was processed
+        assertEquals(SIMULATOR.marketCount(), totalSaved);
     }
 }
\ No newline at end of file
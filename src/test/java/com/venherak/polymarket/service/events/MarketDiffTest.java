@@ -0,0 +1,64 @@
+package com.venherak.polymarket.service.events;
+
+import com.venherak.polymarket.domain.model.Market;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketDiffTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Test
+    void reportsEveryKindOfChange() {
+        Market previous = market(false, true, 0.40, false, 3);
+        Market current = market(true, false, 0.55, true, 4);
+
+        List<MarketEvent> events = diff(previous, current, 0.01);
+
+        assertEquals(List.of(
+                new MarketEvent.MarketClosed("0xabc", NOW),
+                new MarketEvent.AcceptingOrdersChanged("0xabc", false, NOW),
+                new MarketEvent.PriceMoved("0xabc", "101", "Yes", 0.40, 0.55, NOW),
+                new MarketEvent.WinnerResolved("0xabc", "101", "Yes", NOW),
+                new MarketEvent.RewardsChanged("0xabc", previous.getRewards(), current.getRewards(), NOW)), events);
+    }
+
+    @Test
+    void ignoresPriceMovesBelowThresholdAndUnchangedRewards() {
+        assertTrue(diff(market(false, true, 0.40, false, 3), market(false, true, 0.405, false, 3), 0.01).isEmpty());
+        assertTrue(diff(market(false, true, 0.40, false, 3), market(false, true, 0.40, false, 3), 0.0).isEmpty());
+    }
+
+    private static List<MarketEvent> diff(Market previous, Market current, double threshold) {
+        List<MarketEvent> events = new ArrayList<>();
+        MarketDiff.diff(previous, current, threshold, NOW, events);
+        return events;
+    }
+
+    private static Market market(boolean closed, boolean acceptingOrders, double price, boolean winner, int rewardEpoch) {
+        Market market = new Market();
+        market.setConditionId("0xabc");
+        market.setClosed(closed);
+        market.setAcceptingOrders(acceptingOrders);
+        Market.Token token = new Market.Token();
+        token.setTokenId("101");
+        token.setOutcome("Yes");
+        token.setPrice(price);
+        token.setWinner(winner);
+        market.setTokens(List.of(token));
+        Market.Rewards rewards = new Market.Rewards();
+        rewards.setRewardEpoch(rewardEpoch);
+        Market.Rate rate = new Market.Rate();
+        rate.setAssetAddress("0xusdc");
+        rate.setRewardsDailyRate(10);
+        rewards.setRates(List.of(rate));
+        market.setRewards(rewards);
+        return market;
+    }
+}
@@ -0,0 +1,92 @@
+package com.venherak.polymarket.service.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketEventBusTest {
+
+    @Test
+    void deliversEveryEventToEverySubscriberInOrderAcrossWraps() throws Exception {
+        MarketEventBus bus = new MarketEventBus(6, Duration.ofSeconds(10), null, System::nanoTime);
+        assertEquals(8, bus.capacity());
+        int producers = 3;
+        int perProducer = 2_000;
+        List<List<MarketEvent>> received = List.of(new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>());
+        CountDownLatch done = new CountDownLatch(2 * producers * perProducer);
+        for (int i = 0; i < received.size(); i++) {
+            List<MarketEvent> events = received.get(i);
+            bus.subscribe("test-" + i, event -> {
+                events.add(event);
+                done.countDown();
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            String conditionId = "0x" + p;
+            executor.submit(() -> {
+                for (int n = 0; n < perProducer; n++) {
+                    bus.publish(new MarketEvent.PriceMoved(conditionId, "1", "Yes", 0, n, Instant.EPOCH));
+                }
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        bus.shutdown();
+
+        for (List<MarketEvent> events : received) {
+            assertEquals(producers * perProducer, events.size());
+            // Events of one publisher keep their order
+            for (int p = 0; p < producers; p++) {
+                String conditionId = "0x" + p;
+                List<Double> prices = new ArrayList<>();
+                events.stream().filter(event -> event.conditionId().equals(conditionId))
+                        .forEach(event -> prices.add(((MarketEvent.PriceMoved) event).price()));
+                for (int n = 0; n < perProducer; n++) {
+                    assertEquals(n, prices.get(n));
+                }
+            }
+        }
+    }
+
+    @Test
+    void unsubscribesSubscriberThatBlocksPublication() throws Exception {
+        MarketEventBus bus = new MarketEventBus(2, Duration.ofMillis(50), null, System::nanoTime);
+        CountDownLatch release = new CountDownLatch(1);
+        MarketEventBus.Subscription stuck = bus.subscribe("stuck", event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<MarketEvent> received = new CopyOnWriteArrayList<>();
+        bus.subscribe("healthy", received::add);
+
+        for (int n = 0; n < 10; n++) {
+            bus.publish(new MarketEvent.MarketClosed("0x" + n, Instant.EPOCH));
+        }
+
+        assertFalse(stuck.isActive());
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(10, received.size());
+        bus.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package com.venherak.polymarket.service.history;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryPriceHistoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PriceBarRollupTest {
+
+    private static final Instant HOUR = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Test
+    void buildsBarsPerIntervalInTimeOrder() {
+        List<PriceObservation> observations = List.of(
+                observation(10, 0.5),
+                observation(50, 0.7),
+                observation(20, 0.3),
+                observation(65, 0.6));
+
+        List<PriceBar> bars = PriceBarRollup.rollup(observations, List.of(BarInterval.values()));
+
+        assertEquals(List.of(
+                new PriceBar("token", "market", BarInterval.ONE_MINUTE, HOUR, 0.5, 0.7, 0.3, 0.7, 3),
+                new PriceBar("token", "market", BarInterval.ONE_HOUR, HOUR, 0.5, 0.7, 0.3, 0.6, 4),
+                new PriceBar("token", "market", BarInterval.ONE_MINUTE, HOUR.plusSeconds(60), 0.6, 0.6, 0.6, 0.6, 1)),
+                bars);
+    }
+
+    @Test
+    void mergedPartialBarsEqualTheBarOfAllObservations() {
+        List<PriceObservation> first = List.of(observation(100, 0.4), observation(900, 0.2));
+        List<PriceObservation> second = List.of(observation(1800, 0.9), observation(3000, 0.5));
+        InMemoryPriceHistoryStore store = new InMemoryPriceHistoryStore();
+
+        store.mergeBars(PriceBarRollup.rollup(first, List.of(BarInterval.ONE_HOUR)));
+        store.mergeBars(PriceBarRollup.rollup(second, List.of(BarInterval.ONE_HOUR)));
+
+        List<PriceObservation> all = List.of(first.get(0), first.get(1), second.get(0), second.get(1));
+        assertEquals(PriceBarRollup.rollup(all, List.of(BarInterval.ONE_HOUR)),
+                store.findBars("token", BarInterval.ONE_HOUR, HOUR, HOUR.plusSeconds(3600), 10));
+    }
+
+    private static PriceObservation observation(int second, double price) {
+        return new PriceObservation("token", "market", price, HOUR.plusSeconds(second));
+    }
+}
@@ -0,0 +1,54 @@
+package com.venherak.polymarket.service.snapshot;
+
+import com.venherak.polymarket.domain.model.Market;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketSnapshotTest {
+
+    @Test
+    void looksUpMarketsByConditionIdSlugAndTokenId() {
+        Market market = market("0xabc", "will-it-rain", "101", "102");
+        MarketSnapshot snapshot = MarketSnapshot.of(Map.of("0xabc", market));
+
+        assertSame(market, snapshot.findByConditionId("0xabc").orElseThrow());
+        assertSame(market, snapshot.findBySlug("will-it-rain").orElseThrow());
+        assertSame(market, snapshot.findByTokenId("102").orElseThrow());
+        assertTrue(snapshot.findByTokenId("999").isEmpty());
+        assertTrue(snapshot.findBySlug(null).isEmpty());
+    }
+
+    @Test
+    void withChangesLeavesOriginalSnapshotUntouched() {
+        Market original = market("0xabc", "will-it-rain", "101", "102");
+        Market other = market("0xdef", "will-it-snow", "201", "202");
+        MarketSnapshot before = MarketSnapshot.of(Map.of("0xabc", original, "0xdef", other));
+
+        Market updated = market("0xabc", "will-it-rain", "103", "104");
+        MarketSnapshot after = before.withChanges(Map.of("0xabc", updated));
+
+        assertSame(original, before.findByTokenId("101").orElseThrow());
+        assertSame(updated, after.findByConditionId("0xabc").orElseThrow());
+        assertTrue(after.findByTokenId("101").isEmpty());
+        assertSame(other, after.findBySlug("will-it-snow").orElseThrow());
+        assertEquals(2, after.size());
+    }
+
+    private static Market market(String conditionId, String slug, String... tokenIds) {
+        Market market = new Market();
+        market.setConditionId(conditionId);
+        market.setMarketSlug(slug);
+        market.setTokens(Arrays.stream(tokenIds).map(tokenId -> {
+            Market.Token token = new Market.Token();
+            token.setTokenId(tokenId);
+            return token;
+        }).toList());
+        return market;
+    }
+}
@@ -0,0 +1,71 @@
+package com.venherak.polymarket.service.stats;
+
+import com.venherak.polymarket.domain.model.MarketStats;
+import com.venherak.polymarket.infrastructure.persistence.search.MarketAggregator;
+import com.venherak.polymarket.service.sync.MarketSyncCompletedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MarketStatsCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CountingAggregator aggregator = new CountingAggregator();
+
+    @Test
+    void servesCachedStatsUntilTheyExpire() {
+        MarketStatsCache cache = new MarketStatsCache(aggregator, Duration.ofSeconds(10), now::get);
+
+        MarketStats first = cache.get();
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertSame(first, cache.get());
+        assertEquals(1, aggregator.calls);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, cache.get().totalMarkets());
+        assertEquals(2, aggregator.calls);
+    }
+
+    @Test
+    void refreshAndCompletedSyncReplaceCachedStats() {
+        MarketStatsCache cache = new MarketStatsCache(aggregator, Duration.ofSeconds(10), now::get);
+        cache.get();
+
+        assertEquals(2, cache.refresh().totalMarkets());
+        assertEquals(2, cache.get().totalMarkets());
+
+        cache.onSyncCompleted(new MarketSyncCompletedEvent(null));
+        assertEquals(3, cache.get().totalMarkets());
+    }
+
+    @Test
+    void computesEveryTimeWithZeroTtl() {
+        MarketStatsCache cache = new MarketStatsCache(aggregator, Duration.ZERO, now::get);
+
+        cache.get();
+        cache.get();
+
+        assertEquals(2, aggregator.calls);
+    }
+
+    /**
+     * Reports the number of calls so far as the total market count.
+     */
+    private static final class CountingAggregator implements MarketAggregator {
+
+        private int calls;
+
+        @Override
+        public MarketStats aggregate() {
+            calls++;
+            return new MarketStats(calls, 0, 0, 0, 0, 0, 0, List.of(), List.of(), Map.of(), Map.of(), Instant.now());
+        }
+    }
+}
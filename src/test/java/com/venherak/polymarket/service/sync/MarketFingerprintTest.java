@@ -0,0 +1,63 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class MarketFingerprintTest {
+
+    @Test
+    public void testFingerprintIgnoresBookkeepingFields() {
+        MarketDocument first = market(0.42);
+        MarketDocument second = market(0.42);
+        second.setUpdatedAt(OffsetDateTime.now().plusHours(1));
+        second.setCreatedAt(OffsetDateTime.now().minusDays(1));
+
+        assertEquals(MarketFingerprint.of(first), MarketFingerprint.of(second));
+    }
+
+    @Test
+    public void testFingerprintChangesWithTokenPrice() {
+        assertNotEquals(MarketFingerprint.of(market(0.42)), MarketFingerprint.of(market(0.43)));
+    }
+
+    @Test
+    public void testClassifyDetectsArchivedTransition() {
+        MarketFingerprintStore store = new MarketFingerprintStore(null);
+        MarketDocument document = market(0.42);
+        long hash = MarketFingerprint.of(document);
+
+        assertEquals(ChangeType.CREATED, store.classify(document, hash));
+        store.record(document, hash);
+        assertEquals(ChangeType.UNCHANGED, store.classify(document, hash));
+
+        MarketDocument repriced = market(0.5);
+        assertEquals(ChangeType.UPDATED, store.classify(repriced, MarketFingerprint.of(repriced)));
+
+        MarketDocument archived = market(0.42);
+        archived.setArchived(true);
+        assertEquals(ChangeType.ARCHIVED, store.classify(archived, MarketFingerprint.of(archived)));
+    }
+
+    private static MarketDocument market(double price) {
+        MarketDocument document = new MarketDocument();
+        document.setId("0xabc");
+        document.setConditionId("0xabc");
+        document.setQuestion("Will it rain tomorrow?");
+        document.setActive(true);
+        document.setClosed(false);
+        document.setArchived(false);
+        document.setEndDate(OffsetDateTime.parse("2026-01-01T00:00:00Z"));
+        document.setTags(List.of("Weather"));
+        document.setTokens(List.of(
+                new TokenDocument("1", "Yes", price, false),
+                new TokenDocument("2", "No", 1 - price, false)));
+        return document;
+    }
+}
@@ -0,0 +1,76 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.exception.ApiClientException;
+import com.venherak.polymarket.fixtures.ClobApiSimulator;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookJsonReader;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.mapper.MarketDocumentJsonReader;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MarketPageFetcherTest {
+
+    private static final int MARKETS = 2_500;
+
+    @Test
+    void fetchesEveryMarketOnceThroughInjectedFaults() {
+        try (ClobApiSimulator simulator = ClobApiSimulator.builder()
+                .marketCount(MARKETS)
+                .throttleRate(0.5)
+                .retryAfter(Duration.ZERO)
+                .serverErrorRate(0.5)
+                .truncationRate(0.5)
+                // Fewer faults than retry attempts, so every page eventually gets through
+                .maxFaults(6)
+                .build()
+                .start()) {
+            MarketPageFetcher fetcher = fetcher(simulator, 10);
+
+            Set<String> ids = new HashSet<>();
+            int pages = 0;
+            FetchedPage page;
+            String cursor = null;
+            do {
+                page = fetcher.fetch(cursor);
+                page.documents().stream().map(MarketDocument::getId).forEach(ids::add);
+                cursor = page.nextCursor();
+                pages++;
+            } while (!page.isLast());
+
+            assertEquals(MARKETS / MarketFixtures.PAGE_SIZE, pages);
+            assertEquals(MARKETS, ids.size());
+            assertEquals(ClobApiSimulator.END_CURSOR, cursor);
+            assertEquals(6, simulator.faultCount());
+            assertEquals(pages + simulator.faultCount(), simulator.requestCount());
+        }
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        try (ClobApiSimulator simulator = ClobApiSimulator.builder()
+                .serverErrorRate(1.0)
+                .build()
+                .start()) {
+            MarketPageFetcher fetcher = fetcher(simulator, 3);
+
+            assertThrows(ApiClientException.class, () -> fetcher.fetch(null));
+            assertEquals(3, simulator.requestCount());
+        }
+    }
+
+    private static MarketPageFetcher fetcher(ClobApiSimulator simulator, int maxAttempts) {
+        PolymarketApiClient apiClient = new PolymarketApiClient(new RestTemplate(), MarketFixtures.objectMapper(),
+                new MarketDocumentJsonReader(new MarketMapperImpl()), new OrderBookJsonReader(), simulator.baseUrl());
+        return new MarketPageFetcher(apiClient, new SyncRetryPolicy(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5)));
+    }
+}
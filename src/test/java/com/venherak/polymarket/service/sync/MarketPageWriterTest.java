@@ -0,0 +1,127 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.exception.DataPersistenceException;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkItemResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.MarketDocumentIndexer;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.document.TokenDocument;
+import com.venherak.polymarket.infrastructure.persistence.history.PriceHistoryStore;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentRepository;
+import com.venherak.polymarket.infrastructure.persistence.memory.InMemoryMarketDocumentScanner;
+import com.venherak.polymarket.service.MarketDataService;
+import com.venherak.polymarket.service.history.PriceHistoryService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MarketPageWriterTest {
+
+    private final StubIndexer indexer = new StubIndexer();
+    private final RecordingHistoryStore historyStore = new RecordingHistoryStore();
+    private final MarketPageWriter writer = new MarketPageWriter(
+            new MarketDataService(null, null, indexer, null, null, null, null),
+            // Nothing is indexed yet, the store only knows the fingerprints written by the test
+            new MarketFingerprintStore(new InMemoryMarketDocumentScanner(new InMemoryMarketDocumentRepository(), 100)),
+            event -> {
+            },
+            // Flushes every recorded page straight to the store
+            new PriceHistoryService(historyStore, true, 1));
+
+    @Test
+    void failsThePageWhenEveryDocumentFails() {
+        List<MarketDocument> page = documents(3);
+        indexer.failedIds = Set.of("0x0", "0x1", "0x2");
+        SyncReport report = new SyncReport(SyncStrategy.SEQUENTIAL, SyncMode.FULL);
+
+        assertThrows(DataPersistenceException.class, () -> writer.write(page, SyncMode.FULL, report));
+        assertEquals(3, report.getMarketsFailed());
+        assertEquals(List.of(), historyStore.observations);
+    }
+
+    @Test
+    void writesPagesWithSomeFailedDocuments() {
+        List<MarketDocument> page = documents(3);
+        indexer.failedIds = Set.of("0x1");
+        SyncReport report = new SyncReport(SyncStrategy.SEQUENTIAL, SyncMode.FULL);
+
+        assertEquals(2, writer.write(page, SyncMode.FULL, report));
+        assertEquals(1, report.getMarketsFailed());
+        assertEquals(List.of("token-0", "token-2"),
+                historyStore.observations.stream().map(PriceObservation::tokenId).toList());
+    }
+
+    @Test
+    void recordsPricesOfUnchangedPages() {
+        List<MarketDocument> page = documents(2);
+        writer.write(page, SyncMode.FULL, new SyncReport(SyncStrategy.SEQUENTIAL, SyncMode.FULL));
+        historyStore.observations.clear();
+
+        SyncReport report = new SyncReport(SyncStrategy.SEQUENTIAL, SyncMode.INCREMENTAL);
+        assertEquals(0, writer.write(page, SyncMode.INCREMENTAL, report));
+
+        assertEquals(2, report.getUnchanged());
+        assertEquals(2, historyStore.observations.size());
+    }
+
+    private static List<MarketDocument> documents(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            MarketDocument document = new MarketDocument();
+            document.setId("0x" + i);
+            document.setConditionId("0x" + i);
+            document.setTokens(List.of(new TokenDocument("token-" + i, "Yes", 0.5, false)));
+            return document;
+        }).toList();
+    }
+
+    private static final class StubIndexer implements MarketDocumentIndexer {
+
+        private Set<String> failedIds = Set.of();
+
+        @Override
+        public BulkIndexResult index(Collection<MarketDocument> documents) {
+            BulkIndexResult result = new BulkIndexResult();
+            for (MarketDocument document : documents) {
+                result.addItem(failedIds.contains(document.getId())
+                        ? new BulkItemResult(document.getId(), 400, null, "mapper_parsing_exception", 1)
+                        : new BulkItemResult(document.getId(), 201, "created", null, 1));
+            }
+            return result;
+        }
+    }
+
+    private static final class RecordingHistoryStore implements PriceHistoryStore {
+
+        private final List<PriceObservation> observations = new ArrayList<>();
+
+        @Override
+        public void append(List<PriceObservation> batch) {
+            observations.addAll(batch);
+        }
+
+        @Override
+        public void mergeBars(List<PriceBar> bars) {
+        }
+
+        @Override
+        public List<PriceObservation> findObservations(String tokenId, Instant from, Instant to, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<PriceBar> findBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.venherak.polymarket.service.sync;
+
+import com.venherak.polymarket.domain.model.BarInterval;
+import com.venherak.polymarket.domain.model.PriceBar;
+import com.venherak.polymarket.domain.model.PriceObservation;
+import com.venherak.polymarket.fixtures.ClobApiSimulator;
+import com.venherak.polymarket.fixtures.MarketFixtures;
+import com.venherak.polymarket.infrastructure.client.PolymarketApiClient;
+import com.venherak.polymarket.infrastructure.orderbook.OrderBookJsonReader;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkIndexResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.BulkItemResult;
+import com.venherak.polymarket.infrastructure.persistence.bulk.MarketDocumentIndexer;
+import com.venherak.polymarket.infrastructure.persistence.document.MarketDocument;
+import com.venherak.polymarket.infrastructure.persistence.history.PriceHistoryStore;
+import com.venherak.polymarket.mapper.MarketDocumentJsonReader;
+import com.venherak.polymarket.mapper.MarketMapperImpl;
+import com.venherak.polymarket.service.MarketDataService;
+import com.venherak.polymarket.service.history.PriceHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarketStreamingSyncTest {
+
+    private static final int MARKETS = 1_000;
+
+    @Test
+    void retriedPagesWriteEveryMarketOnce() {
+        try (ClobApiSimulator simulator = ClobApiSimulator.builder()
+                .marketCount(MARKETS)
+                // The first pages are cut off half-way, after some of their chunks were written
+                .truncationRate(1.0)
+                .maxFaults(3)
+                .build()
+                .start()) {
+            CountingIndexer indexer = new CountingIndexer();
+            RecordingHistoryStore historyStore = new RecordingHistoryStore();
+            MarketStreamingSync sync = new MarketStreamingSync(
+                    new PolymarketApiClient(new RestTemplate(), MarketFixtures.objectMapper(),
+                            new MarketDocumentJsonReader(new MarketMapperImpl()), new OrderBookJsonReader(),
+                            simulator.baseUrl()),
+                    new MarketPageWriter(
+                            new MarketDataService(null, null, indexer, null, null, null, null),
+                            new MarketFingerprintStore(null),
+                            event -> {
+                            },
+                            new PriceHistoryService(historyStore, true, 1)),
+                    new SyncRetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(5)),
+                    new SyncCheckpointStore(MarketFixtures.objectMapper(), null, false),
+                    100);
+
+            SyncReport report = sync.run(SyncMode.FULL);
+
+            assertEquals(3, simulator.faultCount());
+            assertEquals(0, report.getErrors());
+            assertEquals(MARKETS, report.getMarketsSaved());
+            assertEquals(MARKETS, indexer.writes.size());
+            assertEquals(List.of(1), List.copyOf(new HashSet<>(indexer.writes.values())));
+            List<String> observedTokens = historyStore.observations.stream().map(PriceObservation::tokenId).toList();
+            assertEquals(new HashSet<>(observedTokens).size(), observedTokens.size());
+        }
+    }
+
+    private static final class CountingIndexer implements MarketDocumentIndexer {
+
+        private final Map<String, Integer> writes = new HashMap<>();
+
+        @Override
+        public BulkIndexResult index(Collection<MarketDocument> documents) {
+            BulkIndexResult result = new BulkIndexResult();
+            for (MarketDocument document : documents) {
+                writes.merge(document.getId(), 1, Integer::sum);
+                result.addItem(new BulkItemResult(document.getId(), 201, "created", null, 1));
+            }
+            return result;
+        }
+    }
+
+    private static final class RecordingHistoryStore implements PriceHistoryStore {
+
+        private final List<PriceObservation> observations = new ArrayList<>();
+
+        @Override
+        public void append(List<PriceObservation> batch) {
+            observations.addAll(batch);
+        }
+
+        @Override
+        public void mergeBars(List<PriceBar> bars) {
+        }
+
+        @Override
+        public List<PriceObservation> findObservations(String tokenId, Instant from, Instant to, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<PriceBar> findBars(String tokenId, BarInterval interval, Instant from, Instant to, int limit) {
+            return List.of();
+        }
+    }
+}
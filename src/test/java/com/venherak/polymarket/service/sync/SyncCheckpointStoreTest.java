@@ -0,0 +1,56 @@
+package com.venherak.polymarket.service.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SyncCheckpointStoreTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resumesFromSavedCheckpointOfSameMode() {
+        SyncCheckpointStore store = new SyncCheckpointStore(objectMapper, directory.resolve("checkpoint.json"), true);
+
+        SyncCheckpoint checkpoint = store.start(SyncMode.FULL)
+                .advance("NTAw", 500)
+                .advance("MTAwMA==", 480);
+        store.save(checkpoint);
+
+        SyncCheckpoint resumed = store.start(SyncMode.FULL);
+        assertEquals("MTAwMA==", resumed.cursor());
+        assertEquals(2, resumed.pages());
+        assertEquals(980, resumed.marketsSaved());
+    }
+
+    @Test
+    void ignoresCheckpointOfOtherMode() {
+        SyncCheckpointStore store = new SyncCheckpointStore(objectMapper, directory.resolve("checkpoint.json"), true);
+        store.save(SyncCheckpoint.initial(SyncMode.FULL).advance("NTAw", 500));
+
+        assertNull(store.start(SyncMode.INCREMENTAL).cursor());
+    }
+
+    @Test
+    void clearRemovesCheckpoint() {
+        Path file = directory.resolve("nested/checkpoint.json");
+        SyncCheckpointStore store = new SyncCheckpointStore(objectMapper, file, true);
+        store.save(SyncCheckpoint.initial(SyncMode.FULL).advance("NTAw", 500));
+
+        store.clear();
+
+        assertFalse(Files.exists(file));
+        assertNull(store.start(SyncMode.FULL).cursor());
+    }
+}
@@ -0,0 +1,514 @@
+package com.venherak.polymarket.fixtures;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Embeddable fake of the CLOB {@code GET /markets} endpoint for offline integration and load tests,
+ * which also serves synthetic {@code GET /book} responses from {@link OrderBookFixtures}.
+ * Serves synthetic markets from {@link MarketFixtures} (any number, generated on demand per page)
+ * or markets recorded from the real API, paginated like the real endpoint: the cursor is the
+ * base64-encoded offset of the next page and {@code "LTE="} ({@code -1}) marks the end.
+ * <p>
+ * Faults are injected per request from a seeded random source, so a run with the same settings
+ * and the same request order sees the same faults: latency, HTTP 429 with {@code Retry-After},
+ * HTTP 503 and pages truncated in the middle of the JSON body. {@link Builder#maxFaults} caps the
+ * number of injected faults, which makes "the first N requests fail" scenarios easy to set up.
+ * <p>
+ * Run standalone with {@code ./gradlew runClobSimulator --args="--markets 100000 --port 8089"} and
+ * point {@code polymarket.api.base-url} at it to measure sync throughput locally.
+ */
+public final class ClobApiSimulator implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ClobApiSimulator.class.getName());
+
+    /**
+     * Cursor the real API returns with the last page; base64 of {@code -1}.
+     */
+    public static final String END_CURSOR = "LTE=";
+
+    private final Builder settings;
+    private final MarketSource source;
+    private final SplittableRandom faultRandom;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger faults = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private ClobApiSimulator(Builder settings, MarketSource source) {
+        this.settings = settings;
+        this.source = source;
+        this.faultRandom = new SplittableRandom(settings.faultSeed);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Encodes the cursor of the page starting at the given offset, as the real API does.
+     *
+     * @param offset position of the first market of the page
+     * @return the cursor
+     */
+    public static String cursorFor(int offset) {
+        return Base64.getEncoder().encodeToString(Integer.toString(offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Starts serving on the loopback interface.
+     *
+     * @return this simulator
+     */
+    public ClobApiSimulator start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(settings.threads, runnable -> {
+            Thread thread = new Thread(runnable, "clob-simulator-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/markets", this::handleMarkets);
+        server.createContext("/book", this::handleBook);
+        server.start();
+        logger.info(String.format("CLOB API simulator serving %d markets at %s", source.size(), baseUrl()));
+        return this;
+    }
+
+    /**
+     * Returns the base URL to configure as {@code polymarket.api.base-url}.
+     *
+     * @return base URL without trailing slash
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public int marketCount() {
+        return source.size();
+    }
+
+    /**
+     * Returns the number of requests received so far, including failed ones.
+     *
+     * @return request count
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of faults injected so far, excluding latency.
+     *
+     * @return fault count
+     */
+    public int faultCount() {
+        return faults.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handleMarkets(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Fault fault = nextFault();
+            sleep(fault.latencyMillis);
+            switch (fault.type) {
+                case THROTTLE -> {
+                    exchange.getResponseHeaders().set("Retry-After", Long.toString(settings.retryAfter.toSeconds()));
+                    sendError(exchange, 429, "Too Many Requests");
+                    return;
+                }
+                case SERVER_ERROR -> {
+                    sendError(exchange, 503, "Service Unavailable");
+                    return;
+                }
+                default -> {
+                }
+            }
+
+            int offset;
+            try {
+                offset = decodeCursor(queryParameter(exchange, "next_cursor"));
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, "invalid next_cursor");
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (fault.type == FaultType.TRUNCATE) {
+                // Valid HTTP response whose JSON body stops half-way, as seen behind a failing proxy
+                ByteArrayOutputStream page = new ByteArrayOutputStream();
+                writePage(page, offset);
+                byte[] body = page.toByteArray();
+                int length = body.length / 2;
+                exchange.sendResponseHeaders(200, length);
+                exchange.getResponseBody().write(body, 0, length);
+            } else {
+                exchange.sendResponseHeaders(200, 0);
+                writePage(exchange.getResponseBody(), offset);
+            }
+        }
+    }
+
+    /**
+     * Serves a synthetic book for any token ID; every request sees a new version of the book.
+     * Faults are not injected here.
+     */
+    private void handleBook(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long request = requests.incrementAndGet();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String tokenId = queryParameter(exchange, "token_id");
+            if (tokenId == null || tokenId.isEmpty()) {
+                sendError(exchange, 400, "Invalid token id");
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            OrderBookFixtures.writeBook(exchange.getResponseBody(), settings.seed, tokenId, (int) request);
+        }
+    }
+
+    private void writePage(OutputStream out, int offset) throws IOException {
+        int start = offset < 0 ? source.size() : Math.min(offset, source.size());
+        int count = Math.min(settings.pageSize, source.size() - start);
+        String nextCursor = start + count >= source.size() ? END_CURSOR : cursorFor(start + count);
+
+        try (JsonGenerator generator = settings.objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("limit", settings.pageSize);
+            generator.writeNumberField("count", count);
+            generator.writeStringField("next_cursor", nextCursor);
+            generator.writeArrayFieldStart("data");
+            for (int i = start; i < start + count; i++) {
+                source.write(generator, i);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private synchronized Fault nextFault() {
+        long latency = settings.minLatency.toMillis();
+        long latencySpread = settings.maxLatency.toMillis() - latency;
+        if (latencySpread > 0) {
+            latency += faultRandom.nextLong(latencySpread + 1);
+        }
+
+        // Always draw all three, so the fault sequence does not depend on which ones are enabled
+        double throttle = faultRandom.nextDouble();
+        double serverError = faultRandom.nextDouble();
+        double truncate = faultRandom.nextDouble();
+        FaultType type = FaultType.NONE;
+        if (faults.get() < settings.maxFaults) {
+            if (throttle < settings.throttleRate) {
+                type = FaultType.THROTTLE;
+            } else if (serverError < settings.serverErrorRate) {
+                type = FaultType.SERVER_ERROR;
+            } else if (truncate < settings.truncationRate) {
+                type = FaultType.TRUNCATE;
+            }
+        }
+        if (type != FaultType.NONE) {
+            faults.incrementAndGet();
+        }
+        return new Fault(type, latency);
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        return Integer.parseInt(decoded);
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts a simulator from the command line and serves until the process is stopped.
+     * Options: {@code --markets N}, {@code --port N}, {@code --seed N}, {@code --latency MILLIS},
+     * {@code --throttle-rate P}, {@code --error-rate P}, {@code --truncation-rate P},
+     * {@code --recorded FILE}.
+     *
+     * @param args command line options
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Builder builder = builder().port(8089);
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--markets" -> builder.marketCount(Integer.parseInt(value));
+                case "--port" -> builder.port(Integer.parseInt(value));
+                case "--seed" -> builder.seed(Long.parseLong(value));
+                case "--latency" -> builder.latency(Duration.ofMillis(Long.parseLong(value)), Duration.ofMillis(Long.parseLong(value)));
+                case "--throttle-rate" -> builder.throttleRate(Double.parseDouble(value));
+                case "--error-rate" -> builder.serverErrorRate(Double.parseDouble(value));
+                case "--truncation-rate" -> builder.truncationRate(Double.parseDouble(value));
+                case "--recorded" -> builder.recordedMarkets(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        ClobApiSimulator simulator = builder.build().start();
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Settings of a simulator. Defaults: 10,000 synthetic markets, pages of 500, no latency, no faults.
+     */
+    public static final class Builder {
+
+        private final ObjectMapper objectMapper = MarketFixtures.objectMapper();
+        private long seed = MarketFixtures.DEFAULT_SEED;
+        private int marketCount = 10_000;
+        private List<JsonNode> recordedMarkets;
+        private int pageSize = MarketFixtures.PAGE_SIZE;
+        private int port;
+        private int threads = 8;
+        private Duration minLatency = Duration.ZERO;
+        private Duration maxLatency = Duration.ZERO;
+        private double throttleRate;
+        private double serverErrorRate;
+        private double truncationRate;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private int maxFaults = Integer.MAX_VALUE;
+        private long faultSeed = 1L;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the seed of the synthetic data set.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the number of synthetic markets served.
+         */
+        public Builder marketCount(int marketCount) {
+            this.marketCount = marketCount;
+            return this;
+        }
+
+        /**
+         * Serves markets recorded from the real API instead of synthetic ones.
+         *
+         * @param file a saved {@code /markets} response or a JSON array of markets
+         */
+        public Builder recordedMarkets(Path file) {
+            try {
+                JsonNode root = objectMapper.readTree(file.toFile());
+                JsonNode markets = root.isArray() ? root : root.path("data");
+                List<JsonNode> recorded = new ArrayList<>(markets.size());
+                markets.forEach(recorded::add);
+                this.recordedMarkets = recorded;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the port to listen on; 0, the default, picks a free port.
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Sets the number of requests served concurrently.
+         */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Delays every response by a uniformly distributed time between min and max.
+         */
+        public Builder latency(Duration min, Duration max) {
+            this.minLatency = min;
+            this.maxLatency = max;
+            return this;
+        }
+
+        /**
+         * Sets the share of requests answered with HTTP 429.
+         */
+        public Builder throttleRate(double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Retry-After} delay sent with HTTP 429.
+         */
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the share of requests answered with HTTP 503.
+         */
+        public Builder serverErrorRate(double serverErrorRate) {
+            this.serverErrorRate = serverErrorRate;
+            return this;
+        }
+
+        /**
+         * Sets the share of pages whose body is cut off half-way.
+         */
+        public Builder truncationRate(double truncationRate) {
+            this.truncationRate = truncationRate;
+            return this;
+        }
+
+        /**
+         * Caps the total number of injected faults; later requests succeed.
+         */
+        public Builder maxFaults(int maxFaults) {
+            this.maxFaults = maxFaults;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the fault and latency sequence.
+         */
+        public Builder faultSeed(long faultSeed) {
+            this.faultSeed = faultSeed;
+            return this;
+        }
+
+        public ClobApiSimulator build() {
+            MarketSource source;
+            if (recordedMarkets != null) {
+                List<JsonNode> markets = recordedMarkets;
+                source = new MarketSource() {
+                    @Override
+                    public int size() {
+                        return markets.size();
+                    }
+
+                    @Override
+                    public void write(JsonGenerator generator, int index) throws IOException {
+                        objectMapper.writeTree(generator, markets.get(index));
+                    }
+                };
+            } else {
+                long dataSeed = seed;
+                int count = marketCount;
+                source = new MarketSource() {
+                    @Override
+                    public int size() {
+                        return count;
+                    }
+
+                    @Override
+                    public void write(JsonGenerator generator, int index) throws IOException {
+                        MarketFixtures.writeMarket(generator, dataSeed, index);
+                    }
+                };
+            }
+            return new ClobApiSimulator(this, source);
+        }
+    }
+
+    private interface MarketSource {
+
+        int size();
+
+        void write(JsonGenerator generator, int index) throws IOException;
+    }
+
+    private enum FaultType {
+        NONE, THROTTLE, SERVER_ERROR, TRUNCATE
+    }
+
+    private record Fault(FaultType type, long latencyMillis) {
+    }
+}
@@ -0,0 +1,249 @@
+package com.venherak.polymarket.fixtures;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.venherak.polymarket.domain.model.Market;
+import com.venherak.polymarket.domain.model.MarketsResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic markets in the JSON shape of the CLOB {@code /markets} endpoint.
+ * Every market is derived from the seed and its position alone, so any page of an arbitrarily
+ * large data set can be produced without generating the pages before it.
+ * Field values follow real responses: long descriptions, 77-digit token IDs, end dates shared
+ * by many markets, empty reward dates and a handful of common tags.
+ */
+public final class MarketFixtures {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final int PAGE_SIZE = 500;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectMapper OBJECT_MAPPER = objectMapper();
+
+    private static final String[] TOPICS = {
+            "the Fed cut interest rates", "Bitcoin reach $150k", "the Lakers win the NBA Finals",
+            "a government shutdown happen", "Ethereum flip Bitcoin", "Taylor Swift announce a new album",
+            "the S&P 500 close above 6000", "SpaceX land Starship", "inflation fall below 2%",
+            "Real Madrid win the Champions League", "the incumbent win the election", "OpenAI release GPT-6"
+    };
+    private static final String[] PERIODS = {"in March", "by June 30", "in 2025", "this week", "before July", "by year end"};
+    private static final String[][] TAG_SETS = {
+            {"All", "Politics", "Elections"}, {"All", "Crypto", "Bitcoin"}, {"All", "Sports", "NBA"},
+            {"All", "Economy", "Fed Rates"}, {"All", "Pop Culture"}, {"All", "Science", "Space"}, {"All", "Sports", "Soccer"}
+    };
+    private static final String[] END_DATES = {
+            "2025-03-31T12:00:00Z", "2025-06-30T12:00:00Z", "2025-12-31T12:00:00Z",
+            "2026-01-01T00:00:00Z", "2025-07-04T00:00:00Z", "2025-11-04T12:00:00Z"
+    };
+    private static final String DESCRIPTION = "This market will resolve to \"Yes\" if %s %s, according to the "
+            + "official announcement published by the relevant authority. If no such announcement is made by the "
+            + "end date listed above, this market will resolve to \"No\". The primary resolution source will be "
+            + "official information from the organizers; however, a consensus of credible reporting may also be "
+            + "used. Any revisions made after the end date will not be considered for the purposes of resolution.";
+
+    private MarketFixtures() {
+    }
+
+    /**
+     * Returns an object mapper configured like the one Spring Boot provides to the application,
+     * which ignores response fields the model does not declare (such as {@code limit} and {@code count}).
+     *
+     * @return a new object mapper
+     */
+    public static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    /**
+     * Writes a page in the JSON format of the {@code /markets} endpoint.
+     *
+     * @param out        destination, not closed
+     * @param seed       data set seed
+     * @param offset     position of the first market in the data set
+     * @param count      number of markets in the page
+     * @param nextCursor value of {@code next_cursor}
+     */
+    public static void writePage(OutputStream out, long seed, int offset, int count, String nextCursor) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("limit", count);
+            generator.writeNumberField("count", count);
+            generator.writeStringField("next_cursor", nextCursor);
+            generator.writeArrayFieldStart("data");
+            for (int i = 0; i < count; i++) {
+                writeMarket(generator, seed, offset + i);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a page in the JSON format of the {@code /markets} endpoint.
+     *
+     * @param seed       data set seed
+     * @param offset     position of the first market in the data set
+     * @param count      number of markets in the page
+     * @param nextCursor value of {@code next_cursor}
+     * @return UTF-8 encoded JSON
+     */
+    public static byte[] pageJson(long seed, int offset, int count, String nextCursor) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2048);
+        writePage(out, seed, offset, count, nextCursor);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns a full page of 500 markets as the API would send it.
+     *
+     * @return UTF-8 encoded JSON
+     */
+    public static byte[] fullPageJson() {
+        return pageJson(DEFAULT_SEED, 0, PAGE_SIZE, "NTAw");
+    }
+
+    /**
+     * Returns markets as deserialized from the API.
+     *
+     * @param seed   data set seed
+     * @param offset position of the first market in the data set
+     * @param count  number of markets
+     * @return the markets
+     */
+    public static List<Market> markets(long seed, int offset, int count) {
+        try {
+            return OBJECT_MAPPER.readValue(pageJson(seed, offset, count, null), MarketsResponse.class).getData();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes one market. The values depend only on the seed and the index.
+     *
+     * @param generator JSON generator positioned inside an array
+     * @param seed      data set seed
+     * @param index     position of the market in the data set
+     * @throws IOException if writing fails
+     */
+    public static void writeMarket(JsonGenerator generator, long seed, int index) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        String period = PERIODS[random.nextInt(PERIODS.length)];
+        boolean closed = random.nextInt(10) < 3;
+        boolean negRisk = random.nextInt(4) == 0;
+        boolean hasRewards = random.nextInt(3) > 0;
+        double yesPrice = Math.round(random.nextDouble() * 1000) / 1000.0;
+
+        generator.writeStartObject();
+        generator.writeBooleanField("enable_order_book", !closed);
+        generator.writeBooleanField("active", true);
+        generator.writeBooleanField("closed", closed);
+        generator.writeBooleanField("archived", closed && random.nextInt(5) == 0);
+        generator.writeBooleanField("accepting_orders", !closed);
+        generator.writeStringField("accepting_order_timestamp", "2024-" + twoDigits(1 + random.nextInt(12)) + "-"
+                + twoDigits(1 + random.nextInt(28)) + "T" + twoDigits(random.nextInt(24)) + ":" + twoDigits(random.nextInt(60)) + ":00Z");
+        generator.writeNumberField("minimum_order_size", random.nextBoolean() ? 5 : 15);
+        generator.writeNumberField("minimum_tick_size", random.nextInt(5) == 0 ? 0.001 : 0.01);
+        generator.writeStringField("condition_id", hex(random, 64));
+        generator.writeStringField("question_id", hex(random, 64));
+        generator.writeStringField("question", "Will " + topic + " " + period + "? #" + index);
+        generator.writeStringField("description", String.format(DESCRIPTION, topic, period));
+        generator.writeStringField("market_slug", slug(topic, period) + "-" + index);
+        generator.writeStringField("end_date_iso", END_DATES[random.nextInt(END_DATES.length)]);
+        if (random.nextInt(5) == 0) {
+            generator.writeStringField("game_start_time", "2025-0" + (1 + random.nextInt(9)) + "-15T19:30:00Z");
+        } else {
+            generator.writeNullField("game_start_time");
+        }
+        generator.writeNumberField("seconds_delay", random.nextInt(5) == 0 ? 3 : 0);
+        generator.writeStringField("fpmm", "");
+        generator.writeNumberField("maker_base_fee", 0);
+        generator.writeNumberField("taker_base_fee", 0);
+        generator.writeBooleanField("notifications_enabled", true);
+        generator.writeBooleanField("neg_risk", negRisk);
+        generator.writeStringField("neg_risk_market_id", negRisk ? hex(random, 64) : "");
+        generator.writeStringField("neg_risk_request_id", negRisk ? hex(random, 64) : "");
+        generator.writeStringField("icon", "https://polymarket-upload.s3.us-east-2.amazonaws.com/" + slug(topic, period) + ".png");
+        generator.writeStringField("image", "https://polymarket-upload.s3.us-east-2.amazonaws.com/" + slug(topic, period) + ".png");
+
+        generator.writeObjectFieldStart("rewards");
+        generator.writeArrayFieldStart("rates");
+        if (hasRewards) {
+            generator.writeStartObject();
+            generator.writeStringField("asset_address", "0x2791Bca1f2de4661ED88A30C99A7a9449Aa84174");
+            generator.writeNumberField("rewards_daily_rate", 1 + random.nextInt(100));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("min_size", hasRewards ? 50 + 50 * random.nextInt(4) : 0);
+        generator.writeNumberField("max_spread", hasRewards ? 1 + random.nextInt(4) : 0);
+        generator.writeStringField("event_start_date", "");
+        generator.writeStringField("event_end_date", "");
+        generator.writeNumberField("in_game_multiplier", random.nextInt(10) == 0 ? 2.0 : 1.0);
+        generator.writeNumberField("reward_epoch", hasRewards ? random.nextInt(4) : 0);
+        generator.writeEndObject();
+
+        generator.writeBooleanField("is_50_50_outcome", false);
+
+        generator.writeArrayFieldStart("tokens");
+        writeToken(generator, random, "Yes", yesPrice, closed && yesPrice > 0.5);
+        writeToken(generator, random, "No", Math.round((1 - yesPrice) * 1000) / 1000.0, closed && yesPrice <= 0.5);
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("tags");
+        for (String tag : TAG_SETS[random.nextInt(TAG_SETS.length)]) {
+            generator.writeString(tag);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeToken(JsonGenerator generator, SplittableRandom random, String outcome, double price, boolean winner)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("token_id", tokenId(random));
+        generator.writeStringField("outcome", outcome);
+        generator.writeNumberField("price", price);
+        generator.writeBooleanField("winner", winner);
+        generator.writeEndObject();
+    }
+
+    static String hex(SplittableRandom random, int digits) {
+        StringBuilder builder = new StringBuilder(digits + 2).append("0x");
+        for (int i = 0; i < digits; i++) {
+            builder.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return builder.toString();
+    }
+
+    static String tokenId(SplittableRandom random) {
+        StringBuilder builder = new StringBuilder(77).append(1 + random.nextInt(9));
+        for (int i = 1; i < 77; i++) {
+            builder.append(random.nextInt(10));
+        }
+        return builder.toString();
+    }
+
+    private static String slug(String topic, String period) {
+        return (topic + " " + period).toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : Integer.toString(value);
+    }
+}
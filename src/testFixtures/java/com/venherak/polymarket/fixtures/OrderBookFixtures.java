@@ -0,0 +1,172 @@
+package com.venherak.polymarket.fixtures;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic order books in the JSON shape of the CLOB {@code /book} endpoint, and
+ * loading of books recorded from the real API.
+ * The shape of a token's book (tick size, depth, price region) depends on the seed and the token
+ * ID; each version moves the prices by a few ticks and redraws sizes and gaps, like successive
+ * fetches of a live book. As in real responses, prices and sizes are decimal strings, bids are
+ * listed from the lowest price up and asks from the highest price down, so the best levels come last.
+ */
+public final class OrderBookFixtures {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final long BASE_TIMESTAMP = 1_735_689_600_000L;
+
+    private OrderBookFixtures() {
+    }
+
+    /**
+     * Writes one book.
+     *
+     * @param out     destination, not closed
+     * @param seed    data set seed
+     * @param tokenId token ID of the book
+     * @param version version of the book; consecutive versions differ by a few ticks
+     */
+    public static void writeBook(OutputStream out, long seed, String tokenId, int version) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            writeBook(generator, seed, tokenId, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns one book as the API would send it.
+     *
+     * @param seed    data set seed
+     * @param tokenId token ID of the book
+     * @param version version of the book
+     * @return UTF-8 encoded JSON
+     */
+    public static byte[] bookJson(long seed, String tokenId, int version) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        writeBook(out, seed, tokenId, version);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns successive versions of the books of several tokens, token by token.
+     *
+     * @param seed     data set seed
+     * @param tokens   number of tokens
+     * @param versions versions per token
+     * @return UTF-8 encoded JSON books
+     */
+    public static List<byte[]> books(long seed, int tokens, int versions) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<byte[]> books = new ArrayList<>(tokens * versions);
+        for (int token = 0; token < tokens; token++) {
+            String tokenId = MarketFixtures.tokenId(random);
+            for (int version = 0; version < versions; version++) {
+                books.add(bookJson(seed, tokenId, version));
+            }
+        }
+        return books;
+    }
+
+    /**
+     * Loads books recorded from the real API: a JSON array of {@code /book} responses, such as the
+     * response of {@code POST /books}, or one response per line.
+     *
+     * @param file the recording
+     * @return UTF-8 encoded JSON books in recording order
+     */
+    public static List<byte[]> recordedBooks(Path file) {
+        try {
+            List<byte[]> books = new ArrayList<>();
+            byte[] content = Files.readAllBytes(file);
+            if (new String(content, 0, Math.min(content.length, 64), StandardCharsets.UTF_8).trim().startsWith("[")) {
+                for (JsonNode book : MarketFixtures.objectMapper().readTree(content)) {
+                    books.add(MarketFixtures.objectMapper().writeValueAsBytes(book));
+                }
+            } else {
+                for (String line : Files.readAllLines(file)) {
+                    if (!line.isBlank()) {
+                        books.add(line.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            return books;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeBook(JsonGenerator generator, long seed, String tokenId, int version) throws IOException {
+        SplittableRandom shape = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + tokenId.hashCode());
+        boolean fineTicks = shape.nextInt(5) == 0;
+        int ticksPerUnit = fineTicks ? 1000 : 100;
+        int decimals = fineTicks ? 3 : 2;
+        int depth = fineTicks ? 50 + shape.nextInt(250) : 5 + shape.nextInt(40);
+        int mid = ticksPerUnit / 20 + shape.nextInt(ticksPerUnit * 9 / 10);
+        String market = MarketFixtures.hex(shape, 64);
+
+        SplittableRandom random = new SplittableRandom(shape.nextLong() + version);
+        mid = Math.max(2, Math.min(ticksPerUnit - 2, mid + random.nextInt(-3, 4)));
+        int bestBid = mid - random.nextInt(2);
+        int bestAsk = mid + 1 + random.nextInt(2);
+        int[] bids = levels(random, bestBid, -1, depth, 1);
+        int[] asks = levels(random, bestAsk, 1, depth, ticksPerUnit - 1);
+
+        generator.writeStartObject();
+        generator.writeStringField("market", market);
+        generator.writeStringField("asset_id", tokenId);
+        generator.writeStringField("timestamp", Long.toString(BASE_TIMESTAMP + version * 1000L));
+        generator.writeStringField("hash", MarketFixtures.hex(random, 40).substring(2));
+        generator.writeArrayFieldStart("bids");
+        for (int i = bids.length - 1; i >= 0; i--) {
+            writeLevel(generator, random, bids[i], decimals);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("asks");
+        for (int i = asks.length - 1; i >= 0; i--) {
+            writeLevel(generator, random, asks[i], decimals);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("min_order_size", random.nextBoolean() ? "5" : "15");
+        generator.writeStringField("tick_size", BigDecimal.valueOf(1, decimals).toPlainString());
+        generator.writeBooleanField("neg_risk", false);
+        generator.writeStringField("last_trade_price", BigDecimal.valueOf(mid, decimals).toPlainString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns up to {@code depth} ticks from the best one outwards, leaving random gaps.
+     */
+    private static int[] levels(SplittableRandom random, int best, int step, int depth, int limit) {
+        int[] ticks = new int[depth];
+        int count = 0;
+        for (int tick = best; count < depth && (step < 0 ? tick >= limit : tick <= limit); tick += step) {
+            if (tick == best || random.nextInt(10) >= 3) {
+                ticks[count++] = tick;
+            }
+        }
+        return Arrays.copyOf(ticks, count);
+    }
+
+    private static void writeLevel(JsonGenerator generator, SplittableRandom random, int tick, int decimals) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("price", BigDecimal.valueOf(tick, decimals).toPlainString());
+        generator.writeStringField("size", BigDecimal.valueOf(500 + random.nextInt(500_000), 2).toPlainString());
+        generator.writeEndObject();
+    }
+}